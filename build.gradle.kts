@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.0"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.spring"
@@ -94,6 +95,7 @@ dependencies {
 	// Redis
 	implementation("org.springframework.boot:spring-boot-starter-data-redis")
 	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	implementation("org.springframework.session:spring-session-data-redis")
 
 	// Kafka
@@ -122,3 +124,45 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// JMH: ./gradlew jmh (-Pjmh.includes=Portal 로 일부만 실행)
+jmh {
+	jmhVersion.set("1.37")
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+	timeOnIteration.set("2s")
+	warmup.set("2s")
+	profilers.add("gc")
+	resultFormat.set("JSON")
+	resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+	(findProperty("jmh.includes") as String?)?.let { includes.add(it) }
+}
+
+// Load test: local data.go.kr stub + HTTP load driver (JDK only, runs offline)
+sourceSets {
+	create("loadtest")
+}
+
+// -Ploadtest.xxx=value 를 시스템 프로퍼티로 전달
+fun JavaExec.forwardLoadtestProperties() {
+	project.properties.filterKeys { it.startsWith("loadtest.") }
+		.forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
+
+tasks.register<JavaExec>("portalStub") {
+	group = "loadtest"
+	description = "Runs the local data.go.kr stand-in server (use with --spring.profiles.active=loadtest)"
+	classpath = sourceSets["loadtest"].runtimeClasspath
+	mainClass.set("com.spring.lica.loadtest.PortalStubServer")
+	forwardLoadtestProperties()
+}
+
+tasks.register<JavaExec>("loadTest") {
+	group = "loadtest"
+	description = "Drives search, detail and proxy endpoints of a running app and reports throughput and latency percentiles"
+	classpath = sourceSets["loadtest"].runtimeClasspath
+	mainClass.set("com.spring.lica.loadtest.LoadTestRunner")
+	systemProperty("loadtest.report", layout.buildDirectory.file("loadtest/report.json").get().asFile.path)
+	forwardLoadtestProperties()
+}
@@ -0,0 +1,114 @@
+package com.spring.lica.client.datagokr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.lica.client.datagokr.dto.ApiDetailParseResult;
+import com.spring.lica.client.datagokr.dto.PortalApiResponse;
+import com.spring.lica.client.datagokr.resilience.PortalGuard;
+import com.spring.lica.client.datagokr.scrape.PortalScrapeRules;
+import com.spring.lica.client.datagokr.snapshot.PageSnapshotStore;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포털 페이지 파싱 핫패스. 입력은 {@code src/jmh/resources/corpus}의 고정 HTML.
+ *
+ * <p>search.html: 결과 100건 검색 페이지, detail-swagger.html: 오퍼레이션 8개·중첩 resList를 가진
+ * Swagger 내장 상세 페이지, detail-legacy.html: paramList 20개짜리 구형 상세 페이지.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PortalParsingBenchmark {
+
+    private static final String BASE_URI = "https://www.data.go.kr";
+    private static final int SEARCH_PAGE_SIZE = 100;
+    private static final int STREAM_EARLY_STOP_SIZE = 10;
+
+    private DataGoKrClient client;
+    private String searchHtml;
+    private Document searchDocument;
+    private String swaggerHtml;
+    private String legacyHtml;
+
+    @Setup
+    public void setUp() {
+        DataGoKrProperties properties = new DataGoKrProperties();
+        properties.setSnapshotEnabled(false);
+        properties.getResilience().setEnabled(false);
+        client = new DataGoKrClient(properties, null, new PageSnapshotStore(properties, new ObjectMapper()),
+                new PortalGuard(properties), new PortalScrapeRules(properties));
+
+        searchHtml = corpus("search.html");
+        searchDocument = Jsoup.parse(searchHtml, BASE_URI);
+        swaggerHtml = corpus("detail-swagger.html");
+        legacyHtml = corpus("detail-legacy.html");
+    }
+
+    /**
+     * DOM 생성 + 결과 항목 추출 (비스트리밍 경로 전체)
+     */
+    @Benchmark
+    public PortalApiResponse parseSearchPage() {
+        return client.parseSearchResults(Jsoup.parse(searchHtml, BASE_URI));
+    }
+
+    /**
+     * 이미 만든 DOM에서 결과 항목 추출만
+     */
+    @Benchmark
+    public PortalApiResponse parseSearchResults() {
+        return client.parseSearchResults(searchDocument);
+    }
+
+    /**
+     * 스트리밍 파싱으로 결과 100건 전체 (목록 끝까지 읽음)
+     */
+    @Benchmark
+    public PortalApiResponse streamSearchPage() throws IOException {
+        return client.streamSearchResults(searchHtml, BASE_URI, SEARCH_PAGE_SIZE);
+    }
+
+    /**
+     * 스트리밍 파싱으로 앞 10건만 (총 건수가 목록 앞에 있어 10건째에서 읽기를 멈춤)
+     */
+    @Benchmark
+    public PortalApiResponse streamSearchFirstItems() throws IOException {
+        return client.streamSearchResults(searchHtml, BASE_URI, STREAM_EARLY_STOP_SIZE);
+    }
+
+    /**
+     * Swagger 리터럴 탐색 + 스트리밍 파싱 (resList 중첩 평탄화 포함)
+     */
+    @Benchmark
+    public ApiDetailParseResult parseSwaggerSpec() {
+        return SwaggerJsonExtractor.parse(swaggerHtml, "15012345");
+    }
+
+    @Benchmark
+    public List<ApiDetailParseResult.ParameterInfo> parseJsParamList() {
+        return client.parseJsParamList(legacyHtml);
+    }
+
+    static String corpus(String name) {
+        try (InputStream in = PortalParsingBenchmark.class.getResourceAsStream("/corpus/" + name)) {
+            if (in == null) throw new IllegalStateException("Missing benchmark corpus: " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
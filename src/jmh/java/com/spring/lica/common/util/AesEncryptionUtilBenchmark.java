@@ -0,0 +1,42 @@
+package com.spring.lica.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장된 ServiceKey 암복호화 (AES-GCM). 평문은 data.go.kr 인증키 길이에 맞춘다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AesEncryptionUtilBenchmark {
+
+    private static final String SERVICE_KEY =
+            "pQ3xZ8vW2rT6yU1iO9aS4dF7gH0jK5lL3zX8cV2bN6mQ1wE4rT7yU0iO3pA6sD9fG2hJ5kL8zX1cV4bN7mQ0w==";
+
+    private AesEncryptionUtil aes;
+    private String cipherText;
+
+    @Setup
+    public void setUp() {
+        aes = new AesEncryptionUtil("govlica-benchmark-aes-256-key");
+        cipherText = aes.encrypt(SERVICE_KEY);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return aes.encrypt(SERVICE_KEY);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return aes.decrypt(cipherText);
+    }
+}
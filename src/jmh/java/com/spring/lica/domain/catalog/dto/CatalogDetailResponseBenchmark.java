@@ -0,0 +1,74 @@
+package com.spring.lica.domain.catalog.dto;
+
+import com.spring.lica.domain.catalog.entity.ApiCatalog;
+import com.spring.lica.domain.catalog.entity.ApiOperation;
+import com.spring.lica.domain.catalog.entity.ApiParameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상세 조회 응답 매핑 ({@link CatalogDetailResponse#from}). 오퍼레이션마다 요청 변수 12개, 응답 필드 30개.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogDetailResponseBenchmark {
+
+    private static final int REQUEST_PARAMS = 12;
+    private static final int RESPONSE_FIELDS = 30;
+
+    @Param({"1", "8", "32"})
+    public int operations;
+
+    private ApiCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = ApiCatalog.builder()
+                .id(1L)
+                .uddiSeq("15012345")
+                .apiName("기상청_벤치마크 조회서비스")
+                .description("JMH 벤치마크용 카탈로그")
+                .providerOrg("기상청")
+                .category("환경기상")
+                .serviceType("REST")
+                .dataFormat("JSON+XML")
+                .endpointUrl("https://apis.data.go.kr/1360000/BenchService")
+                .build();
+        for (int o = 0; o < operations; o++) {
+            ApiOperation operation = ApiOperation.builder()
+                    .id((long) o)
+                    .catalog(catalog)
+                    .operationName("현황 목록 조회 " + o)
+                    .httpMethod("GET")
+                    .endpointUrl("https://apis.data.go.kr/1360000/BenchService/getStatusList" + o)
+                    .build();
+            for (int i = 0; i < REQUEST_PARAMS + RESPONSE_FIELDS; i++) {
+                boolean request = i < REQUEST_PARAMS;
+                operation.getParameters().add(ApiParameter.builder()
+                        .operation(operation)
+                        .paramName((request ? "param" : "field") + i)
+                        .paramType("string")
+                        .required(i % 3 == 0)
+                        .description("항목 " + i + " 설명")
+                        .defaultValue(request ? String.valueOf(i) : null)
+                        .direction(request ? ApiParameter.Direction.REQUEST : ApiParameter.Direction.RESPONSE)
+                        .build());
+            }
+            catalog.getOperations().add(operation);
+        }
+    }
+
+    @Benchmark
+    public CatalogDetailResponse from() {
+        return CatalogDetailResponse.from(catalog);
+    }
+}
@@ -0,0 +1,42 @@
+package com.spring.lica.security.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtAuthenticationFilter가 거치는 토큰 검증·인증 객체 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(
+                new JwtProperties("govlica-benchmark-secret-key-at-least-256-bits-long", TimeUnit.DAYS.toMillis(1)));
+        token = provider.generateToken("bench@govlica.kr", List.of("ROLE_USER", "ROLE_ADMIN"));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return provider.getAuthentication(token);
+    }
+}
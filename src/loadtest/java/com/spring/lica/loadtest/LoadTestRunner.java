@@ -0,0 +1,285 @@
+package com.spring.lica.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 중인 앱에 닫힌 루프 부하를 걸고 시나리오별 처리량과 지연 백분위수를 보고한다.
+ *
+ * <p>시나리오: {@code search}(GET {@code /?keyword=...}, 포털 실시간 검색), {@code detail}
+ * (GET {@code /api/catalog/{uddiSeq}}), {@code proxy}(POST {@code /api/proxy/execute}, 스텁 API 대상).
+ * {@code loadtest.sync=true}면 부하 전에 전체 동기화를 한 번 돌려 동기화 처리량도 함께 기록한다.
+ * 앱은 {@code loadtest} 프로필로 띄워 포털 호출이 {@link PortalStubServer}로 가게 한다.</p>
+ *
+ * <p>시스템 프로퍼티: {@code loadtest.target}(http://localhost:8080), {@code loadtest.stub-url}
+ * (http://localhost:18089), {@code loadtest.concurrency}(32), {@code loadtest.warmup}(s, 10),
+ * {@code loadtest.duration}(s, 60), {@code loadtest.mix}(search:3,detail:5,proxy:2),
+ * {@code loadtest.catalog-size}(2000, 스텁과 같게), {@code loadtest.sync}(false), {@code loadtest.report}(JSON 경로).</p>
+ */
+public class LoadTestRunner {
+
+    private static final String[] KEYWORDS = {"", "날씨", "교통", "버스", "미세먼지", "병원", "관광", "부동산", "인구", "지하철"};
+    private static final Pattern JSON_STRING = Pattern.compile("\"(\\w+)\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern JSON_NUMBER = Pattern.compile("\"(\\w+)\"\\s*:\\s*(-?[\\d.]+)");
+
+    private final String target;
+    private final String stubUrl;
+    private final int concurrency;
+    private final int catalogSize;
+    private final Map<String, Integer> mix;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    LoadTestRunner(String target, String stubUrl, int concurrency, int catalogSize, Map<String, Integer> mix) {
+        this.target = target.replaceAll("/+$", "");
+        this.stubUrl = stubUrl.replaceAll("/+$", "");
+        this.concurrency = concurrency;
+        this.catalogSize = catalogSize;
+        this.mix = mix;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestRunner runner = new LoadTestRunner(
+                System.getProperty("loadtest.target", "http://localhost:8080"),
+                System.getProperty("loadtest.stub-url", "http://localhost:18089"),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Integer.getInteger("loadtest.catalog-size", 2000),
+                parseMix(System.getProperty("loadtest.mix", "search:3,detail:5,proxy:2")));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        if (Boolean.getBoolean("loadtest.sync")) {
+            report.put("sync", runner.runSync());
+        }
+        Map<String, Stats> scenarios = runner.run(
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 60)));
+        report.put("concurrency", runner.concurrency);
+        report.put("scenarios", scenarios);
+
+        printTable(scenarios);
+        String reportPath = System.getProperty("loadtest.report");
+        if (reportPath != null) {
+            Path path = Paths.get(reportPath);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Files.writeString(path, toJson(report));
+            System.out.println("Report written to " + path.toAbsolutePath());
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 워밍업 구간은 버리고 측정 구간의 응답만 집계한다.
+     */
+    Map<String, Stats> run(Duration warmup, Duration duration) throws InterruptedException {
+        List<String> weighted = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) weighted.add(scenario);
+        });
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        System.out.printf("Driving %s with %d workers: warmup %ds, measure %ds, mix %s%n",
+                target, concurrency, warmup.toSeconds(), duration.toSeconds(), mix);
+
+        List<Worker> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Worker worker = new Worker(weighted, measureFrom, end);
+                workers.add(worker);
+                executor.execute(worker);
+            }
+        }
+
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        for (String scenario : mix.keySet()) {
+            Recorder merged = new Recorder();
+            workers.forEach(w -> merged.addAll(w.recorders.get(scenario)));
+            stats.put(scenario, merged.toStats(duration));
+        }
+        return stats;
+    }
+
+    private HttpResponse<Void> call(String scenario) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request = switch (scenario) {
+            case "search" -> get("/?keyword=" + URLEncoder.encode(KEYWORDS[random.nextInt(KEYWORDS.length)],
+                    StandardCharsets.UTF_8) + "&page=" + random.nextInt(5));
+            case "detail" -> get("/api/catalog/" + StubPages.pk(random.nextInt(catalogSize)));
+            case "proxy" -> HttpRequest.newBuilder(URI.create(target + "/api/proxy/execute"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("""
+                            {"targetUrl":"%s/1360000/StubService%d/getList","serviceKey":"loadtest",\
+                            "params":{"pageNo":"1","numOfRows":"10","dataType":"JSON"}}"""
+                            .formatted(stubUrl, StubPages.pk(random.nextInt(catalogSize)))))
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(target + path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    /**
+     * 전체 동기화를 시작하고 끝날 때까지 기다린 뒤 작업 결과를 반환한다.
+     */
+    private Map<String, Object> runSync() throws IOException, InterruptedException {
+        System.out.println("Running FULL catalog sync against the stub...");
+        HttpResponse<String> started = client.send(HttpRequest.newBuilder(
+                        URI.create(target + "/api/catalog/sync?mode=FULL"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+        String jobId = jsonFields(started.body()).get("jobId") instanceof String id ? id : null;
+        if (jobId == null) throw new IllegalStateException("Sync did not start: " + started.body());
+
+        while (true) {
+            TimeUnit.SECONDS.sleep(1);
+            Map<String, Object> job = jsonFields(client.send(get("/api/catalog/sync/" + jobId),
+                    HttpResponse.BodyHandlers.ofString()).body());
+            Object status = job.get("status");
+            if (!"QUEUED".equals(status) && !"RUNNING".equals(status)) {
+                System.out.printf("Sync %s: %s items/s over %s ms (new=%s, updated=%s)%n", status,
+                        job.get("itemsPerSecond"), job.get("elapsedMs"), job.get("newApis"), job.get("updatedApis"));
+                return job;
+            }
+        }
+    }
+
+    private static Map<String, Object> jsonFields(String json) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        Matcher strings = JSON_STRING.matcher(json);
+        while (strings.find()) fields.put(strings.group(1), strings.group(2));
+        Matcher numbers = JSON_NUMBER.matcher(json);
+        while (numbers.find()) fields.putIfAbsent(numbers.group(1), Double.parseDouble(numbers.group(2)));
+        return fields;
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            int weight = kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 1;
+            if (weight > 0) mix.put(kv[0].trim(), weight);
+        }
+        return mix;
+    }
+
+    private static void printTable(Map<String, Stats> scenarios) {
+        System.out.printf("%n%-8s %9s %7s %9s %8s %8s %8s %8s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        scenarios.forEach((name, s) -> System.out.printf(Locale.ROOT, "%-8s %9d %7d %9.1f %8.1f %8.1f %8.1f %8.1f%n",
+                name, s.requests(), s.errors(), s.throughput(), s.p50(), s.p90(), s.p99(), s.max()));
+    }
+
+    private static String toJson(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            StringBuilder json = new StringBuilder("{");
+            map.forEach((k, v) -> json.append(json.length() > 1 ? "," : "").append('"').append(k).append("\":")
+                    .append(toJson(v)));
+            return json.append('}').toString();
+        }
+        if (value instanceof Stats s) {
+            return String.format(Locale.ROOT, "{\"requests\":%d,\"errors\":%d,\"throughput\":%.2f,"
+                            + "\"p50\":%.2f,\"p90\":%.2f,\"p99\":%.2f,\"max\":%.2f}",
+                    s.requests(), s.errors(), s.throughput(), s.p50(), s.p90(), s.p99(), s.max());
+        }
+        if (value instanceof Number || value instanceof Boolean) return value.toString();
+        return "\"" + String.valueOf(value).replace("\"", "\\\"") + "\"";
+    }
+
+    private class Worker implements Runnable {
+        private final List<String> weighted;
+        private final long measureFrom;
+        private final long end;
+        private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+
+        Worker(List<String> weighted, long measureFrom, long end) {
+            this.weighted = weighted;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            mix.keySet().forEach(scenario -> recorders.put(scenario, new Recorder()));
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < end) {
+                String scenario = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+                long started = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = call(scenario).statusCode() < 400;
+                } catch (IOException e) {
+                    ok = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long finished = System.nanoTime();
+                if (started >= measureFrom && finished <= end) {
+                    recorders.get(scenario).record(finished - started, ok);
+                }
+            }
+        }
+    }
+
+    /**
+     * 스레드 하나가 쓰는 지연 시간 버퍼 (ns)
+     */
+    private static class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        void record(long nanos, boolean ok) {
+            if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = nanos;
+            if (!ok) errors++;
+        }
+
+        void addAll(Recorder other) {
+            for (int i = 0; i < other.count; i++) record(other.latencies[i], true);
+            errors += other.errors;
+        }
+
+        Stats toStats(Duration window) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Stats(count, errors, count / (double) Math.max(1, window.toSeconds()),
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int rank = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.clamp(rank, 0, sorted.length - 1)] / 1e6;
+        }
+    }
+
+    record Stats(int requests, int errors, double throughput, double p50, double p90, double p99, double max) {}
+}
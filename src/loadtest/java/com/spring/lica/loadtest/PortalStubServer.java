@@ -0,0 +1,194 @@
+package com.spring.lica.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 부하 테스트용 data.go.kr 대역 서버 (네트워크 없이 동작).
+ *
+ * <p>검색({@code /tcs/dss/selectDataSetList.do}), 상세({@code /data/{pk}/openapi.do}),
+ * 오퍼레이션 AJAX({@code /tcs/dss/selectApiDetailFunction.do})와 그 밖의 모든 경로(프록시 대상 API)에 응답한다.
+ * {@code loadtest.stub.snapshot-dir}에 앱이 보관한 페이지 스냅샷이 있으면 그대로 재생하고,
+ * 없는 키는 {@link StubPages}로 만든 페이지를 돌려준다.</p>
+ *
+ * <p>시스템 프로퍼티: {@code loadtest.stub.port}(18089), {@code loadtest.stub.latency}(ms, 200),
+ * {@code loadtest.stub.jitter}(ms, 100), {@code loadtest.stub.error-rate}(0~1, 0),
+ * {@code loadtest.stub.catalog-size}(2000), {@code loadtest.stub.snapshot-dir}(data/snapshots).</p>
+ */
+public class PortalStubServer {
+
+    private static final Pattern DETAIL_PATH = Pattern.compile("^/data/(\\d+)/openapi\\.do$");
+    private static final Pattern REF_SHA256 = Pattern.compile("\"sha256\"\\s*:\\s*\"([0-9a-f]{64})\"");
+
+    private final int port;
+    private final long latency;
+    private final long jitter;
+    private final double errorRate;
+    private final Path snapshotDir;
+    private final StubPages pages;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    private HttpServer server;
+
+    public PortalStubServer(int port, long latency, long jitter, double errorRate, int catalogSize, Path snapshotDir) {
+        this.port = port;
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+        this.snapshotDir = snapshotDir;
+        this.pages = new StubPages(catalogSize, "http://localhost:" + port);
+    }
+
+    public static void main(String[] args) throws IOException {
+        PortalStubServer stub = new PortalStubServer(
+                Integer.getInteger("loadtest.stub.port", 18089),
+                Long.getLong("loadtest.stub.latency", 200),
+                Long.getLong("loadtest.stub.jitter", 100),
+                Double.parseDouble(System.getProperty("loadtest.stub.error-rate", "0")),
+                Integer.getInteger("loadtest.stub.catalog-size", 2000),
+                Paths.get(System.getProperty("loadtest.stub.snapshot-dir", "data/snapshots")));
+        stub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::stop));
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("portal-stub-", 0).factory()));
+        server.createContext("/", this::handle);
+        server.start();
+        System.out.printf("Portal stub listening on http://localhost:%d (latency=%dms, jitter=%dms, errorRate=%.2f, snapshots=%s)%n",
+                port, latency, jitter, errorRate, Files.isDirectory(snapshotDir) ? snapshotDir.toAbsolutePath() : "none");
+    }
+
+    public void stop() {
+        if (server == null) return;
+        server.stop(0);
+        System.out.printf("Portal stub stopped: requests=%d, replayed=%d, injectedErrors=%d%n",
+                requests.sum(), replayed.sum(), injectedErrors.sum());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            Map<String, String> params = params(exchange);
+            delay();
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.increment();
+                send(exchange, 503, "text/plain; charset=UTF-8", "stub: injected failure");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            Matcher detail = DETAIL_PATH.matcher(path);
+            if (path.equals("/tcs/dss/selectDataSetList.do")) {
+                int page = intParam(params, "currentPage", 1);
+                int perPage = intParam(params, "perPage", 10);
+                String keyword = params.getOrDefault("keyword", "");
+                String key = page + "-" + perPage + "-" + keyword + "-" + params.getOrDefault("brm", "");
+                sendHtml(exchange, replay("search", key), () -> pages.search(page, perPage, keyword));
+            } else if (detail.matches()) {
+                String pk = detail.group(1);
+                sendHtml(exchange, replay("detail", pk), () -> pages.detail(pk));
+            } else if (path.equals("/tcs/dss/selectApiDetailFunction.do")) {
+                String pk = params.getOrDefault("publicDataPk", "");
+                String seq = params.getOrDefault("oprtinSeqNo", "");
+                sendHtml(exchange, replay("ajax", pk + "-" + seq), () -> pages.ajax(pk, seq));
+            } else {
+                send(exchange, 200, "application/json; charset=UTF-8", pages.apiResponse(path));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void delay() throws InterruptedException {
+        long millis = latency + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+        if (millis > 0) Thread.sleep(millis);
+    }
+
+    /**
+     * 앱의 PageSnapshotStore가 남긴 참조 파일을 따라 원본 본문을 읽는다. 없으면 null.
+     */
+    private String replay(String kind, String key) throws IOException {
+        Path ref = snapshotDir.resolve("refs").resolve(kind)
+                .resolve(URLEncoder.encode(key, StandardCharsets.UTF_8) + ".json");
+        if (Files.notExists(ref)) return null;
+        Matcher sha = REF_SHA256.matcher(Files.readString(ref));
+        if (!sha.find()) return null;
+        Path object = snapshotDir.resolve("objects").resolve(sha.group(1).substring(0, 2))
+                .resolve(sha.group(1) + ".html.gz");
+        if (Files.notExists(object)) return null;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(object))) {
+            replayed.increment();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void sendHtml(HttpExchange exchange, String recorded, Supplier<String> generated)
+            throws IOException {
+        send(exchange, 200, "text/html; charset=UTF-8", recorded != null ? recorded : generated.get());
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * 쿼리 문자열과 (POST 폼의 경우) 본문 파라미터
+     */
+    private static Map<String, String> params(HttpExchange exchange) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        parseForm(exchange.getRequestURI().getRawQuery(), params);
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType != null && contentType.startsWith("application/x-www-form-urlencoded")) {
+            parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8), params);
+        }
+        return params;
+    }
+
+    private static void parseForm(String raw, Map<String, String> params) {
+        if (raw == null || raw.isEmpty()) return;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.putIfAbsent(name, value);
+        }
+    }
+
+    private static int intParam(Map<String, String> params, String name, int defaultValue) {
+        try {
+            return Integer.parseInt(params.getOrDefault(name, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.spring.lica.loadtest;
+
+/**
+ * 스냅샷이 없을 때 돌려줄 합성 포털 페이지. 앱의 스크래핑 규칙(PortalScrapeRules)의 기본 선택자에 맞춘 최소 마크업이다.
+ *
+ * <p>카탈로그는 {@code 15000001}부터 {@code catalogSize}개의 publicDataPk로 구성되며, 상세 페이지는
+ * 오퍼레이션 2개짜리 Legacy 형식이라 오퍼레이션별 AJAX 호출까지 함께 발생한다.</p>
+ */
+class StubPages {
+
+    private static final long FIRST_PK = 15_000_001L;
+    private static final String[] CATEGORIES = {"공공행정", "교통및물류", "환경기상", "보건의료", "문화관광"};
+    private static final String[] ORGS = {"행정안전부", "국토교통부", "기상청", "보건복지부", "문화체육관광부"};
+
+    private final int catalogSize;
+    private final String stubUrl;
+
+    StubPages(int catalogSize, String stubUrl) {
+        this.catalogSize = Math.max(1, catalogSize);
+        this.stubUrl = stubUrl;
+    }
+
+    static long pk(int index) {
+        return FIRST_PK + index;
+    }
+
+    String search(int page, int perPage, String keyword) {
+        int from = Math.max(0, (page - 1) * perPage);
+        int to = Math.min(catalogSize, from + perPage);
+        StringBuilder html = new StringBuilder(512 + perPage * 512)
+                .append("<html><body><div class=\"result-count\">총 <strong>").append(catalogSize)
+                .append("</strong>건</div><ul class=\"result-list\">");
+        for (int i = from; i < to; i++) {
+            long pk = pk(i);
+            int kind = i % CATEGORIES.length;
+            html.append("<li><a href=\"/data/").append(pk).append("/openapi.do\">")
+                    .append(keyword.isBlank() ? "" : keyword + " ").append("부하테스트 API ").append(pk).append("</a>")
+                    .append("<p class=\"publicDataDesc\">합성 오픈API ").append(pk).append(" 설명</p>")
+                    .append("<span class=\"org\">").append(ORGS[kind]).append("</span>")
+                    .append("<span class=\"brm\">").append(CATEGORIES[kind]).append("</span>")
+                    .append("<span>JSON XML</span><span>수정일 : 2025-01-").append(String.format("%02d", i % 28 + 1))
+                    .append("</span></li>");
+        }
+        return html.append("</ul></body></html>").toString();
+    }
+
+    String detail(String pk) {
+        return """
+                <html><head><title>부하테스트 API %1$s | 공공데이터포털</title>
+                <meta name="description" content="합성 오픈API %1$s 상세"></head><body>
+                <h3 class="tit">부하테스트 API %1$s</h3>
+                <dl><dt>제공기관</dt><dd>행정안전부</dd><dt>분류체계</dt><dd>공공행정</dd></dl>
+                <input type="hidden" name="serviceUrl" value="%2$s/1360000/StubService%1$s">
+                <select id="open_api_detail_select">
+                  <option value="%1$s1">목록 조회</option>
+                  <option value="%1$s2">상세 조회</option>
+                </select>
+                <script>
+                  var paramObj = {}; paramObj.paramtrNm = "pageNo"; paramObj.paramtrKorNm = "페이지 번호";
+                  paramObj.paramtrDivision = "옵션"; paramObj.paramtrBassValue = "1"; paramList.push(paramObj);
+                  var paramObj = {}; paramObj.paramtrNm = "numOfRows"; paramObj.paramtrKorNm = "한 페이지 결과 수";
+                  paramObj.paramtrDivision = "옵션"; paramObj.paramtrBassValue = "10"; paramList.push(paramObj);
+                </script>
+                </body></html>
+                """.formatted(pk, stubUrl);
+    }
+
+    String ajax(String pk, String oprtinSeqNo) {
+        return """
+                <div><h4>요청변수(Request Parameter)</h4>
+                <table><tbody>
+                <tr><td>서비스키</td><td>serviceKey</td><td>100</td><td>필수</td><td>-</td><td>인증키</td></tr>
+                <tr><td>페이지 번호</td><td>pageNo</td><td>4</td><td>옵션</td><td>1</td><td>페이지 번호</td></tr>
+                </tbody></table>
+                <h4>출력결과(Response Element)</h4>
+                <table><tbody>
+                <tr><td>결과코드</td><td>resultCode</td><td>2</td><td>필수</td><td>00</td><td>%1$s/%2$s</td></tr>
+                <tr><td>결과메시지</td><td>resultMsg</td><td>50</td><td>필수</td><td>OK</td><td>결과 메시지</td></tr>
+                <tr><td>전체 결과 수</td><td>totalCount</td><td>4</td><td>필수</td><td>3</td><td>전체 결과 수</td></tr>
+                </tbody></table></div>
+                """.formatted(pk, oprtinSeqNo);
+    }
+
+    /**
+     * 프록시 대상 API 응답 (data.go.kr 표준 JSON 형식)
+     */
+    String apiResponse(String path) {
+        StringBuilder items = new StringBuilder();
+        for (int i = 1; i <= 10; i++) {
+            if (i > 1) items.append(',');
+            items.append("{\"seq\":").append(i).append(",\"name\":\"item-").append(i)
+                    .append("\",\"path\":\"").append(path.replace("\"", "")).append("\"}");
+        }
+        return "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+                + "\"body\":{\"items\":{\"item\":[" + items + "]},\"numOfRows\":10,\"pageNo\":1,\"totalCount\":10}}}";
+    }
+}
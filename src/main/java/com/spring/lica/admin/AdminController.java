@@ -1,5 +1,13 @@
 package com.spring.lica.admin;
 
+import com.spring.lica.client.datagokr.resilience.PortalGuard;
+import com.spring.lica.client.datagokr.scrape.ScrapeRuleMetrics;
+import com.spring.lica.common.exception.ReparseAlreadyRunningException;
+import com.spring.lica.common.exception.SyncAlreadyRunningException;
+import com.spring.lica.common.exception.SyncJobNotFoundException;
+import com.spring.lica.domain.catalog.dto.SyncJobResponse;
+import com.spring.lica.domain.catalog.service.CatalogReparseService;
+import com.spring.lica.domain.catalog.service.CatalogSyncJobService;
 import com.spring.lica.domain.catalog.service.CatalogSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +16,7 @@ import org.springframework.cloud.context.refresh.ContextRefresher;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
@@ -22,7 +31,10 @@ public class AdminController {
 
 	private final SettingsService settingsService;
 	private final AdminStatsService adminStatsService;
-	private final CatalogSyncService catalogSyncService;
+	private final CatalogSyncJobService catalogSyncJobService;
+	private final ScrapeRuleMetrics scrapeRuleMetrics;
+	private final CatalogReparseService catalogReparseService;
+	private final PortalGuard portalGuard;
 
 	@Autowired(required = false)
 	private ContextRefresher contextRefresher;
@@ -35,19 +47,42 @@ public class AdminController {
 	@GetMapping("/admin/dashboard")
 	public String dashboard(Model model) {
 		model.addAttribute("stats", adminStatsService.getStats());
+		model.addAttribute("syncJobs", catalogSyncJobService.recent().stream().map(SyncJobResponse::from).toList());
+		model.addAttribute("scrapeRules", scrapeRuleMetrics.snapshot());
+		model.addAttribute("reparse", catalogReparseService.status().orElse(null));
+		model.addAttribute("portalGuards", portalGuard.snapshot());
 		return "admin-dashboard";
 	}
 
 	@PostMapping("/admin/sync")
 	public String sync(RedirectAttributes ra) {
 		try {
-			var result = catalogSyncService.syncFromPortal();
-			ra.addFlashAttribute("message",
-					String.format("Sync 완료! 신규: %d, 업데이트: %d (포털 총: %d)",
-							result.totalNew(), result.totalUpdated(), result.portalTotalCount()));
-		} catch (Exception e) {
-			log.error("Admin sync failed", e);
-			ra.addFlashAttribute("error", "Sync 실패: " + e.getMessage());
+			var job = catalogSyncJobService.submit(CatalogSyncService.SyncMode.INCREMENTAL);
+			ra.addFlashAttribute("message", "Sync 작업이 시작되었습니다. (작업 ID: " + job.getId() + ")");
+		} catch (SyncAlreadyRunningException e) {
+			ra.addFlashAttribute("error", e.getMessage());
+		}
+		return "redirect:/admin/dashboard";
+	}
+
+	@PostMapping("/admin/sync/{jobId}/cancel")
+	public String cancelSync(@PathVariable String jobId, RedirectAttributes ra) {
+		try {
+			catalogSyncJobService.cancel(jobId);
+			ra.addFlashAttribute("message", "Sync 작업 취소를 요청했습니다.");
+		} catch (SyncJobNotFoundException e) {
+			ra.addFlashAttribute("error", e.getMessage());
+		}
+		return "redirect:/admin/dashboard";
+	}
+
+	@PostMapping("/admin/reparse")
+	public String reparse(RedirectAttributes ra) {
+		try {
+			var status = catalogReparseService.start();
+			ra.addFlashAttribute("message", "스냅샷 재파싱을 시작했습니다. (작업 ID: " + status.jobId() + ")");
+		} catch (ReparseAlreadyRunningException e) {
+			ra.addFlashAttribute("error", e.getMessage());
 		}
 		return "redirect:/admin/dashboard";
 	}
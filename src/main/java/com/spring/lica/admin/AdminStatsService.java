@@ -1,6 +1,7 @@
 package com.spring.lica.admin;
 
-import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
+import com.spring.lica.domain.catalog.readmodel.CatalogSnapshot;
+import com.spring.lica.domain.catalog.readmodel.CatalogSnapshotStore;
 import com.spring.lica.domain.user.repository.TestHistoryRepository;
 import com.spring.lica.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,14 +16,15 @@ import java.util.Map;
 public class AdminStatsService {
 
     private final UserRepository userRepository;
-    private final ApiCatalogRepository catalogRepository;
+    private final CatalogSnapshotStore snapshotStore;
     private final TestHistoryRepository historyRepository;
 
     public Map<String, Object> getStats() {
         Map<String, Object> stats = new LinkedHashMap<>();
         stats.put("totalUsers", userRepository.count());
-        stats.put("totalCatalogs", catalogRepository.count());
-        stats.put("restCatalogs", catalogRepository.countByServiceType("REST"));
+        CatalogSnapshot catalog = snapshotStore.current();
+        stats.put("totalCatalogs", (long) catalog.size());
+        stats.put("restCatalogs", (long) catalog.restCount());
         stats.put("totalTests", historyRepository.count());
         stats.put("testsToday", historyRepository.countSince(LocalDateTime.now().toLocalDate().atStartOfDay()));
         stats.put("testsThisWeek", historyRepository.countSince(LocalDateTime.now().minusDays(7)));
@@ -1,26 +1,53 @@
 package com.spring.lica.client.datagokr;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.lica.client.datagokr.dto.ApiDetailParseResult;
+import com.spring.lica.client.datagokr.dto.DetailFetchResult;
+import com.spring.lica.client.datagokr.dto.DetailValidators;
 import com.spring.lica.client.datagokr.dto.PortalApiResponse;
+import com.spring.lica.client.datagokr.resilience.PortalEndpoint;
+import com.spring.lica.client.datagokr.resilience.PortalGuard;
+import com.spring.lica.client.datagokr.scrape.PortalScrapeRules;
+import com.spring.lica.client.datagokr.scrape.SelectorRule;
+import com.spring.lica.client.datagokr.snapshot.PageSnapshotStore;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
 import org.jsoup.select.Elements;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,17 +55,39 @@ import java.util.regex.Pattern;
 @Component
 public class DataGoKrClient {
 
-    private static final String SEARCH_URL = "https://www.data.go.kr/tcs/dss/selectDataSetList.do";
-    private static final Pattern PK_PATTERN = Pattern.compile("/data/(\\d+)/openapi\\.do");
+    private static final String SEARCH_PATH = "/tcs/dss/selectDataSetList.do";
 
     private final WebClient webClient;
     private final DataGoKrProperties properties;
+    private final PageSnapshotStore snapshotStore;
+    private final PortalGuard portalGuard;
+    private final PortalScrapeRules rules;
 
-    public DataGoKrClient(DataGoKrProperties properties) {
+    // 포털 주소는 app.datagokr.portal-url 기준 (부하 테스트 시 로컬 스텁으로 교체)
+    private final String searchUrl;
+    private final String detailUrl;
+    private final String detailFunctionUrl;
+
+    // 상세 페이지 AJAX 조회용 (블로킹 I/O, 동시성은 호출별 Semaphore로 제한)
+    private final ExecutorService ajaxExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("datagokr-ajax-", 0).factory());
+
+    public DataGoKrClient(DataGoKrProperties properties, WebClient dataGoKrWebClient, PageSnapshotStore snapshotStore,
+                          PortalGuard portalGuard, PortalScrapeRules rules) {
         this.properties = properties;
-        this.webClient = WebClient.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
-                .build();
+        this.webClient = dataGoKrWebClient;
+        this.snapshotStore = snapshotStore;
+        this.portalGuard = portalGuard;
+        this.rules = rules;
+        String portalUrl = properties.getPortalUrl().replaceAll("/+$", "");
+        this.searchUrl = portalUrl + SEARCH_PATH;
+        this.detailUrl = portalUrl + DETAIL_PATH;
+        this.detailFunctionUrl = portalUrl + DETAIL_FUNCTION_PATH;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ajaxExecutor.shutdownNow();
     }
 
     /**
@@ -46,31 +95,30 @@ public class DataGoKrClient {
      * 인증키 불필요.
      */
     public PortalApiResponse searchRestApis(int page, int perPage, String keyword) {
-        try {
-            Document doc = Jsoup.connect(SEARCH_URL)
-                    .data("dType", "API")
-                    .data("svcType", "REST")
-                    .data("keyword", keyword != null ? keyword : "")
-                    .data("currentPage", String.valueOf(page))
-                    .data("perPage", String.valueOf(perPage))
-                    .data("sort", "updtDt")
-                    .timeout(properties.getConnectTimeout() + properties.getReadTimeout())
-                    .userAgent("Mozilla/5.0 (compatible; GovLICA/1.0)")
-                    .get();
-
-            return parseSearchResults(doc);
-        } catch (IOException e) {
-            log.error("data.go.kr search page scraping failed", e);
-            throw new DataGoKrApiException("공공데이터포털 검색 실패: " + e.getMessage(), e);
-        }
+        return searchRestApis(page, perPage, keyword, null);
     }
 
     /**
      * data.go.kr 검색 페이지를 스크래핑 (분류 필터 포함)
+     *
+     * <p>{@code search-streaming}이 켜져 있으면 jsoup {@link StreamParser}로 결과 항목({@code <li>})이 완성될 때마다
+     * 처리하며, {@code perPage}건과 총 건수를 모두 얻으면 나머지 본문은 읽지 않는다.</p>
      */
     public PortalApiResponse searchRestApis(int page, int perPage, String keyword, String category) {
+        return portalGuard.call(PortalEndpoint.SEARCH, () -> doSearchRestApis(page, perPage, keyword, category));
+    }
+
+    /**
+     * 카탈로그 동기화용 검색 페이지 조회. 대화형 검색과 따로 {@link PortalEndpoint#SYNC} 한도를 쓰며,
+     * 한도가 차 있으면 거절하지 않고 허가를 기다린다.
+     */
+    public PortalApiResponse fetchSyncPage(int page, int perPage) throws InterruptedException {
+        return portalGuard.callQueued(PortalEndpoint.SYNC, () -> doSearchRestApis(page, perPage, "", null));
+    }
+
+    private PortalApiResponse doSearchRestApis(int page, int perPage, String keyword, String category) {
         try {
-            var conn = Jsoup.connect(SEARCH_URL)
+            var conn = Jsoup.connect(searchUrl)
                     .data("dType", "API")
                     .data("svcType", "REST")
                     .data("keyword", keyword != null ? keyword : "")
@@ -84,123 +132,272 @@ public class DataGoKrClient {
                 conn.data("brm", category);
             }
 
-            Document doc = conn.get();
-            return parseSearchResults(doc);
-        } catch (IOException e) {
+            if (!snapshotStore.isEnabled(PageSnapshotStore.Kind.SEARCH)) {
+                if (properties.isSearchStreaming()) {
+                    try (StreamParser streamer = conn.execute().streamParser()) {
+                        return streamSearchResults(streamer, perPage);
+                    }
+                }
+                return parseSearchResults(conn.get());
+            }
+
+            // 스냅샷 보관 시에는 본문 전체를 받아 저장한 뒤 같은 방식으로 파싱
+            Connection.Response response = conn.execute();
+            String html = response.body();
+            String url = response.url().toExternalForm();
+            snapshotStore.save(PageSnapshotStore.Kind.SEARCH,
+                    page + "-" + perPage + "-" + (keyword != null ? keyword : "") + "-" + (category != null ? category : ""),
+                    url, html);
+            if (properties.isSearchStreaming()) {
+                return streamSearchResults(html, url, perPage);
+            }
+            return parseSearchResults(Jsoup.parse(html, url));
+        } catch (IOException | UncheckedIOException e) {
             log.error("data.go.kr search page scraping failed", e);
             throw new DataGoKrApiException("공공데이터포털 검색 실패: " + e.getMessage(), e);
         }
     }
 
-    private PortalApiResponse parseSearchResults(Document doc) {
+    // 패키지 범위: src/jmh 벤치마크에서 직접 호출
+    PortalApiResponse parseSearchResults(Document doc) {
         List<PortalApiResponse.ApiItem> items = new ArrayList<>();
 
         // 총 건수 파싱: "검색결과 7,089건" 같은 텍스트에서 추출
         int totalCount = 0;
-        Element totalEl = doc.selectFirst(".result-count, .search-result-count, .result_num");
+        Element totalEl = rules.searchTotalCount.first(doc);
         if (totalEl != null) {
-            String text = totalEl.text().replaceAll("[^0-9]", "");
-            if (!text.isEmpty()) totalCount = Integer.parseInt(text);
+            totalCount = parseCount(totalEl.text());
         }
         // 대안: 탭의 건수에서 추출
         if (totalCount == 0) {
-            for (Element tab : doc.select(".tab, .tabmenu a, [data-dtype]")) {
-                String tabText = tab.text();
-                if (tabText.contains("오픈API") || tabText.contains("API")) {
-                    String num = tabText.replaceAll("[^0-9]", "");
-                    if (!num.isEmpty()) {
-                        totalCount = Integer.parseInt(num);
-                        break;
-                    }
-                }
+            for (Element tab : rules.searchTotalTabs.all(doc)) {
+                totalCount = parseTabCount(tab);
+                if (totalCount > 0) break;
             }
         }
         // 대안: 페이지 전체 텍스트에서 "총 N건" 패턴
         if (totalCount == 0) {
-            Matcher m = Pattern.compile("(\\d[\\d,]*)\\s*건").matcher(doc.text());
-            while (m.find()) {
-                int n = Integer.parseInt(m.group(1).replace(",", ""));
-                if (n > totalCount) totalCount = n;
-            }
+            totalCount = parseTextCount(doc);
         }
 
         // 결과 목록 파싱 - data.go.kr의 결과 리스트에서 각 항목 추출
-        Elements resultItems = doc.select(".result-list li, .dataset-list li, .data-list li, #apiDataList li, .resultList li");
+        Elements resultItems = rules.searchItems.all(doc);
 
         // 폴백: 일반 li에서 openapi.do 링크가 있는 항목
         if (resultItems.isEmpty()) {
-            resultItems = doc.select("li:has(a[href*=openapi.do])");
+            resultItems = rules.searchItemsFallback.all(doc);
         }
 
         for (Element item : resultItems) {
-            PortalApiResponse.ApiItem apiItem = new PortalApiResponse.ApiItem();
-
-            // 링크에서 publicDataPk 추출
-            Element link = item.selectFirst("a[href*=openapi.do], a[href*=publicDataPk]");
-            if (link != null) {
-                String href = link.attr("href");
-                Matcher pkMatcher = PK_PATTERN.matcher(href);
-                if (pkMatcher.find()) {
-                    apiItem.setUddiSeq(pkMatcher.group(1));
+            PortalApiResponse.ApiItem apiItem = toApiItem(item);
+            if (apiItem != null) items.add(apiItem);
+        }
+
+        log.info("Scraped {} items from data.go.kr (totalCount={})", items.size(), totalCount);
+        return buildSearchResponse(items, totalCount);
+    }
+
+    // 패키지 범위: src/jmh 벤치마크에서 직접 호출
+    PortalApiResponse streamSearchResults(String html, String url, int perPage) throws IOException {
+        try (StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(html, url)) {
+            return streamSearchResults(streamer, perPage);
+        }
+    }
+
+    /**
+     * 스트리밍 파싱. 요소는 닫히는 순서(자식 → 부모)로 전달되므로 결과 {@code <li>}가 완성되는 즉시 항목으로 변환한다.
+     * 다른 결과 항목 안에 든 {@code <li>}는 바깥 항목의 일부이므로 건너뛰고, 트리에서 요소를 떼어내지 않는다.
+     * 기본 결과 목록을 하나라도 찾으면 폴백 후보는 버린다 (문서 모드와 같은 우선순위).
+     *
+     * <p>{@code perPage}건을 모으고 총 건수 요소도 찾았을 때만 읽기를 중단한다. 총 건수 요소가 목록 뒤에 있거나
+     * 없으면 끝까지 읽고, 탭 건수와 문서 전체 텍스트 순으로 문서 모드와 같은 대안을 쓴다.
+     * 규칙 판별은 요소마다 집계하지 않고 페이지마다 한 번 기록한다.</p>
+     */
+    private PortalApiResponse streamSearchResults(StreamParser streamer, int perPage) throws IOException {
+        List<PortalApiResponse.ApiItem> items = new ArrayList<>();
+        List<PortalApiResponse.ApiItem> fallbackItems = new ArrayList<>();
+        long itemMask = 0;
+        long fallbackMask = 0;
+        long countMask = 0;
+        long tabMask = 0;
+        long matchNanos = 0;
+        boolean countSeen = false;
+        int countFromElement = 0;
+        int countFromTab = 0;
+
+        Iterator<Element> elements = streamer.iterator();
+        while (elements.hasNext()) {
+            Element el = elements.next();
+            long start = System.nanoTime();
+            if (el.nameIs("li") && items.size() < perPage) {
+                long mask = rules.searchItems.matchMask(el);
+                if (mask != 0) {
+                    if (isTopLevelItem(el, rules.searchItems)) {
+                        itemMask |= mask;
+                        PortalApiResponse.ApiItem apiItem = toApiItem(el);
+                        if (apiItem != null) items.add(apiItem);
+                    }
+                } else if (items.isEmpty()) {
+                    long fallback = rules.searchItemsFallback.matchMask(el);
+                    if (fallback != 0 && isTopLevelItem(el, rules.searchItemsFallback)) {
+                        fallbackMask |= fallback;
+                        PortalApiResponse.ApiItem apiItem = toApiItem(el);
+                        if (apiItem != null) fallbackItems.add(apiItem);
+                    }
                 }
-                // 제목
-                String title = link.text().trim();
-                if (!title.isEmpty()) {
-                    apiItem.setOpenApiServiceName(title);
+            }
+            if (!countSeen) {
+                long mask = rules.searchTotalCount.matchMask(el);
+                if (mask != 0) {
+                    countSeen = true;
+                    countMask = mask;
+                    countFromElement = parseCount(el.text());
                 }
             }
-
-            // 제목 (h3에서도 시도)
-            if (apiItem.getOpenApiServiceName() == null || apiItem.getOpenApiServiceName().isEmpty()) {
-                Element titleEl = item.selectFirst("h3, h4, .title, .data-title");
-                if (titleEl != null) {
-                    apiItem.setOpenApiServiceName(titleEl.text().trim());
+            if (countFromElement == 0 && countFromTab == 0) {
+                long mask = rules.searchTotalTabs.matchMask(el);
+                if (mask != 0) {
+                    tabMask |= mask;
+                    countFromTab = parseTabCount(el);
                 }
             }
+            matchNanos += System.nanoTime() - start;
 
-            // uddiSeq가 없으면 스킵
-            if (apiItem.getUddiSeq() == null) continue;
-
-            // 설명
-            Element descEl = item.selectFirst(".publicDataDesc, .desc, .data-desc, p");
-            if (descEl != null) {
-                apiItem.setOpenApiServiceDescription(descEl.text().trim());
+            if (items.size() >= perPage && countFromElement > 0) {
+                streamer.stop();
+                break;
             }
+        }
 
-            // 메타 정보 파싱: 텍스트에서 패턴 매칭
-            String itemText = item.text();
+        long share = matchNanos / 4;
+        rules.searchItems.record(itemMask, share);
+        if (items.isEmpty()) {
+            rules.searchItemsFallback.record(fallbackMask, share);
+            items = fallbackItems;
+        }
+        rules.searchTotalCount.record(countMask, share);
+        int totalCount = countFromElement;
+        if (totalCount == 0) {
+            rules.searchTotalTabs.record(tabMask, share);
+            totalCount = countFromTab;
+        }
+        // 끝까지 읽은 경우에만 여기에 오므로 문서가 완성되어 있다
+        if (totalCount == 0) {
+            totalCount = parseTextCount(streamer.document());
+        }
+        log.info("Stream-scraped {} items from data.go.kr (totalCount={})", items.size(), totalCount);
+        return buildSearchResponse(items, totalCount);
+    }
 
-            // 제공기관
-            Element orgEl = item.selectFirst(".org, .agency");
-            if (orgEl != null) {
-                apiItem.setProviderOrgName(orgEl.text().trim());
-            } else {
-                extractMetaField(itemText, "제공기관", apiItem::setProviderOrgName);
-            }
+    /**
+     * 조상 중에 같은 규칙에 일치하는 {@code <li>}가 없는지 (중첩 목록의 안쪽 li는 바깥 항목과 함께 처리)
+     */
+    private static boolean isTopLevelItem(Element li, SelectorRule rule) {
+        for (Element parent = li.parent(); parent != null; parent = parent.parent()) {
+            if (parent.nameIs("li") && rule.matchMask(parent) != 0) return false;
+        }
+        return true;
+    }
 
-            // 분류
-            Element brmEl = item.selectFirst(".brm, .category");
-            if (brmEl != null) {
-                apiItem.setClassificationName(brmEl.text().trim());
+    /**
+     * 페이지 전체 텍스트의 "N건" 중 가장 큰 값. 없으면 0.
+     */
+    private int parseTextCount(Document doc) {
+        int totalCount = 0;
+        Matcher m = rules.searchTotalText.find(doc.text());
+        if (m != null) {
+            do {
+                int n = Integer.parseInt(m.group(1).replace(",", ""));
+                if (n > totalCount) totalCount = n;
+            } while (m.find());
+        }
+        return totalCount;
+    }
+
+    private static int parseCount(String text) {
+        String digits = text.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? 0 : Integer.parseInt(digits);
+    }
+
+    private static int parseTabCount(Element tab) {
+        String tabText = tab.text();
+        if (tabText.contains("오픈API") || tabText.contains("API")) {
+            return parseCount(tabText);
+        }
+        return 0;
+    }
+
+    /**
+     * 검색 결과 항목 하나를 변환한다. uddiSeq가 없으면 null.
+     */
+    private PortalApiResponse.ApiItem toApiItem(Element item) {
+        PortalApiResponse.ApiItem apiItem = new PortalApiResponse.ApiItem();
+
+        // 링크에서 publicDataPk 추출
+        Element link = rules.searchItemLink.first(item);
+        if (link != null) {
+            apiItem.setUddiSeq(rules.searchItemPk.findGroup(link.attr("href"), 1));
+            // 제목
+            String title = link.text().trim();
+            if (!title.isEmpty()) {
+                apiItem.setOpenApiServiceName(title);
             }
+        }
 
-            // 데이터포맷: JSON, XML 등
-            if (itemText.contains("JSON") && itemText.contains("XML")) {
-                apiItem.setDataFormat("JSON,XML");
-            } else if (itemText.contains("JSON")) {
-                apiItem.setDataFormat("JSON");
-            } else if (itemText.contains("XML")) {
-                apiItem.setDataFormat("XML");
+        // 제목 (h3에서도 시도)
+        if (apiItem.getOpenApiServiceName() == null || apiItem.getOpenApiServiceName().isEmpty()) {
+            Element titleEl = rules.searchItemTitle.first(item);
+            if (titleEl != null) {
+                apiItem.setOpenApiServiceName(titleEl.text().trim());
             }
+        }
 
-            apiItem.setServiceType("REST");
+        // uddiSeq가 없으면 스킵
+        if (apiItem.getUddiSeq() == null) return null;
 
-            items.add(apiItem);
+        // 설명
+        Element descEl = rules.searchItemDesc.first(item);
+        if (descEl != null) {
+            apiItem.setOpenApiServiceDescription(descEl.text().trim());
         }
 
-        log.info("Scraped {} items from data.go.kr (totalCount={})", items.size(), totalCount);
+        // 메타 정보 파싱: 텍스트에서 패턴 매칭
+        String itemText = item.text();
+
+        // 제공기관
+        Element orgEl = rules.searchItemOrg.first(item);
+        if (orgEl != null) {
+            apiItem.setProviderOrgName(orgEl.text().trim());
+        } else {
+            extractMetaField(itemText, "제공기관", apiItem::setProviderOrgName);
+        }
+
+        // 분류
+        Element brmEl = rules.searchItemCategory.first(item);
+        if (brmEl != null) {
+            apiItem.setClassificationName(brmEl.text().trim());
+        }
+
+        // 데이터포맷: JSON, XML 등
+        if (itemText.contains("JSON") && itemText.contains("XML")) {
+            apiItem.setDataFormat("JSON,XML");
+        } else if (itemText.contains("JSON")) {
+            apiItem.setDataFormat("JSON");
+        } else if (itemText.contains("XML")) {
+            apiItem.setDataFormat("XML");
+        }
 
-        // 응답 구성
+        // 수정일 (증분 동기화 워터마크용)
+        String modified = rules.searchItemModified.findGroup(itemText, 1);
+        if (modified != null) {
+            apiItem.setLastModifyTime(modified.replace('.', '-'));
+        }
+
+        apiItem.setServiceType("REST");
+        return apiItem;
+    }
+
+    private PortalApiResponse buildSearchResponse(List<PortalApiResponse.ApiItem> items, int totalCount) {
         PortalApiResponse response = new PortalApiResponse();
         PortalApiResponse.Response resp = new PortalApiResponse.Response();
         PortalApiResponse.Header header = new PortalApiResponse.Header();
@@ -235,18 +432,11 @@ public class DataGoKrClient {
 
     // ===== Phase 2: API 상세정보 스크래핑 =====
 
-    private static final String DETAIL_URL = "https://www.data.go.kr/data/%s/openapi.do";
-    private static final String DETAIL_FUNCTION_URL = "https://www.data.go.kr/tcs/dss/selectApiDetailFunction.do";
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
-    // Swagger JSON 추출 정규식 (backtick 또는 single quote 모두 지원)
-    private static final Pattern SWAGGER_JSON_PATTERN = Pattern.compile("var\\s+swaggerJson\\s*=\\s*[`']([^`']+)[`']");
+    private static final String DETAIL_PATH = "/data/%s/openapi.do";
+    private static final String DETAIL_FUNCTION_PATH = "/tcs/dss/selectApiDetailFunction.do";
 
     // Legacy: JavaScript 파라미터 추출용 정규식
-    private static final Pattern JS_PARAM_BLOCK = Pattern.compile("var\\s+paramObj\\s*=\\s*\\{\\}\\s*;(.*?)paramList\\.push\\(paramObj\\)\\s*;", Pattern.DOTALL);
     private static final Pattern JS_PROP_PATTERN = Pattern.compile("paramObj\\.(\\w+)\\s*=\\s*\"([^\"]*)\"");
-    private static final Pattern JS_OPRTIN_SEQ = Pattern.compile("oprtinSeqNo\\s*=\\s*\"(\\d+)\"");
-    private static final Pattern JS_OPRTIN_URL = Pattern.compile("oprtinUrl\\s*=\\s*\"([^\"]+)\"");
 
     /**
      * data.go.kr API 상세 페이지를 스크래핑하여 오퍼레이션, 요청변수, 응답필드를 파싱한다.
@@ -254,342 +444,132 @@ public class DataGoKrClient {
      * 2순위: JavaScript paramList + AJAX 호출로 파싱 (구형 페이지)
      */
     public ApiDetailParseResult fetchApiDetail(String publicDataPk) {
+        return fetchApiDetail(publicDataPk, DetailValidators.NONE).detail();
+    }
+
+    /**
+     * 이전 조회의 검증 정보로 조건부 요청({@code If-None-Match}/{@code If-Modified-Since})을 보낸다.
+     * 304 응답이거나 본문 해시가 같으면 파싱과 AJAX 조회를 생략하고 {@link DetailFetchResult#notModified()}를 반환한다.
+     *
+     * <p>{@link PortalEndpoint#DETAIL} 한도는 상세 페이지 요청에만 적용한다. 이어지는 오퍼레이션별 AJAX 조회는
+     * {@link PortalEndpoint#AJAX} 한도를 따로 쓴다.</p>
+     */
+    public DetailFetchResult fetchApiDetail(String publicDataPk, DetailValidators previous) {
         try {
-            String url = String.format(DETAIL_URL, publicDataPk);
-            Connection.Response response = Jsoup.connect(url)
+            String url = String.format(detailUrl, publicDataPk);
+            Connection conn = Jsoup.connect(url)
                     .timeout(properties.getConnectTimeout() + properties.getReadTimeout())
                     .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                    .execute();
+                    .ignoreHttpErrors(true);
+            if (previous.etag() != null) conn.header("If-None-Match", previous.etag());
+            if (previous.lastModified() != null) conn.header("If-Modified-Since", previous.lastModified());
+            Connection.Response response = portalGuard.call(PortalEndpoint.DETAIL, () -> executeDetailRequest(conn, url));
+
+            if (response.statusCode() == 304) {
+                log.debug("Detail page not modified (304) for pk={}", publicDataPk);
+                return new DetailFetchResult(new DetailValidators(
+                        headerOr(response, "ETag", previous.etag()),
+                        headerOr(response, "Last-Modified", previous.lastModified()),
+                        previous.contentHash()), null);
+            }
 
-            Document doc = response.parse();
-            String html = doc.html();
+            // 원본 HTML을 그대로 사용 (doc.html() 재직렬화 비용 없음)
+            String html = response.body();
+            DetailValidators validators = new DetailValidators(response.header("ETag"),
+                    response.header("Last-Modified"), sha256Hex(html));
+            if (validators.contentHash().equals(previous.contentHash())) {
+                log.debug("Detail page unchanged (same body hash) for pk={}", publicDataPk);
+                return new DetailFetchResult(validators, null);
+            }
+            snapshotStore.save(PageSnapshotStore.Kind.DETAIL, publicDataPk, url, html);
+            Document doc = Jsoup.parse(html, url);
 
             // 1순위: Swagger JSON 파싱 시도
-            ApiDetailParseResult swaggerResult = tryParseSwaggerJson(html, publicDataPk);
+            ApiDetailParseResult swaggerResult = parseSwaggerDetail(doc, html, publicDataPk);
             if (swaggerResult != null) {
-                log.info("Parsed API detail from Swagger JSON for pk={}", publicDataPk);
-                // Swagger에 없는 메타 정보 보완
-                enrichFromPageMeta(doc, swaggerResult);
-                return swaggerResult;
+                return new DetailFetchResult(validators, swaggerResult);
             }
 
             // 2순위: Legacy 방식 (paramList + AJAX)
             log.info("No Swagger JSON found, falling back to legacy parsing for pk={}", publicDataPk);
-            return parseLegacyDetailPage(doc, html, publicDataPk, response.cookies());
+            ApiDetailParseResult result = parseLegacyDetailPage(doc, html, publicDataPk);
+            if (!fetchResponseFieldsFromAjax(result.getOperations(), publicDataPk, response.cookies())) {
+                // 응답 필드가 빠진 결과의 검증 정보를 남기면 다음 조회가 304/같은 해시로 끝나 영영 채워지지 않는다
+                return new DetailFetchResult(DetailValidators.NONE, result);
+            }
+            return new DetailFetchResult(validators, result);
 
-        } catch (IOException e) {
-            log.error("data.go.kr detail page scraping failed for pk={}", publicDataPk, e);
-            throw new DataGoKrApiException("API 상세정보 조회 실패: " + e.getMessage(), e);
+        } catch (UncheckedIOException e) {
+            log.error("data.go.kr detail page scraping failed for pk={}", publicDataPk, e.getCause());
+            throw new DataGoKrApiException("API 상세정보 조회 실패: " + e.getCause().getMessage(), e.getCause());
         }
     }
 
-    // ========== Swagger JSON 파싱 (1순위) ==========
-
-    private ApiDetailParseResult tryParseSwaggerJson(String html, String publicDataPk) {
-        Matcher m = SWAGGER_JSON_PATTERN.matcher(html);
-        if (!m.find()) return null;
-
-        String jsonStr = m.group(1).trim();
-        if (jsonStr.isEmpty()) return null;
-
+    /**
+     * 상세 페이지 요청과 본문 수신. 오류 상태 코드는 {@link HttpStatusException}으로 바꿔 한도·회로에 반영한다.
+     */
+    private static Connection.Response executeDetailRequest(Connection conn, String url) {
         try {
-            JsonNode root = objectMapper.readTree(jsonStr);
-            return parseSwaggerSpec(root, publicDataPk);
-        } catch (Exception e) {
-            log.warn("Failed to parse Swagger JSON for pk={}: {}", publicDataPk, e.getMessage());
-            return null;
-        }
-    }
-
-    private ApiDetailParseResult parseSwaggerSpec(JsonNode root, String publicDataPk) {
-        var builder = ApiDetailParseResult.builder().publicDataPk(publicDataPk);
-
-        // info
-        JsonNode info = root.path("info");
-        builder.apiName(textOrNull(info, "title"));
-        builder.description(textOrNull(info, "description"));
-        builder.apiType("REST");
-
-        // 1순위: swaggerOprtinVOs (data.go.kr 전용, 기본값·실제 URL 포함)
-        JsonNode oprtinVOs = root.path("swaggerOprtinVOs");
-        if (oprtinVOs.isArray() && !oprtinVOs.isEmpty()) {
-            log.debug("Parsing from swaggerOprtinVOs ({} operations)", oprtinVOs.size());
-            parseFromOprtinVOs(root, oprtinVOs, builder);
-            return builder.build();
-        }
-
-        // 2순위: 표준 Swagger paths (path-level 파라미터 포함)
-        log.debug("No swaggerOprtinVOs, falling back to standard Swagger paths");
-        parseFromSwaggerPaths(root, builder);
-        return builder.build();
-    }
-
-    // ========== swaggerOprtinVOs 파싱 (data.go.kr 전용, 가장 풍부한 데이터) ==========
-
-    private void parseFromOprtinVOs(JsonNode root, JsonNode oprtinVOs,
-                                     ApiDetailParseResult.ApiDetailParseResultBuilder builder) {
-        List<ApiDetailParseResult.OperationInfo> operations = new ArrayList<>();
-
-        // paths에서 HTTP 메서드, produces 추출
-        JsonNode paths = root.path("paths");
-        java.util.Map<String, String> operationIdToMethod = new java.util.HashMap<>();
-        if (paths.isObject()) {
-            Iterator<Map.Entry<String, JsonNode>> pathIter = paths.fields();
-            while (pathIter.hasNext()) {
-                JsonNode methods = pathIter.next().getValue();
-                Iterator<Map.Entry<String, JsonNode>> methodIter = methods.fields();
-                while (methodIter.hasNext()) {
-                    Map.Entry<String, JsonNode> me = methodIter.next();
-                    String key = me.getKey().toUpperCase();
-                    if ("PARAMETERS".equals(key)) continue;
-                    String opId = textOrNull(me.getValue(), "operationId");
-                    if (opId != null) operationIdToMethod.put(opId, key);
-
-                    // dataFormat (produces)
-                    JsonNode produces = me.getValue().path("produces");
-                    if (produces.isArray()) {
-                        List<String> formats = new ArrayList<>();
-                        for (JsonNode p : produces) {
-                            String v = p.asText();
-                            if (v.contains("json")) formats.add("JSON");
-                            if (v.contains("xml")) formats.add("XML");
-                        }
-                        if (!formats.isEmpty()) builder.dataFormat(String.join("+", formats));
-                    }
-                }
+            Connection.Response response = conn.execute();
+            if (response.statusCode() >= 400) {
+                throw new HttpStatusException("HTTP error fetching URL", response.statusCode(), url);
             }
+            return response.bufferUp();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        for (JsonNode vo : oprtinVOs) {
-            String opUrl = textOrNull(vo, "oprtinUrl");
-            String opName = textOrNull(vo, "oprtinNm");
-            String operationId = textOrNull(vo, "operationId");
-            String httpMethod = operationIdToMethod.getOrDefault(operationId, "GET");
-
-            var opBuilder = ApiDetailParseResult.OperationInfo.builder()
-                    .operationName(opName != null ? opName : operationId)
-                    .httpMethod(httpMethod)
-                    .endpointUrl(opUrl);
-
-            // reqList → requestParams
-            List<ApiDetailParseResult.ParameterInfo> reqParams = new ArrayList<>();
-            JsonNode reqList = vo.path("reqList");
-            if (reqList.isArray()) {
-                for (JsonNode req : reqList) {
-                    String defaultVal = textOrNull(req, "paramtrBassValue");
-                    if ("-".equals(defaultVal)) defaultVal = null;
-
-                    reqParams.add(ApiDetailParseResult.ParameterInfo.builder()
-                            .nameEng(textOrNull(req, "paramtrNm"))
-                            .description(textOrNull(req, "paramtrDc"))
-                            .size(textOrNull(req, "paramtrTy"))
-                            .division(textOrNull(req, "paramtrDivision"))
-                            .sampleData(defaultVal)
-                            .build());
-                }
-            }
-            opBuilder.requestParams(reqParams);
-
-            // resList → responseFields (중첩 subParam 평탄화)
-            List<ApiDetailParseResult.ParameterInfo> resFields = new ArrayList<>();
-            JsonNode resList = vo.path("resList");
-            if (resList.isArray()) {
-                flattenResListFields(resList, resFields, "");
-            }
-            opBuilder.responseFields(resFields);
-
-            operations.add(opBuilder.build());
-        }
-
-        // serviceUrl: 첫 번째 오퍼레이션의 URL 사용
-        if (!operations.isEmpty() && operations.get(0).getEndpointUrl() != null) {
-            builder.serviceUrl(operations.get(0).getEndpointUrl());
-        }
-
-        builder.operations(operations);
     }
 
     /**
-     * data.go.kr resList의 중첩 subParam을 평탄화하여 응답 필드 리스트로 변환한다.
+     * 보관된 스냅샷으로 상세 정보를 다시 파싱한다 (네트워크 호출 없음).
+     * Legacy 페이지의 응답 필드는 함께 보관된 AJAX 스냅샷에서 읽으며, 없는 오퍼레이션은 비워 둔다.
      */
-    private void flattenResListFields(JsonNode resList, List<ApiDetailParseResult.ParameterInfo> fields, String prefix) {
-        for (JsonNode res : resList) {
-            String name = textOrNull(res, "paramtrNm");
-            if (name == null) continue;
-            String fullName = prefix.isEmpty() ? name : prefix + "." + name;
-            String type = textOrNull(res, "paramtrTy");
-            String desc = textOrNull(res, "paramtrDc");
-
-            fields.add(ApiDetailParseResult.ParameterInfo.builder()
-                    .nameEng(fullName)
-                    .description(desc)
-                    .size(type)
-                    .build());
-
-            JsonNode subParam = res.path("subParam");
-            if (subParam.isArray() && !subParam.isEmpty()) {
-                flattenResListFields(subParam, fields, fullName);
-            }
-        }
+    public ApiDetailParseResult reparseApiDetail(PageSnapshotStore.PageSnapshot snapshot) {
+        String publicDataPk = snapshot.key();
+        String html = snapshotStore.read(snapshot);
+        Document doc = Jsoup.parse(html, snapshot.url());
+        ApiDetailParseResult swaggerResult = parseSwaggerDetail(doc, html, publicDataPk);
+        if (swaggerResult != null) {
+            return swaggerResult;
+        }
+
+        ApiDetailParseResult result = parseLegacyDetailPage(doc, html, publicDataPk);
+        for (ApiDetailParseResult.OperationInfo op : result.getOperations()) {
+            if (op.getOprtinSeqNo() == null || op.getOprtinSeqNo().isBlank()) continue;
+            snapshotStore.latest(PageSnapshotStore.Kind.AJAX, ajaxSnapshotKey(publicDataPk, op.getOprtinSeqNo()))
+                    .ifPresent(ajax -> parseAjaxResponseTables(Jsoup.parse(snapshotStore.read(ajax), ajax.url()), op));
+        }
+        return result;
     }
 
-    // ========== 표준 Swagger paths 파싱 (fallback) ==========
-
-    private void parseFromSwaggerPaths(JsonNode root,
-                                        ApiDetailParseResult.ApiDetailParseResultBuilder builder) {
-        // host + basePath → serviceUrl
-        String host = textOrNull(root, "host");
-        String basePath = textOrNull(root, "basePath");
-        String scheme = "https";
-        JsonNode schemes = root.path("schemes");
-        if (schemes.isArray() && !schemes.isEmpty()) {
-            scheme = schemes.get(0).asText("https");
-        }
-        String baseUrl = (host != null) ? scheme + "://" + host + (basePath != null ? basePath : "") : null;
-        builder.serviceUrl(baseUrl);
-
-        JsonNode definitions = root.path("definitions");
-
-        List<ApiDetailParseResult.OperationInfo> operations = new ArrayList<>();
-        JsonNode paths = root.path("paths");
-        if (paths.isObject()) {
-            Iterator<Map.Entry<String, JsonNode>> pathIter = paths.fields();
-            while (pathIter.hasNext()) {
-                Map.Entry<String, JsonNode> pathEntry = pathIter.next();
-                String pathUrl = pathEntry.getKey();
-                JsonNode pathNode = pathEntry.getValue();
-
-                // path-level 파라미터 수집
-                List<JsonNode> pathLevelParams = new ArrayList<>();
-                JsonNode pathParams = pathNode.path("parameters");
-                if (pathParams.isArray()) {
-                    for (JsonNode pp : pathParams) pathLevelParams.add(pp);
-                }
-
-                Iterator<Map.Entry<String, JsonNode>> methodIter = pathNode.fields();
-                while (methodIter.hasNext()) {
-                    Map.Entry<String, JsonNode> methodEntry = methodIter.next();
-                    String httpMethod = methodEntry.getKey().toUpperCase();
-                    if ("PARAMETERS".equals(httpMethod)) continue;
-                    JsonNode opNode = methodEntry.getValue();
-
-                    String endpointUrl = baseUrl != null ? baseUrl + pathUrl : pathUrl;
-                    String summary = textOrNull(opNode, "summary");
-                    String operationId = textOrNull(opNode, "operationId");
-
-                    var opBuilder = ApiDetailParseResult.OperationInfo.builder()
-                            .operationName(summary != null ? summary : (operationId != null ? operationId : pathUrl))
-                            .httpMethod(httpMethod)
-                            .endpointUrl(endpointUrl);
-
-                    // 파라미터: operation-level + path-level 병합
-                    List<ApiDetailParseResult.ParameterInfo> reqParams = new ArrayList<>();
-                    List<JsonNode> allParams = new ArrayList<>(pathLevelParams);
-                    JsonNode opParams = opNode.path("parameters");
-                    if (opParams.isArray()) {
-                        for (JsonNode op : opParams) allParams.add(op);
-                    }
-
-                    for (JsonNode p : allParams) {
-                        String paramType = textOrNull(p, "type");
-                        if (paramType == null && p.has("schema")) {
-                            paramType = textOrNull(p.path("schema"), "type");
-                        }
-                        String sampleData = textOrNull(p, "example");
-                        if (sampleData == null) sampleData = textOrNull(p, "default");
-
-                        reqParams.add(ApiDetailParseResult.ParameterInfo.builder()
-                                .nameEng(textOrNull(p, "name"))
-                                .description(textOrNull(p, "description"))
-                                .size(paramType)
-                                .division(p.path("required").asBoolean(false) ? "필수" : "옵션")
-                                .sampleData(sampleData)
-                                .build());
-                    }
-                    opBuilder.requestParams(reqParams);
-
-                    // responses → responseFields
-                    List<ApiDetailParseResult.ParameterInfo> resFields = new ArrayList<>();
-                    JsonNode resp200 = opNode.path("responses").path("200").path("schema");
-                    if (!resp200.isMissingNode()) {
-                        JsonNode resolved = resolveRef(resp200, definitions);
-                        extractResponseFields(resolved, resFields, "", definitions);
-                    }
-                    opBuilder.responseFields(resFields);
-
-                    operations.add(opBuilder.build());
-
-                    // dataFormat
-                    JsonNode produces = opNode.path("produces");
-                    if (produces.isArray()) {
-                        List<String> formats = new ArrayList<>();
-                        for (JsonNode p : produces) {
-                            String v = p.asText();
-                            if (v.contains("json")) formats.add("JSON");
-                            if (v.contains("xml")) formats.add("XML");
-                        }
-                        if (!formats.isEmpty()) builder.dataFormat(String.join("+", formats));
-                    }
-                }
-            }
-        }
+    /**
+     * 페이지에 내장된 Swagger JSON에서 파싱한다. 없으면 null.
+     */
+    private ApiDetailParseResult parseSwaggerDetail(Document doc, String html, String publicDataPk) {
+        ApiDetailParseResult swaggerResult = SwaggerJsonExtractor.parse(html, publicDataPk);
+        if (swaggerResult == null) return null;
+        log.info("Parsed API detail from Swagger JSON for pk={}", publicDataPk);
+        // Swagger에 없는 메타 정보 보완
+        enrichFromPageMeta(doc, swaggerResult);
+        return swaggerResult;
+    }
 
-        builder.operations(operations);
+    private static String headerOr(Connection.Response response, String name, String fallback) {
+        String value = response.header(name);
+        return value != null ? value : fallback;
     }
 
-    /**
-     * Swagger $ref 참조를 해석하여 실제 스키마 노드를 반환한다.
-     */
-    private JsonNode resolveRef(JsonNode node, JsonNode definitions) {
-        if (node.has("$ref")) {
-            String ref = node.get("$ref").asText();
-            if (ref.startsWith("#/definitions/") && definitions.isObject()) {
-                String modelName = ref.substring("#/definitions/".length());
-                JsonNode resolved = definitions.path(modelName);
-                if (!resolved.isMissingNode()) return resolved;
-            }
+    private static String sha256Hex(String body) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
-        return node;
     }
 
-    /**
-     * Swagger response schema에서 응답 필드를 재귀적으로 추출한다.
-     */
-    private void extractResponseFields(JsonNode schema, List<ApiDetailParseResult.ParameterInfo> fields,
-                                        String prefix, JsonNode definitions) {
-        JsonNode resolved = resolveRef(schema, definitions);
-
-        String type = textOrNull(resolved, "type");
-        if ("array".equals(type) && resolved.has("items")) {
-            JsonNode items = resolveRef(resolved.path("items"), definitions);
-            extractResponseFields(items, fields, prefix, definitions);
-            return;
-        }
-
-        JsonNode properties = resolved.path("properties");
-        if (!properties.isObject()) return;
-
-        Iterator<Map.Entry<String, JsonNode>> iter = properties.fields();
-        while (iter.hasNext()) {
-            Map.Entry<String, JsonNode> entry = iter.next();
-            String fieldName = entry.getKey();
-            JsonNode fieldNode = resolveRef(entry.getValue(), definitions);
-            String fieldType = textOrNull(fieldNode, "type");
-            String desc = textOrNull(fieldNode, "description");
-            String fullName = prefix.isEmpty() ? fieldName : prefix + "." + fieldName;
-
-            if ("object".equals(fieldType) && fieldNode.has("properties")) {
-                extractResponseFields(fieldNode, fields, fullName, definitions);
-            } else if ("array".equals(fieldType) && fieldNode.has("items")) {
-                JsonNode items = resolveRef(fieldNode.path("items"), definitions);
-                fields.add(ApiDetailParseResult.ParameterInfo.builder()
-                        .nameEng(fullName).description(desc).size("array").build());
-                extractResponseFields(items, fields, fullName, definitions);
-            } else {
-                fields.add(ApiDetailParseResult.ParameterInfo.builder()
-                        .nameEng(fullName).description(desc).size(fieldType).build());
-            }
-        }
+    private static String ajaxSnapshotKey(String publicDataPk, String oprtinSeqNo) {
+        return publicDataPk + "-" + oprtinSeqNo;
     }
 
     private void enrichFromPageMeta(Document doc, ApiDetailParseResult result) {
@@ -601,7 +581,7 @@ public class DataGoKrClient {
             extractMetaField(fullText, "분류체계", result::setCategory);
         }
         // dt/dd에서 추출
-        for (Element dt : doc.select("dt, th")) {
+        for (Element dt : rules.detailMetaLabels.all(doc)) {
             String label = dt.text().trim();
             Element value = dt.nextElementSibling();
             if (value == null) continue;
@@ -612,21 +592,14 @@ public class DataGoKrClient {
         }
     }
 
-    private String textOrNull(JsonNode node, String field) {
-        JsonNode child = node.path(field);
-        if (child.isMissingNode() || child.isNull()) return null;
-        String text = child.asText().trim();
-        return text.isEmpty() ? null : text;
-    }
-
     // ========== Legacy 파싱 (2순위: paramList + AJAX) ==========
 
-    private ApiDetailParseResult parseLegacyDetailPage(Document doc, String html, String publicDataPk, Map<String, String> cookies) {
+    private ApiDetailParseResult parseLegacyDetailPage(Document doc, String html, String publicDataPk) {
         var builder = ApiDetailParseResult.builder().publicDataPk(publicDataPk);
         String fullText = doc.text();
 
         // --- API 이름 ---
-        Element titleEl = doc.selectFirst("h3.tit, .tit, h2");
+        Element titleEl = rules.detailTitle.first(doc);
         if (titleEl != null) {
             String title = titleEl.text().trim();
             if (title.contains("|")) title = title.substring(0, title.indexOf("|")).trim();
@@ -647,7 +620,7 @@ public class DataGoKrClient {
         extractMetaFromPage(doc, fullText, builder);
 
         // --- 설명 ---
-        Element metaDesc = doc.selectFirst("meta[name=description]");
+        Element metaDesc = rules.detailMetaDescription.first(doc);
         if (metaDesc != null && !metaDesc.attr("content").isBlank()) {
             builder.description(metaDesc.attr("content").trim());
         }
@@ -657,7 +630,7 @@ public class DataGoKrClient {
         builder.serviceUrl(serviceUrl);
 
         // --- oprtinSeqNo ---
-        String oprtinSeqNo = extractJsVariable(html, JS_OPRTIN_SEQ);
+        String oprtinSeqNo = rules.detailOprtinSeq.findGroup(html, 1);
 
         // --- 오퍼레이션 목록 ---
         List<ApiDetailParseResult.OperationInfo> operations = parseLegacyOperations(doc, html, serviceUrl, oprtinSeqNo);
@@ -668,18 +641,17 @@ public class DataGoKrClient {
             operations.get(0).getRequestParams().addAll(requestParams);
         }
 
-        // --- AJAX로 응답 필드 ---
-        fetchResponseFieldsFromAjax(operations, publicDataPk, cookies);
-
         builder.operations(operations);
         return builder.build();
     }
 
-    private List<ApiDetailParseResult.ParameterInfo> parseJsParamList(String html) {
+    // 패키지 범위: src/jmh 벤치마크에서 직접 호출
+    List<ApiDetailParseResult.ParameterInfo> parseJsParamList(String html) {
         List<ApiDetailParseResult.ParameterInfo> params = new ArrayList<>();
-        Matcher blockMatcher = JS_PARAM_BLOCK.matcher(html);
+        Matcher blockMatcher = rules.detailJsParamBlock.find(html);
+        if (blockMatcher == null) return params;
 
-        while (blockMatcher.find()) {
+        do {
             String block = blockMatcher.group(1);
             Map<String, String> props = new java.util.HashMap<>();
             Matcher propMatcher = JS_PROP_PATTERN.matcher(block);
@@ -696,41 +668,94 @@ public class DataGoKrClient {
                     .sampleData(props.getOrDefault("paramtrBassValue", ""))
                     .size(props.getOrDefault("paramtrSize", ""))
                     .build());
-        }
+        } while (blockMatcher.find());
         log.debug("Parsed {} request parameters from JavaScript paramList", params.size());
         return params;
     }
 
-    private void fetchResponseFieldsFromAjax(List<ApiDetailParseResult.OperationInfo> operations,
+    /**
+     * 오퍼레이션별 응답 필드를 {@code selectApiDetailFunction.do}에서 조회한다.
+     * 상세 페이지에서 받은 세션 쿠키를 공유하여 최대 {@code detail-ajax-concurrency}개씩 동시에 요청하고,
+     * 전체 소요 시간은 {@code detail-ajax-budget}으로 제한한다. 파싱은 호출 스레드에서 순서대로 수행한다.
+     *
+     * @return 모든 오퍼레이션의 응답을 받았으면 true, 시간 초과·거절·오류로 하나라도 빠졌으면 false
+     */
+    private boolean fetchResponseFieldsFromAjax(List<ApiDetailParseResult.OperationInfo> operations,
                                               String publicDataPk, Map<String, String> cookies) {
-        for (ApiDetailParseResult.OperationInfo op : operations) {
-            String seqNo = op.getOprtinSeqNo();
-            if (seqNo == null || seqNo.isBlank()) continue;
+        List<ApiDetailParseResult.OperationInfo> targets = operations.stream()
+                .filter(op -> op.getOprtinSeqNo() != null && !op.getOprtinSeqNo().isBlank())
+                .toList();
+        if (targets.isEmpty()) return true;
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getDetailAjaxBudget());
+        int callTimeout = Math.min(properties.getReadTimeout(), properties.getDetailAjaxBudget());
+        Semaphore permits = new Semaphore(Math.max(1, properties.getDetailAjaxConcurrency()));
+
+        List<Future<Document>> futures = new ArrayList<>(targets.size());
+        for (ApiDetailParseResult.OperationInfo op : targets) {
+            futures.add(ajaxExecutor.submit(() -> {
+                permits.acquire();
+                try {
+                    Connection.Response ajax = portalGuard.call(PortalEndpoint.AJAX, () -> postAjaxDetail(
+                            op.getOprtinSeqNo(), publicDataPk, cookies, callTimeout));
+                    String body = ajax.body();
+                    snapshotStore.save(PageSnapshotStore.Kind.AJAX, ajaxSnapshotKey(publicDataPk, op.getOprtinSeqNo()),
+                            detailFunctionUrl + "?oprtinSeqNo=" + op.getOprtinSeqNo() + "&publicDataPk=" + publicDataPk,
+                            body);
+                    return Jsoup.parse(body, detailFunctionUrl);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
 
+        boolean complete = true;
+        for (int i = 0; i < targets.size(); i++) {
+            ApiDetailParseResult.OperationInfo op = targets.get(i);
+            Future<Document> future = futures.get(i);
             try {
-                Document ajaxDoc = Jsoup.connect(DETAIL_FUNCTION_URL)
-                        .method(Connection.Method.POST)
-                        .data("oprtinSeqNo", seqNo)
-                        .data("publicDataPk", publicDataPk)
-                        .data("publicDataDetailPk", publicDataPk)
-                        .cookies(cookies)
-                        .header("X-Requested-With", "XMLHttpRequest")
-                        .header("Referer", String.format(DETAIL_URL, publicDataPk))
-                        .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                        .timeout(properties.getReadTimeout())
-                        .post();
-
+                Document ajaxDoc = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
                 parseAjaxResponseTables(ajaxDoc, op);
                 log.debug("AJAX detail for oprtinSeqNo={}: req={}, res={}",
-                        seqNo, op.getRequestParams().size(), op.getResponseFields().size());
-            } catch (IOException e) {
-                log.warn("Failed to fetch AJAX detail for oprtinSeqNo={}: {}", seqNo, e.getMessage());
+                        op.getOprtinSeqNo(), op.getRequestParams().size(), op.getResponseFields().size());
+            } catch (TimeoutException e) {
+                log.warn("AJAX detail budget ({}ms) exceeded for pk={}, skipping {} remaining operations",
+                        properties.getDetailAjaxBudget(), publicDataPk, targets.size() - i);
+                futures.subList(i, futures.size()).forEach(f -> f.cancel(true));
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.subList(i, futures.size()).forEach(f -> f.cancel(true));
+                return false;
+            } catch (ExecutionException e) {
+                log.warn("Failed to fetch AJAX detail for oprtinSeqNo={}: {}", op.getOprtinSeqNo(), e.getCause().getMessage());
+                complete = false;
             }
         }
+        return complete;
+    }
+
+    private Connection.Response postAjaxDetail(String oprtinSeqNo, String publicDataPk, Map<String, String> cookies,
+                                               int callTimeout) {
+        try {
+            return Jsoup.connect(detailFunctionUrl)
+                    .method(Connection.Method.POST)
+                    .data("oprtinSeqNo", oprtinSeqNo)
+                    .data("publicDataPk", publicDataPk)
+                    .data("publicDataDetailPk", publicDataPk)
+                    .cookies(cookies)
+                    .header("X-Requested-With", "XMLHttpRequest")
+                    .header("Referer", String.format(detailUrl, publicDataPk))
+                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
+                    .timeout(callTimeout)
+                    .execute();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private void parseAjaxResponseTables(Document ajaxDoc, ApiDetailParseResult.OperationInfo operation) {
-        Elements tables = ajaxDoc.select("table");
+        Elements tables = rules.ajaxTables.all(ajaxDoc);
         for (Element table : tables) {
             String context = "";
             Element prev = table.previousElementSibling();
@@ -740,13 +765,13 @@ public class DataGoKrClient {
                 Element parentPrev = parent.previousElementSibling();
                 if (parentPrev != null) context = parentPrev.text();
             }
-            Element caption = table.selectFirst("caption");
+            Element caption = rules.ajaxTableCaption.first(table);
             if (caption != null && context.isEmpty()) context = caption.text();
 
             boolean isResponse = context.contains("출력") || context.contains("응답")
                     || context.contains("Response") || context.contains("결과");
 
-            Elements rows = table.select("tbody tr, tr:has(td)");
+            Elements rows = rules.ajaxTableRows.all(table);
             for (Element row : rows) {
                 Elements cells = row.select("td");
                 if (cells.size() < 2) continue;
@@ -778,7 +803,7 @@ public class DataGoKrClient {
                                                                             String serviceUrl, String defaultOprtinSeqNo) {
         List<ApiDetailParseResult.OperationInfo> operations = new ArrayList<>();
 
-        Elements options = doc.select("#open_api_detail_select option, select[name*=oprtin] option");
+        Elements options = rules.detailOperationOptions.all(doc);
         if (!options.isEmpty()) {
             for (Element option : options) {
                 String val = option.val();
@@ -794,7 +819,7 @@ public class DataGoKrClient {
 
         if (operations.isEmpty()) {
             String opName = null;
-            Element opEl = doc.selectFirst("h3.tit, .tit, h2");
+            Element opEl = rules.detailTitle.first(doc);
             if (opEl != null) opName = opEl.text().trim();
             operations.add(ApiDetailParseResult.OperationInfo.builder()
                     .oprtinSeqNo(defaultOprtinSeqNo)
@@ -806,15 +831,10 @@ public class DataGoKrClient {
         return operations;
     }
 
-    private String extractJsVariable(String html, Pattern pattern) {
-        Matcher m = pattern.matcher(html);
-        return m.find() ? m.group(1) : null;
-    }
-
     // ========== 공통 유틸 ==========
 
     private void extractMetaFromPage(Document doc, String fullText, ApiDetailParseResult.ApiDetailParseResultBuilder builder) {
-        for (Element dt : doc.select("dt, th")) {
+        for (Element dt : rules.detailMetaLabels.all(doc)) {
             String label = dt.text().trim();
             Element value = dt.nextElementSibling();
             if (value == null) continue;
@@ -832,17 +852,17 @@ public class DataGoKrClient {
     }
 
     private String extractServiceUrl(String html, String fullText, Document doc) {
-        String jsUrl = extractJsVariable(html, JS_OPRTIN_URL);
+        String jsUrl = rules.detailServiceUrlJs.findGroup(html, 1);
         if (jsUrl != null && !jsUrl.isBlank()) return jsUrl;
 
-        Matcher urlMatcher = Pattern.compile("(?:서비스URL|요청주소|EndPoint)[\\s:]*?(https?://[^\\s\"'<>]+)").matcher(fullText);
-        if (urlMatcher.find()) return urlMatcher.group(1).trim();
+        String labeledUrl = rules.detailServiceUrlText.findGroup(fullText, 1);
+        if (labeledUrl != null) return labeledUrl.trim();
 
-        Element urlEl = doc.selectFirst("input[name=serviceUrl], input[name=endpointUrl]");
+        Element urlEl = rules.detailServiceUrlInput.first(doc);
         if (urlEl != null && !urlEl.val().isBlank()) return urlEl.val();
 
-        Matcher apisMatcher = Pattern.compile("(https?://apis\\.data\\.go\\.kr[^\\s\"'<>]+)").matcher(html);
-        if (apisMatcher.find()) return apisMatcher.group(1).trim();
+        String apisUrl = rules.detailServiceUrlHtml.findGroup(html, 1);
+        if (apisUrl != null) return apisUrl.trim();
 
         return null;
     }
@@ -865,35 +885,65 @@ public class DataGoKrClient {
 
     /**
      * 임의의 공공데이터 REST API를 프록시로 호출 (테스트 콘솔용)
+     * 공유 커넥션 풀({@link DataGoKrHttpClientConfig})을 통해 연결을 재사용하며,
+     * 호출 스레드를 블로킹하지 않도록 {@link Mono}로 결과를 반환한다.
      */
-    public String proxyCall(String targetUrl, Map<String, String> params) {
-        try {
-            return WebClient.create()
-                    .get()
-                    .uri(uriBuilder -> {
-                        uriBuilder.scheme("https");
-                        String cleanUrl = targetUrl.replaceFirst("^https?://", "");
-                        int pathIdx = cleanUrl.indexOf('/');
-                        if (pathIdx > 0) {
-                            uriBuilder.host(cleanUrl.substring(0, pathIdx));
-                            uriBuilder.path(cleanUrl.substring(pathIdx));
-                        } else {
-                            uriBuilder.host(cleanUrl);
-                        }
-                        params.forEach(uriBuilder::queryParam);
-                        return uriBuilder.build();
-                    })
-                    .accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaType.TEXT_XML)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofMillis(properties.getReadTimeout()))
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("Proxy call HTTP error: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new DataGoKrApiException("API 프록시 호출 실패: " + e.getStatusCode(), e);
-        } catch (Exception e) {
-            log.error("Proxy call failed: url={}", targetUrl, e);
-            throw new DataGoKrApiException("API 프록시 호출 실패", e);
+    public Mono<String> proxyCall(String targetUrl, Map<String, String> params) {
+        return portalGuard.proxy(proxyHost(targetUrl), () -> webClient
+                .get()
+                .uri(uriBuilder -> buildProxyUri(uriBuilder, targetUrl, params))
+                .accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaType.TEXT_XML)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofMillis(properties.getReadTimeout()))
+                .onErrorMap(e -> !(e instanceof DataGoKrApiException), e -> toProxyException(targetUrl, e)));
+    }
+
+    /**
+     * 프록시 응답 본문을 메모리에 적재하지 않고 {@link DataBuffer} 스트림으로 반환한다 (대용량 응답용).
+     * 업스트림 상태코드는 오류로 변환하지 않고 그대로 전달한다.
+     */
+    public Mono<ResponseEntity<Flux<DataBuffer>>> proxyStream(String targetUrl, Map<String, String> params) {
+        return portalGuard.proxy(proxyHost(targetUrl), () -> webClient
+                .get()
+                .uri(uriBuilder -> buildProxyUri(uriBuilder, targetUrl, params))
+                .accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaType.TEXT_XML)
+                .retrieve()
+                .onStatus(status -> true, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .timeout(Duration.ofMillis(properties.getReadTimeout()))
+                .onErrorMap(e -> !(e instanceof DataGoKrApiException), e -> toProxyException(targetUrl, e)));
+    }
+
+    /**
+     * {@link #buildProxyUri}가 요청을 보낼 호스트 (호스트별 한도·회로 키)
+     */
+    static String proxyHost(String targetUrl) {
+        String cleanUrl = targetUrl.replaceFirst("^https?://", "");
+        int pathIdx = cleanUrl.indexOf('/');
+        return pathIdx > 0 ? cleanUrl.substring(0, pathIdx) : cleanUrl;
+    }
+
+    private URI buildProxyUri(UriBuilder uriBuilder, String targetUrl, Map<String, String> params) {
+        uriBuilder.scheme("https");
+        String cleanUrl = targetUrl.replaceFirst("^https?://", "");
+        int pathIdx = cleanUrl.indexOf('/');
+        if (pathIdx > 0) {
+            uriBuilder.host(cleanUrl.substring(0, pathIdx));
+            uriBuilder.path(cleanUrl.substring(pathIdx));
+        } else {
+            uriBuilder.host(cleanUrl);
+        }
+        params.forEach(uriBuilder::queryParam);
+        return uriBuilder.build();
+    }
+
+    private DataGoKrApiException toProxyException(String targetUrl, Throwable e) {
+        if (e instanceof WebClientResponseException we) {
+            log.error("Proxy call HTTP error: status={}, body={}", we.getStatusCode(), we.getResponseBodyAsString());
+            return new DataGoKrApiException("API 프록시 호출 실패: " + we.getStatusCode(), we);
         }
+        log.error("Proxy call failed: url={}", targetUrl, e);
+        return new DataGoKrApiException("API 프록시 호출 실패", e);
     }
 }
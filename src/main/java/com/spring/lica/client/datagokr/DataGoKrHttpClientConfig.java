@@ -0,0 +1,83 @@
+package com.spring.lica.client.datagokr;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * data.go.kr 업스트림 호출에 사용하는 공유 Reactor Netty 커넥션 풀과 WebClient.
+ *
+ * <p>모든 프록시 호출이 하나의 풀을 공유하여 DNS·TCP·TLS 핸드셰이크를 재사용한다.
+ * 풀 크기와 유휴 정리 주기는 {@link DataGoKrProperties#getPool()}로, 호스트별 값은
+ * {@link DataGoKrProperties#getHosts()}로 조정한다.</p>
+ */
+@Slf4j
+@Configuration
+public class DataGoKrHttpClientConfig {
+
+    private static final int MAX_IN_MEMORY_SIZE = 10 * 1024 * 1024;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider dataGoKrConnectionProvider(DataGoKrProperties properties) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("datagokr");
+        applyPool(builder, properties.getPool(), properties.isMetricsEnabled());
+
+        properties.getHosts().forEach((host, pool) -> {
+            builder.forRemoteHost(toAddress(host),
+                    spec -> applyPool(spec, pool, properties.isMetricsEnabled()));
+            log.info("Connection pool override for {}: maxConnections={}", host, pool.getMaxConnections());
+        });
+        return builder.build();
+    }
+
+    @Bean
+    public WebClient dataGoKrWebClient(WebClient.Builder webClientBuilder,
+                                       ConnectionProvider dataGoKrConnectionProvider,
+                                       DataGoKrProperties properties) {
+        HttpClient httpClient = HttpClient.create(dataGoKrConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeout())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(properties.getReadTimeout()))
+                // URI별 태그는 카디널리티가 폭증하므로 고정값 사용
+                .metrics(properties.isMetricsEnabled(), uri -> "/proxy");
+
+        if (properties.isHttp2Enabled()) {
+            // TLS ALPN 협상 결과에 따라 h2 또는 HTTP/1.1 사용
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                .build();
+    }
+
+    private static <S extends ConnectionProvider.ConnectionPoolSpec<S>> void applyPool(
+            S spec, DataGoKrProperties.Pool pool, boolean metricsEnabled) {
+        spec.maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeout()))
+                .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTime()))
+                .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTime()))
+                .evictInBackground(Duration.ofMillis(pool.getEvictionInterval()))
+                .metrics(metricsEnabled);
+    }
+
+    private static InetSocketAddress toAddress(String host) {
+        int idx = host.lastIndexOf(':');
+        if (idx > 0) {
+            return InetSocketAddress.createUnresolved(host.substring(0, idx), Integer.parseInt(host.substring(idx + 1)));
+        }
+        return InetSocketAddress.createUnresolved(host, 443);
+    }
+}
@@ -1,10 +1,17 @@
 package com.spring.lica.client.datagokr;
 
+import com.spring.lica.client.datagokr.snapshot.PageSnapshotStore;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 @Getter
 @Setter
 @Component
@@ -12,7 +19,113 @@ import org.springframework.stereotype.Component;
 public class DataGoKrProperties {
 
     private String baseUrl = "https://apis.data.go.kr";
+    /**
+     * 검색·상세·AJAX 스크래핑 대상 포털 주소 (부하 테스트 시 로컬 스텁으로 교체)
+     */
     private String portalUrl = "https://www.data.go.kr";
     private int connectTimeout = 5000;
     private int readTimeout = 15000;
+
+    /**
+     * 업스트림(apis.data.go.kr 등) 호출용 공유 커넥션 풀 설정
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * 호스트별 커넥션 풀 오버라이드 (키: host 또는 host:port, 포트 생략 시 443)
+     */
+    private Map<String, Pool> hosts = new LinkedHashMap<>();
+
+    /**
+     * 호출 분류(search/detail/ajax/proxy)별 적응형 동시성 한도와 회로 차단기
+     */
+    private Resilience resilience = new Resilience();
+
+    /**
+     * 서버가 ALPN으로 제공할 때 HTTP/2 사용
+     */
+    private boolean http2Enabled = true;
+
+    /**
+     * 커넥션 풀 / HTTP 클라이언트 Micrometer 메트릭 수집
+     */
+    private boolean metricsEnabled = true;
+
+    /**
+     * Legacy 상세 페이지에서 오퍼레이션별 AJAX 조회를 동시에 보내는 최대 개수 (API 1건 기준)
+     */
+    private int detailAjaxConcurrency = 4;
+
+    /**
+     * API 1건의 오퍼레이션별 AJAX 조회 전체에 허용하는 시간(ms). 초과분은 응답 필드 없이 반환한다.
+     */
+    private int detailAjaxBudget = 20000;
+
+    /**
+     * 검색 페이지를 스트리밍 파싱 (결과 항목이 완성되는 즉시 변환하고 perPage건과 총 건수를 얻으면 읽기 중단)
+     */
+    private boolean searchStreaming = true;
+
+    /**
+     * 포털에서 받은 원본 HTML을 디스크에 보관 (재파싱용)
+     */
+    private boolean snapshotEnabled = false;
+
+    /**
+     * 보관할 페이지 종류. SEARCH를 넣으면 검색 페이지는 스트리밍 파싱 대신 본문 전체를 받아 저장한다.
+     */
+    private Set<PageSnapshotStore.Kind> snapshotKinds =
+            EnumSet.of(PageSnapshotStore.Kind.DETAIL, PageSnapshotStore.Kind.AJAX);
+
+    /**
+     * 스냅샷 보관 디렉터리
+     */
+    private String snapshotDir = "data/snapshots";
+
+    /**
+     * 이 일수보다 오래된 스냅샷 참조를 정리한다 (0이면 보관 기간 제한 없음). 참조가 없는 본문은 항상 정리한다.
+     */
+    private int snapshotRetentionDays = 30;
+
+    /**
+     * 스냅샷 정리 주기(ms)
+     */
+    private long snapshotPruneInterval = 86_400_000;
+
+    /**
+     * 끌 스크래핑 규칙 ("rule" 또는 "rule/alternative", 예: search.total-text)
+     */
+    private Set<String> scrapeDisabledRules = new HashSet<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 200;
+        private int pendingAcquireTimeout = 5000;
+        private int maxIdleTime = 30000;
+        private int maxLifeTime = 300000;
+        private int evictionInterval = 30000;
+    }
+
+    @Getter
+    @Setter
+    public static class Resilience {
+        private boolean enabled = true;
+        /** 동시 호출 한도 초기값 / 최소 / 최대 */
+        private int initialLimit = 8;
+        private int minLimit = 1;
+        private int maxLimit = 32;
+        /** 이보다 느린 응답(ms)은 한도를 줄인다 */
+        private long latencyThreshold = 3000;
+        /** 실패·지연 시 한도에 곱하는 비율 */
+        private double backoffRatio = 0.7;
+        /** 실패율 계산에 쓰는 최근 호출 수와 최소 호출 수 */
+        private int windowSize = 20;
+        private int minimumCalls = 5;
+        /** 회로를 여는 실패율(%) */
+        private int failureRateThreshold = 50;
+        /** 회로를 연 뒤 시험 호출까지 대기 시간(ms) */
+        private long openDuration = 30000;
+    }
 }
@@ -0,0 +1,12 @@
+package com.spring.lica.client.datagokr;
+
+/**
+ * 회로 차단기가 열려 있거나 동시 호출 한도를 넘어 포털 호출을 보내지 않고 즉시 실패한 경우.
+ * 호출자는 로컬 데이터로 폴백한다.
+ */
+public class PortalUnavailableException extends DataGoKrApiException {
+
+    public PortalUnavailableException(String message) {
+        super(message);
+    }
+}
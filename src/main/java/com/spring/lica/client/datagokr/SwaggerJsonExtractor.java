@@ -0,0 +1,549 @@
+package com.spring.lica.client.datagokr;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.spring.lica.client.datagokr.dto.ApiDetailParseResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상세 페이지에 내장된 {@code var swaggerJson = `...`} 리터럴을 스트리밍으로 파싱한다.
+ *
+ * <p>정규식 대신 {@code indexOf}로 리터럴 경계를 찾고, 원본 HTML 문자열의 해당 구간을 복사 없이
+ * Jackson {@link JsonParser}에 공급한다. 가장 큰 부분인 {@code swaggerOprtinVOs}(reqList/resList)는
+ * 토큰을 읽으면서 곧바로 {@link ApiDetailParseResult}로 만들고, JSON 트리는 만들지 않는다.
+ * 표준 Swagger {@code paths} 방식(fallback)만 $ref 해석을 위해 {@code paths}/{@code definitions} 트리를 사용한다.</p>
+ */
+@Slf4j
+final class SwaggerJsonExtractor {
+
+    private static final String MARKER = "swaggerJson";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SwaggerJsonExtractor() {
+    }
+
+    /**
+     * Swagger JSON이 없거나 파싱할 수 없으면 null.
+     */
+    static ApiDetailParseResult parse(String html, String publicDataPk) {
+        int[] bounds = locate(html);
+        if (bounds == null) return null;
+
+        try (JsonParser parser = objectMapper.createParser(new RegionReader(html, bounds[0], bounds[1]))) {
+            return parseSwaggerSpec(parser, publicDataPk);
+        } catch (Exception e) {
+            log.warn("Failed to parse Swagger JSON for pk={}: {}", publicDataPk, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * {@code var swaggerJson = `...`} (또는 작은따옴표) 리터럴 내용의 [시작, 끝) 위치.
+     * 앞뒤 공백을 제외하며, 비어 있으면 null.
+     */
+    static int[] locate(String html) {
+        int from = 0;
+        int idx;
+        while ((idx = html.indexOf(MARKER, from)) >= 0) {
+            from = idx + MARKER.length();
+            if (!precededByVar(html, idx)) continue;
+
+            int i = skipWhitespace(html, from);
+            if (i >= html.length() || html.charAt(i) != '=') continue;
+            i = skipWhitespace(html, i + 1);
+            if (i >= html.length() || (html.charAt(i) != '`' && html.charAt(i) != '\'')) continue;
+
+            int start = i + 1;
+            int end = start;
+            while (end < html.length() && html.charAt(end) != '`' && html.charAt(end) != '\'') end++;
+            if (end >= html.length()) return null;
+
+            while (start < end && Character.isWhitespace(html.charAt(start))) start++;
+            while (end > start && Character.isWhitespace(html.charAt(end - 1))) end--;
+            return start < end ? new int[]{start, end} : null;
+        }
+        return null;
+    }
+
+    private static boolean precededByVar(String html, int idx) {
+        int i = idx - 1;
+        if (i < 0 || !Character.isWhitespace(html.charAt(i))) return false;
+        while (i >= 0 && Character.isWhitespace(html.charAt(i))) i--;
+        if (i < 2 || !html.startsWith("var", i - 2)) return false;
+        return i - 3 < 0 || !Character.isJavaIdentifierPart(html.charAt(i - 3));
+    }
+
+    private static int skipWhitespace(String s, int i) {
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+        return i;
+    }
+
+    private static ApiDetailParseResult parseSwaggerSpec(JsonParser p, String publicDataPk) throws IOException {
+        var builder = ApiDetailParseResult.builder().publicDataPk(publicDataPk);
+        builder.apiType("REST");
+
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Swagger JSON root is not an object");
+        }
+
+        List<PendingOperation> voOperations = new ArrayList<>();
+        Map<String, String> operationIdToMethod = new HashMap<>();
+        String[] dataFormat = new String[1];
+        // swaggerOprtinVOs를 만나기 전에 나온 paths/definitions는 fallback용으로 트리로 보관
+        ObjectNode fallbackRoot = objectMapper.createObjectNode();
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "info" -> readInfo(p, builder);
+                case "swaggerOprtinVOs" -> {
+                    if (value == JsonToken.START_ARRAY) readOprtinVOs(p, voOperations);
+                    else p.skipChildren();
+                }
+                case "paths" -> {
+                    if (voOperations.isEmpty()) {
+                        JsonNode paths = p.readValueAsTree();
+                        fallbackRoot.set("paths", paths);
+                    } else {
+                        scanPaths(p, operationIdToMethod, dataFormat);
+                    }
+                }
+                case "definitions", "host", "basePath", "schemes" -> {
+                    if (voOperations.isEmpty()) fallbackRoot.set(field, p.readValueAsTree());
+                    else p.skipChildren();
+                }
+                default -> p.skipChildren();
+            }
+        }
+
+        // 1순위: swaggerOprtinVOs (data.go.kr 전용, 기본값·실제 URL 포함)
+        if (!voOperations.isEmpty()) {
+            log.debug("Parsed swaggerOprtinVOs ({} operations)", voOperations.size());
+            JsonNode pathsTree = fallbackRoot.get("paths");
+            if (pathsTree != null) {
+                try (JsonParser pathsParser = pathsTree.traverse(objectMapper)) {
+                    pathsParser.nextToken();
+                    scanPaths(pathsParser, operationIdToMethod, dataFormat);
+                }
+            }
+            List<ApiDetailParseResult.OperationInfo> operations = new ArrayList<>(voOperations.size());
+            for (PendingOperation pending : voOperations) {
+                pending.operation().setHttpMethod(operationIdToMethod.getOrDefault(pending.operationId(), "GET"));
+                operations.add(pending.operation());
+            }
+            if (dataFormat[0] != null) builder.dataFormat(dataFormat[0]);
+            // serviceUrl: 첫 번째 오퍼레이션의 URL 사용
+            if (operations.get(0).getEndpointUrl() != null) {
+                builder.serviceUrl(operations.get(0).getEndpointUrl());
+            }
+            builder.operations(operations);
+            return builder.build();
+        }
+
+        // 2순위: 표준 Swagger paths (path-level 파라미터 포함)
+        log.debug("No swaggerOprtinVOs, falling back to standard Swagger paths");
+        parseFromSwaggerPaths(fallbackRoot, builder);
+        return builder.build();
+    }
+
+    private static void readInfo(JsonParser p, ApiDetailParseResult.ApiDetailParseResultBuilder builder) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "title" -> builder.apiName(text(p));
+                case "description" -> builder.description(text(p));
+                default -> p.skipChildren();
+            }
+        }
+    }
+
+    // ========== swaggerOprtinVOs 파싱 (data.go.kr 전용, 가장 풍부한 데이터) ==========
+
+    private static void readOprtinVOs(JsonParser p, List<PendingOperation> operations) throws IOException {
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            String opUrl = null;
+            String opName = null;
+            String operationId = null;
+            List<ApiDetailParseResult.ParameterInfo> reqParams = new ArrayList<>();
+            List<ApiDetailParseResult.ParameterInfo> resFields = new ArrayList<>();
+
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (field) {
+                    case "oprtinUrl" -> opUrl = text(p);
+                    case "oprtinNm" -> opName = text(p);
+                    case "operationId" -> operationId = text(p);
+                    case "reqList" -> {
+                        if (value == JsonToken.START_ARRAY) readReqList(p, reqParams);
+                        else p.skipChildren();
+                    }
+                    case "resList" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            // resList → responseFields (중첩 subParam 평탄화)
+                            for (ResNode node : readResList(p)) node.flattenInto(resFields, "");
+                        } else {
+                            p.skipChildren();
+                        }
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+
+            ApiDetailParseResult.OperationInfo operation = ApiDetailParseResult.OperationInfo.builder()
+                    .operationName(opName != null ? opName : operationId)
+                    .endpointUrl(opUrl)
+                    .requestParams(reqParams)
+                    .responseFields(resFields)
+                    .build();
+            operations.add(new PendingOperation(operation, operationId));
+        }
+    }
+
+    private static void readReqList(JsonParser p, List<ApiDetailParseResult.ParameterInfo> reqParams) throws IOException {
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            var param = ApiDetailParseResult.ParameterInfo.builder();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "paramtrNm" -> param.nameEng(text(p));
+                    case "paramtrDc" -> param.description(text(p));
+                    case "paramtrTy" -> param.size(text(p));
+                    case "paramtrDivision" -> param.division(text(p));
+                    case "paramtrBassValue" -> {
+                        String defaultVal = text(p);
+                        param.sampleData("-".equals(defaultVal) ? null : defaultVal);
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            reqParams.add(param.build());
+        }
+    }
+
+    /**
+     * resList 항목은 subParam이 paramtrNm보다 먼저 나올 수 있으므로 작은 노드로 읽은 뒤 평탄화한다.
+     */
+    private static List<ResNode> readResList(JsonParser p) throws IOException {
+        List<ResNode> nodes = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            String name = null;
+            String type = null;
+            String desc = null;
+            List<ResNode> children = List.of();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (field) {
+                    case "paramtrNm" -> name = text(p);
+                    case "paramtrTy" -> type = text(p);
+                    case "paramtrDc" -> desc = text(p);
+                    case "subParam" -> {
+                        if (value == JsonToken.START_ARRAY) children = readResList(p);
+                        else p.skipChildren();
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            nodes.add(new ResNode(name, type, desc, children));
+        }
+        return nodes;
+    }
+
+    /**
+     * paths에서 operationId → HTTP 메서드, produces → dataFormat을 추출한다. 파서는 paths 객체의 시작 토큰에 있어야 한다.
+     */
+    private static void scanPaths(JsonParser p, Map<String, String> operationIdToMethod, String[] dataFormat)
+            throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String method = p.currentName().toUpperCase();
+                if (p.nextToken() != JsonToken.START_OBJECT || "PARAMETERS".equals(method)) {
+                    p.skipChildren();
+                    continue;
+                }
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    JsonToken value = p.nextToken();
+                    if ("operationId".equals(field)) {
+                        String opId = text(p);
+                        if (opId != null) operationIdToMethod.put(opId, method);
+                    } else if ("produces".equals(field) && value == JsonToken.START_ARRAY) {
+                        List<String> formats = new ArrayList<>();
+                        while (p.nextToken() != JsonToken.END_ARRAY) {
+                            String v = p.getValueAsString("");
+                            if (v.contains("json")) formats.add("JSON");
+                            if (v.contains("xml")) formats.add("XML");
+                            p.skipChildren();
+                        }
+                        if (!formats.isEmpty()) dataFormat[0] = String.join("+", formats);
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 스칼라 토큰의 값 (공백 제거, 비어 있거나 null이면 null). 객체·배열이면 건너뛰고 null.
+     */
+    private static String text(JsonParser p) throws IOException {
+        if (p.currentToken().isStructStart()) {
+            p.skipChildren();
+            return null;
+        }
+        String value = p.getValueAsString();
+        if (value == null) return null;
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // ========== 표준 Swagger paths 파싱 (fallback) ==========
+
+    private static void parseFromSwaggerPaths(JsonNode root,
+                                        ApiDetailParseResult.ApiDetailParseResultBuilder builder) {
+        // host + basePath → serviceUrl
+        String host = textOrNull(root, "host");
+        String basePath = textOrNull(root, "basePath");
+        String scheme = "https";
+        JsonNode schemes = root.path("schemes");
+        if (schemes.isArray() && !schemes.isEmpty()) {
+            scheme = schemes.get(0).asText("https");
+        }
+        String baseUrl = (host != null) ? scheme + "://" + host + (basePath != null ? basePath : "") : null;
+        builder.serviceUrl(baseUrl);
+
+        JsonNode definitions = root.path("definitions");
+
+        List<ApiDetailParseResult.OperationInfo> operations = new ArrayList<>();
+        JsonNode paths = root.path("paths");
+        if (paths.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> pathIter = paths.fields();
+            while (pathIter.hasNext()) {
+                Map.Entry<String, JsonNode> pathEntry = pathIter.next();
+                String pathUrl = pathEntry.getKey();
+                JsonNode pathNode = pathEntry.getValue();
+
+                // path-level 파라미터 수집
+                List<JsonNode> pathLevelParams = new ArrayList<>();
+                JsonNode pathParams = pathNode.path("parameters");
+                if (pathParams.isArray()) {
+                    for (JsonNode pp : pathParams) pathLevelParams.add(pp);
+                }
+
+                Iterator<Map.Entry<String, JsonNode>> methodIter = pathNode.fields();
+                while (methodIter.hasNext()) {
+                    Map.Entry<String, JsonNode> methodEntry = methodIter.next();
+                    String httpMethod = methodEntry.getKey().toUpperCase();
+                    if ("PARAMETERS".equals(httpMethod)) continue;
+                    JsonNode opNode = methodEntry.getValue();
+
+                    String endpointUrl = baseUrl != null ? baseUrl + pathUrl : pathUrl;
+                    String summary = textOrNull(opNode, "summary");
+                    String operationId = textOrNull(opNode, "operationId");
+
+                    var opBuilder = ApiDetailParseResult.OperationInfo.builder()
+                            .operationName(summary != null ? summary : (operationId != null ? operationId : pathUrl))
+                            .httpMethod(httpMethod)
+                            .endpointUrl(endpointUrl);
+
+                    // 파라미터: operation-level + path-level 병합
+                    List<ApiDetailParseResult.ParameterInfo> reqParams = new ArrayList<>();
+                    List<JsonNode> allParams = new ArrayList<>(pathLevelParams);
+                    JsonNode opParams = opNode.path("parameters");
+                    if (opParams.isArray()) {
+                        for (JsonNode op : opParams) allParams.add(op);
+                    }
+
+                    for (JsonNode p : allParams) {
+                        String paramType = textOrNull(p, "type");
+                        if (paramType == null && p.has("schema")) {
+                            paramType = textOrNull(p.path("schema"), "type");
+                        }
+                        String sampleData = textOrNull(p, "example");
+                        if (sampleData == null) sampleData = textOrNull(p, "default");
+
+                        reqParams.add(ApiDetailParseResult.ParameterInfo.builder()
+                                .nameEng(textOrNull(p, "name"))
+                                .description(textOrNull(p, "description"))
+                                .size(paramType)
+                                .division(p.path("required").asBoolean(false) ? "필수" : "옵션")
+                                .sampleData(sampleData)
+                                .build());
+                    }
+                    opBuilder.requestParams(reqParams);
+
+                    // responses → responseFields
+                    List<ApiDetailParseResult.ParameterInfo> resFields = new ArrayList<>();
+                    JsonNode resp200 = opNode.path("responses").path("200").path("schema");
+                    if (!resp200.isMissingNode()) {
+                        JsonNode resolved = resolveRef(resp200, definitions);
+                        extractResponseFields(resolved, resFields, "", definitions);
+                    }
+                    opBuilder.responseFields(resFields);
+
+                    operations.add(opBuilder.build());
+
+                    // dataFormat
+                    JsonNode produces = opNode.path("produces");
+                    if (produces.isArray()) {
+                        List<String> formats = new ArrayList<>();
+                        for (JsonNode p : produces) {
+                            String v = p.asText();
+                            if (v.contains("json")) formats.add("JSON");
+                            if (v.contains("xml")) formats.add("XML");
+                        }
+                        if (!formats.isEmpty()) builder.dataFormat(String.join("+", formats));
+                    }
+                }
+            }
+        }
+
+        builder.operations(operations);
+    }
+
+    /**
+     * Swagger $ref 참조를 해석하여 실제 스키마 노드를 반환한다.
+     */
+    private static JsonNode resolveRef(JsonNode node, JsonNode definitions) {
+        if (node.has("$ref")) {
+            String ref = node.get("$ref").asText();
+            if (ref.startsWith("#/definitions/") && definitions.isObject()) {
+                String modelName = ref.substring("#/definitions/".length());
+                JsonNode resolved = definitions.path(modelName);
+                if (!resolved.isMissingNode()) return resolved;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Swagger response schema에서 응답 필드를 재귀적으로 추출한다.
+     */
+    private static void extractResponseFields(JsonNode schema, List<ApiDetailParseResult.ParameterInfo> fields,
+                                        String prefix, JsonNode definitions) {
+        JsonNode resolved = resolveRef(schema, definitions);
+
+        String type = textOrNull(resolved, "type");
+        if ("array".equals(type) && resolved.has("items")) {
+            JsonNode items = resolveRef(resolved.path("items"), definitions);
+            extractResponseFields(items, fields, prefix, definitions);
+            return;
+        }
+
+        JsonNode properties = resolved.path("properties");
+        if (!properties.isObject()) return;
+
+        Iterator<Map.Entry<String, JsonNode>> iter = properties.fields();
+        while (iter.hasNext()) {
+            Map.Entry<String, JsonNode> entry = iter.next();
+            String fieldName = entry.getKey();
+            JsonNode fieldNode = resolveRef(entry.getValue(), definitions);
+            String fieldType = textOrNull(fieldNode, "type");
+            String desc = textOrNull(fieldNode, "description");
+            String fullName = prefix.isEmpty() ? fieldName : prefix + "." + fieldName;
+
+            if ("object".equals(fieldType) && fieldNode.has("properties")) {
+                extractResponseFields(fieldNode, fields, fullName, definitions);
+            } else if ("array".equals(fieldType) && fieldNode.has("items")) {
+                JsonNode items = resolveRef(fieldNode.path("items"), definitions);
+                fields.add(ApiDetailParseResult.ParameterInfo.builder()
+                        .nameEng(fullName).description(desc).size("array").build());
+                extractResponseFields(items, fields, fullName, definitions);
+            } else {
+                fields.add(ApiDetailParseResult.ParameterInfo.builder()
+                        .nameEng(fullName).description(desc).size(fieldType).build());
+            }
+        }
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode child = node.path(field);
+        if (child.isMissingNode() || child.isNull()) return null;
+        String text = child.asText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private record PendingOperation(ApiDetailParseResult.OperationInfo operation, String operationId) {}
+
+    private record ResNode(String name, String type, String desc, List<ResNode> children) {
+
+        void flattenInto(List<ApiDetailParseResult.ParameterInfo> fields, String prefix) {
+            if (name == null) return;
+            String fullName = prefix.isEmpty() ? name : prefix + "." + name;
+            fields.add(ApiDetailParseResult.ParameterInfo.builder()
+                    .nameEng(fullName)
+                    .description(desc)
+                    .size(type)
+                    .build());
+            for (ResNode child : children) child.flattenInto(fields, fullName);
+        }
+    }
+
+    /**
+     * 문자열의 [start, end) 구간을 복사 없이 읽는 Reader
+     */
+    private static final class RegionReader extends Reader {
+        private final String source;
+        private final int end;
+        private int pos;
+
+        RegionReader(String source, int start, int end) {
+            this.source = source;
+            this.pos = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (pos >= end) return -1;
+            int n = Math.min(len, end - pos);
+            source.getChars(pos, pos + n, cbuf, off);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.spring.lica.client.datagokr.dto;
+
+/**
+ * 조건부 상세 조회 결과. 304 응답이거나 본문이 이전과 같으면 {@code detail}은 null이다 (파싱 생략).
+ * 오퍼레이션별 응답 필드를 다 받지 못한 결과는 {@code validators}가 {@link DetailValidators#NONE}이라
+ * 저장해도 다음 조회가 조건부 요청으로 끝나지 않는다.
+ */
+public record DetailFetchResult(DetailValidators validators, ApiDetailParseResult detail) {
+
+    public boolean notModified() {
+        return detail == null;
+    }
+}
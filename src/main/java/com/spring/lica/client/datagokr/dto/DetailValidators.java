@@ -0,0 +1,13 @@
+package com.spring.lica.client.datagokr.dto;
+
+/**
+ * 상세 페이지 재검증 정보. 포털이 ETag/Last-Modified를 주지 않는 경우 본문 SHA-256(contentHash)으로 비교한다.
+ */
+public record DetailValidators(String etag, String lastModified, String contentHash) {
+
+    public static final DetailValidators NONE = new DetailValidators(null, null, null);
+
+    public boolean isEmpty() {
+        return etag == null && lastModified == null && contentHash == null;
+    }
+}
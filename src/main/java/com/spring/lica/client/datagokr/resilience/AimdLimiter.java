@@ -0,0 +1,81 @@
+package com.spring.lica.client.datagokr.resilience;
+
+/**
+ * AIMD(additive increase / multiplicative decrease) 동시성 한도.
+ *
+ * <p>한도까지 호출이 차 있으면 대기하지 않고 즉시 거절한다. 지연이 기준 이내로 끝난 호출이 한도의 절반 이상을
+ * 사용 중일 때 한도를 1씩 늘리고, 실패하거나 기준보다 느린 호출은 한도를 {@code backoffRatio}배로 줄인다.
+ * 포털이 느려지면 한도가 최소값까지 빠르게 내려가 나머지 호출은 타임아웃을 기다리지 않고 폴백한다.
+ * 동기화 같은 일괄 호출은 {@link #acquire()}로 자리가 날 때까지 기다린다.</p>
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) return false;
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 한도 안에 자리가 날 때까지 기다린다
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    public synchronized void onSuccess(long latencyNanos) {
+        boolean utilized = inFlight * 2 >= limit;
+        inFlight--;
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (utilized) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        notifyAll();
+    }
+
+    public synchronized void onFailure() {
+        inFlight--;
+        decrease();
+        notifyAll();
+    }
+
+    /**
+     * 결과를 한도 조정에 반영하지 않고 반납 (취소, 호출자 오류 등)
+     */
+    public synchronized void onIgnore() {
+        inFlight--;
+        notifyAll();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
@@ -0,0 +1,107 @@
+package com.spring.lica.client.datagokr.resilience;
+
+/**
+ * 호출 횟수 기반 슬라이딩 윈도우 회로 차단기.
+ *
+ * <p>최근 {@code windowSize}건 중 실패율이 {@code failureRateThreshold}% 이상이면(최소 {@code minimumCalls}건)
+ * 열리고, {@code openDurationNanos} 동안 모든 호출을 거절한다. 이후 시험 호출 한 건만 허용(HALF_OPEN)하여
+ * 성공하면 닫고 실패하면 다시 연다.</p>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int calls;
+    private int failures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, long openDurationNanos) {
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, minimumCalls);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationNanos;
+    }
+
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openDurationNanos) return false;
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) return false;
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+            open();
+        }
+    }
+
+    /**
+     * 결과를 기록하지 않고 반납. 시험 호출이었다면 다음 호출이 다시 시험할 수 있게 한다.
+     */
+    public synchronized void onIgnore() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (calls == window.length) {
+            if (window[index]) failures--;
+        } else {
+            calls++;
+        }
+        window[index] = failure;
+        if (failure) failures++;
+        index = (index + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        probeInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probeInFlight = false;
+        calls = 0;
+        failures = 0;
+        index = 0;
+    }
+}
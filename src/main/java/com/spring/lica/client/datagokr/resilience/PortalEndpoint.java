@@ -0,0 +1,17 @@
+package com.spring.lica.client.datagokr.resilience;
+
+/**
+ * 동시성 한도와 회로 차단기를 따로 두는 포털 호출 분류
+ */
+public enum PortalEndpoint {
+    /** 검색 결과 페이지 */
+    SEARCH,
+    /** 카탈로그 동기화의 검색 결과 페이지 (대화형 검색과 한도를 나눠 쓰지 않음) */
+    SYNC,
+    /** API 상세 페이지 */
+    DETAIL,
+    /** 오퍼레이션별 AJAX 상세 */
+    AJAX,
+    /** 업스트림 API 프록시. 한도·회로는 호스트별로 두며, 이 분류의 것은 추적 호스트가 가득 찼을 때만 공용으로 쓴다 */
+    PROXY
+}
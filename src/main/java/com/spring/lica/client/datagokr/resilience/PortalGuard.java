@@ -0,0 +1,278 @@
+package com.spring.lica.client.datagokr.resilience;
+
+import com.spring.lica.client.datagokr.DataGoKrProperties;
+import com.spring.lica.client.datagokr.PortalUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.HttpStatusException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 포털 호출 분류({@link PortalEndpoint})별 적응형 동시성 한도와 회로 차단기.
+ *
+ * <p>회로가 열려 있거나 한도가 찬 경우 {@link PortalUnavailableException}으로 즉시 실패하여 호출자가
+ * 타임아웃을 기다리지 않고 로컬 데이터로 폴백하게 한다. 업스트림의 4xx 응답은 포털 장애로 보지 않는다.
+ * 폴백할 곳이 없는 일괄 호출은 {@link #callQueued}로 한도가 빌 때까지 기다린다.</p>
+ *
+ * <p>프록시 호출({@link PortalEndpoint#PROXY})은 사용자가 지정한 업스트림마다 호스트별 한도·회로를 따로 둔다.
+ * 불안정한 API 하나 때문에 다른 기관 API의 프록시까지 막히지 않게 하기 위해서다. 추적하는 호스트는
+ * {@value #MAX_PROXY_HOSTS}개까지이며, 가득 차면 진행 중인 호출이 없고 회로가 닫힌 호스트를 비운다.
+ * 그래도 자리가 없으면 공용 PROXY 한도·회로를 쓴다.</p>
+ *
+ * <p>메트릭(태그 endpoint): {@code datagokr.limiter.limit}, {@code datagokr.limiter.inflight},
+ * {@code datagokr.circuit.state} (0 닫힘, 1 열림, 2 반열림), {@code datagokr.guard.rejected}.
+ * 호스트별 프록시 한도·회로는 태그 수가 늘지 않도록 거절 수만 {@code proxy}에 합산하고, 상태는 관리자 화면에서 본다.</p>
+ */
+@Slf4j
+@Component
+public class PortalGuard implements MeterBinder {
+
+    static final int MAX_PROXY_HOSTS = 256;
+
+    private final boolean enabled;
+    private final DataGoKrProperties.Resilience config;
+    private final Map<PortalEndpoint, Guard> guards = new EnumMap<>(PortalEndpoint.class);
+    private final Map<String, Guard> proxyGuards = new ConcurrentHashMap<>();
+
+    public PortalGuard(DataGoKrProperties properties) {
+        this.config = properties.getResilience();
+        this.enabled = config.isEnabled();
+        for (PortalEndpoint endpoint : PortalEndpoint.values()) {
+            guards.put(endpoint, newGuard(endpoint.name(), new LongAdder()));
+        }
+    }
+
+    /**
+     * 블로킹 호출을 보호한다. 거절되면 {@link PortalUnavailableException}.
+     */
+    public <T> T call(PortalEndpoint endpoint, Supplier<T> call) {
+        if (!enabled) return call.get();
+        Permit permit = guards.get(endpoint).acquire();
+        try {
+            T result = call.get();
+            permit.success();
+            return result;
+        } catch (RuntimeException | Error e) {
+            permit.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 블로킹 일괄 호출을 보호한다. 한도가 차 있으면 거절하지 않고 허가가 날 때까지 기다리며,
+     * 회로가 열려 있을 때만 {@link PortalUnavailableException}.
+     */
+    public <T> T callQueued(PortalEndpoint endpoint, Supplier<T> call) throws InterruptedException {
+        if (!enabled) return call.get();
+        Permit permit = guards.get(endpoint).acquireWaiting();
+        try {
+            T result = call.get();
+            permit.success();
+            return result;
+        } catch (RuntimeException | Error e) {
+            permit.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 리액티브 호출을 보호한다. 구독 시점에 허가를 받고, 완료·오류·취소 시 반납한다.
+     */
+    public <T> Mono<T> mono(PortalEndpoint endpoint, Supplier<Mono<T>> call) {
+        return guarded(() -> guards.get(endpoint), call);
+    }
+
+    /**
+     * 업스트림 API 프록시 호출을 호스트별 한도·회로로 보호한다.
+     */
+    public <T> Mono<T> proxy(String host, Supplier<Mono<T>> call) {
+        return guarded(() -> proxyGuard(host), call);
+    }
+
+    private <T> Mono<T> guarded(Supplier<Guard> guard, Supplier<Mono<T>> call) {
+        if (!enabled) return Mono.defer(call);
+        return Mono.defer(() -> {
+            Permit permit = guard.get().acquire();
+            return call.get()
+                    .doOnSuccess(v -> permit.success())
+                    .doOnError(permit::failure)
+                    .doOnCancel(permit::ignore);
+        });
+    }
+
+    private Guard proxyGuard(String host) {
+        String key = host != null ? host.toLowerCase(Locale.ROOT) : "";
+        Guard guard = proxyGuards.get(key);
+        if (guard != null) return guard;
+        if (proxyGuards.size() >= MAX_PROXY_HOSTS) {
+            proxyGuards.values().removeIf(Guard::isIdle);
+            if (proxyGuards.size() >= MAX_PROXY_HOSTS) return guards.get(PortalEndpoint.PROXY);
+        }
+        Guard shared = guards.get(PortalEndpoint.PROXY);
+        return proxyGuards.computeIfAbsent(key, h -> newGuard(PortalEndpoint.PROXY + " " + h, shared.rejected));
+    }
+
+    private Guard newGuard(String name, LongAdder rejected) {
+        return new Guard(name,
+                new AimdLimiter(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                        TimeUnit.MILLISECONDS.toNanos(config.getLatencyThreshold()), config.getBackoffRatio()),
+                new CircuitBreaker(config.getWindowSize(), config.getMinimumCalls(),
+                        config.getFailureRateThreshold(), TimeUnit.MILLISECONDS.toNanos(config.getOpenDuration())),
+                rejected);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Map.Entry<PortalEndpoint, Guard> entry : guards.entrySet()) {
+            Guard guard = entry.getValue();
+            String tag = entry.getKey().name().toLowerCase();
+            Gauge.builder("datagokr.limiter.limit", guard.limiter, AimdLimiter::getLimit)
+                    .tag("endpoint", tag).register(registry);
+            Gauge.builder("datagokr.limiter.inflight", guard.limiter, AimdLimiter::getInFlight)
+                    .tag("endpoint", tag).register(registry);
+            Gauge.builder("datagokr.circuit.state", guard.breaker, b -> b.getState().ordinal())
+                    .tag("endpoint", tag).register(registry);
+            FunctionCounter.builder("datagokr.guard.rejected", guard.rejected, LongAdder::sum)
+                    .tag("endpoint", tag).register(registry);
+        }
+    }
+
+    /**
+     * 관리자 화면용 현재 상태
+     */
+    public List<EndpointStat> snapshot() {
+        List<EndpointStat> stats = new ArrayList<>();
+        for (Guard guard : guards.values()) {
+            stats.add(guard.stat());
+        }
+        proxyGuards.values().stream()
+                .map(Guard::stat)
+                .sorted(Comparator.comparing(EndpointStat::endpoint))
+                .forEach(stats::add);
+        return stats;
+    }
+
+    /**
+     * 업스트림이 요청 자체를 거절한 경우(4xx)는 포털 장애로 세지 않는다.
+     */
+    private static boolean isPortalFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof HttpStatusException hse) return hse.getStatusCode() >= 500;
+            if (t instanceof WebClientResponseException wre) return wre.getStatusCode().is5xxServerError();
+        }
+        return true;
+    }
+
+    private static final class Guard {
+        private final String name;
+        private final AimdLimiter limiter;
+        private final CircuitBreaker breaker;
+        private final LongAdder rejected;
+
+        private Guard(String name, AimdLimiter limiter, CircuitBreaker breaker, LongAdder rejected) {
+            this.name = name;
+            this.limiter = limiter;
+            this.breaker = breaker;
+            this.rejected = rejected;
+        }
+
+        /**
+         * 진행 중인 호출이 없고 회로가 닫혀 있어 비워도 잃을 상태가 없는지
+         */
+        boolean isIdle() {
+            return limiter.getInFlight() == 0 && breaker.getState() == CircuitBreaker.State.CLOSED;
+        }
+
+        EndpointStat stat() {
+            return new EndpointStat(name, breaker.getState().name(), limiter.getLimit(), limiter.getInFlight(),
+                    rejected.sum());
+        }
+
+        Permit acquire() {
+            if (!breaker.tryAcquire()) {
+                rejected.increment();
+                throw new PortalUnavailableException("공공데이터포털 호출 차단 중 (" + name + " 회로 열림)");
+            }
+            if (!limiter.tryAcquire()) {
+                breaker.onIgnore();
+                rejected.increment();
+                throw new PortalUnavailableException("공공데이터포털 동시 호출 한도 초과 (" + name + ")");
+            }
+            return new Permit(this, System.nanoTime());
+        }
+
+        Permit acquireWaiting() throws InterruptedException {
+            if (!breaker.tryAcquire()) {
+                rejected.increment();
+                throw new PortalUnavailableException("공공데이터포털 호출 차단 중 (" + name + " 회로 열림)");
+            }
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                breaker.onIgnore();
+                throw e;
+            }
+            return new Permit(this, System.nanoTime());
+        }
+    }
+
+    /**
+     * 한 번만 반납되는 호출 허가
+     */
+    private static final class Permit {
+        private final Guard guard;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Guard guard, long startNanos) {
+            this.guard = guard;
+            this.startNanos = startNanos;
+        }
+
+        void success() {
+            if (!released.compareAndSet(false, true)) return;
+            guard.limiter.onSuccess(System.nanoTime() - startNanos);
+            guard.breaker.onSuccess();
+        }
+
+        void failure(Throwable e) {
+            if (!released.compareAndSet(false, true)) return;
+            if (isPortalFailure(e)) {
+                guard.limiter.onFailure();
+                CircuitBreaker.State before = guard.breaker.getState();
+                guard.breaker.onFailure();
+                if (before != CircuitBreaker.State.OPEN && guard.breaker.getState() == CircuitBreaker.State.OPEN) {
+                    log.warn("Circuit opened for data.go.kr {} calls: {}", guard.name, e.getMessage());
+                }
+            } else {
+                guard.limiter.onIgnore();
+                guard.breaker.onSuccess();
+            }
+        }
+
+        void ignore() {
+            if (!released.compareAndSet(false, true)) return;
+            guard.limiter.onIgnore();
+            guard.breaker.onIgnore();
+        }
+    }
+
+    public record EndpointStat(String endpoint, String circuit, int limit, int inFlight, long rejected) {}
+}
@@ -0,0 +1,54 @@
+package com.spring.lica.client.datagokr.scrape;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 정규식 규칙. 각 대안은 생성 시 한 번 컴파일된다.
+ */
+public class PatternRule extends ScrapeRule<Pattern> {
+
+    private PatternRule(String name, boolean reorderable, List<Alternative<Pattern>> alternatives) {
+        super(name, reorderable, alternatives);
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * {@code find()}에 성공한 첫 대안의 Matcher. 없으면 null.
+     */
+    public Matcher find(CharSequence input) {
+        return evaluate(pattern -> pattern.matcher(input), Matcher::find);
+    }
+
+    /**
+     * 처음 일치한 대안의 그룹 값. 없으면 null.
+     */
+    public String findGroup(CharSequence input, int group) {
+        Matcher matcher = find(input);
+        return matcher != null ? matcher.group(group) : null;
+    }
+
+    public static class Builder extends ScrapeRule.Builder<Pattern, PatternRule, Builder> {
+
+        private Builder(String name) {
+            super(name);
+        }
+
+        public Builder alt(String id, String regex) {
+            return add(id, regex, Pattern.compile(regex));
+        }
+
+        public Builder alt(String id, String regex, int flags) {
+            return add(id, regex, Pattern.compile(regex, flags));
+        }
+
+        @Override
+        public PatternRule build() {
+            return new PatternRule(name, reorderable, alternatives);
+        }
+    }
+}
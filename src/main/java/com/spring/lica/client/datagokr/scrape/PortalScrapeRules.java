@@ -0,0 +1,206 @@
+package com.spring.lica.client.datagokr.scrape;
+
+import com.spring.lica.client.datagokr.DataGoKrProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * data.go.kr 포털 페이지 스크래핑 규칙 정의.
+ *
+ * <p>모든 셀렉터와 정규식은 빈 생성 시 한 번 컴파일되며, 이때 {@code app.datagokr.scrape-disabled-rules}에 적힌
+ * 규칙·대안은 꺼진 채로 만들어진다. 집계값도 이 인스턴스에 속하므로 애플리케이션 컨텍스트마다 따로 쌓인다.
+ * 포털 마크업이 바뀌면 {@link ScrapeRuleMetrics}의 성공률·소요 시간으로 어떤 대안이 쓰이는지 확인한다.</p>
+ *
+ * <p>기존 CSS 선택자 목록이던 규칙은 {@code union}으로 두어 같은 결과를 낸다. 대안이 서로 배타적인 규칙만
+ * {@code reorderable}로 지정할 수 있다.</p>
+ */
+@Slf4j
+@Component
+public class PortalScrapeRules {
+
+    // ===== 검색 결과 페이지 =====
+    public final SelectorRule searchTotalCount;
+    public final SelectorRule searchTotalTabs;
+    /**
+     * 페이지 전체 텍스트를 훑는 마지막 폴백 (doc.text() 비용 포함)
+     */
+    public final PatternRule searchTotalText;
+    public final SelectorRule searchItems;
+    /**
+     * 결과 목록을 찾지 못했을 때만 사용 (스트리밍 파싱에서 기본 목록과 구분하기 위해 별도 규칙)
+     */
+    public final SelectorRule searchItemsFallback;
+    public final SelectorRule searchItemLink;
+    public final SelectorRule searchItemTitle;
+    public final SelectorRule searchItemDesc;
+    public final SelectorRule searchItemOrg;
+    public final SelectorRule searchItemCategory;
+    public final PatternRule searchItemPk;
+    public final PatternRule searchItemModified;
+
+    // ===== 상세 페이지 (Legacy) =====
+    public final SelectorRule detailTitle;
+    public final SelectorRule detailMetaDescription;
+    public final SelectorRule detailMetaLabels;
+    public final SelectorRule detailOperationOptions;
+    public final PatternRule detailOprtinSeq;
+    public final PatternRule detailServiceUrlJs;
+    public final PatternRule detailServiceUrlText;
+    public final SelectorRule detailServiceUrlInput;
+    public final PatternRule detailServiceUrlHtml;
+    public final PatternRule detailJsParamBlock;
+
+    // ===== 상세 페이지 AJAX 응답 =====
+    public final SelectorRule ajaxTables;
+    public final SelectorRule ajaxTableCaption;
+    public final SelectorRule ajaxTableRows;
+
+    private final Set<String> disabled;
+    private final List<ScrapeRule<?>> all;
+
+    public PortalScrapeRules(DataGoKrProperties properties) {
+        this.disabled = Set.copyOf(properties.getScrapeDisabledRules());
+
+        searchTotalCount = selector("search.total-count")
+                .union()
+                .alt("result-count", ".result-count")
+                .alt("search-result-count", ".search-result-count")
+                .alt("result-num", ".result_num")
+                .build();
+        searchTotalTabs = selector("search.total-tabs")
+                .alt("tabs", ".tab, .tabmenu a, [data-dtype]")
+                .build();
+        searchTotalText = pattern("search.total-text")
+                .alt("count-suffix", "(\\d[\\d,]*)\\s*건")
+                .build();
+        searchItems = selector("search.items")
+                .union()
+                .alt("result-list", ".result-list li")
+                .alt("dataset-list", ".dataset-list li")
+                .alt("data-list", ".data-list li")
+                .alt("api-data-list", "#apiDataList li")
+                .alt("result-list-camel", ".resultList li")
+                .build();
+        searchItemsFallback = selector("search.items-fallback")
+                .alt("openapi-link-li", "li:has(a[href*=openapi.do])")
+                .build();
+        searchItemLink = selector("search.item-link")
+                .union()
+                .alt("openapi-href", "a[href*=openapi.do]")
+                .alt("pk-href", "a[href*=publicDataPk]")
+                .build();
+        searchItemTitle = selector("search.item-title")
+                .union()
+                .alt("h3", "h3")
+                .alt("h4", "h4")
+                .alt("title", ".title")
+                .alt("data-title", ".data-title")
+                .build();
+        searchItemDesc = selector("search.item-desc")
+                .union()
+                .alt("public-data-desc", ".publicDataDesc")
+                .alt("desc", ".desc")
+                .alt("data-desc", ".data-desc")
+                .alt("paragraph", "p")
+                .build();
+        searchItemOrg = selector("search.item-org")
+                .union()
+                .alt("org", ".org")
+                .alt("agency", ".agency")
+                .build();
+        searchItemCategory = selector("search.item-category")
+                .union()
+                .alt("brm", ".brm")
+                .alt("category", ".category")
+                .build();
+        searchItemPk = pattern("search.item-pk")
+                .alt("openapi-path", "/data/(\\d+)/openapi\\.do")
+                .build();
+        searchItemModified = pattern("search.item-modified")
+                .alt("modified-label", "수정일\\s*:?\\s*(\\d{4}[-.]\\d{2}[-.]\\d{2})")
+                .build();
+
+        detailTitle = selector("detail.title")
+                .union()
+                .alt("h3-tit", "h3.tit")
+                .alt("tit", ".tit")
+                .alt("h2", "h2")
+                .build();
+        detailMetaDescription = selector("detail.meta-description")
+                .alt("meta-description", "meta[name=description]")
+                .build();
+        detailMetaLabels = selector("detail.meta-labels")
+                .alt("dt-th", "dt, th")
+                .build();
+        detailOperationOptions = selector("detail.operation-options")
+                .union()
+                .alt("detail-select", "#open_api_detail_select option")
+                .alt("oprtin-select", "select[name*=oprtin] option")
+                .build();
+        detailOprtinSeq = pattern("detail.oprtin-seq")
+                .alt("js-var", "oprtinSeqNo\\s*=\\s*\"(\\d+)\"")
+                .build();
+        detailServiceUrlJs = pattern("detail.service-url-js")
+                .alt("js-var", "oprtinUrl\\s*=\\s*\"([^\"]+)\"")
+                .build();
+        detailServiceUrlText = pattern("detail.service-url-text")
+                .alt("labeled-url", "(?:서비스URL|요청주소|EndPoint)[\\s:]*?(https?://[^\\s\"'<>]+)")
+                .build();
+        detailServiceUrlInput = selector("detail.service-url-input")
+                .union()
+                .alt("service-url", "input[name=serviceUrl]")
+                .alt("endpoint-url", "input[name=endpointUrl]")
+                .build();
+        detailServiceUrlHtml = pattern("detail.service-url-html")
+                .alt("apis-host", "(https?://apis\\.data\\.go\\.kr[^\\s\"'<>]+)")
+                .build();
+        detailJsParamBlock = pattern("detail.js-param-block")
+                .alt("param-obj", "var\\s+paramObj\\s*=\\s*\\{\\}\\s*;(.*?)paramList\\.push\\(paramObj\\)\\s*;", Pattern.DOTALL)
+                .build();
+
+        ajaxTables = selector("ajax.tables")
+                .alt("table", "table")
+                .build();
+        ajaxTableCaption = selector("ajax.table-caption")
+                .alt("caption", "caption")
+                .build();
+        ajaxTableRows = selector("ajax.table-rows")
+                .alt("rows", "tbody tr, tr:has(td)")
+                .build();
+
+        all = List.of(
+                searchTotalCount, searchTotalTabs, searchTotalText, searchItems, searchItemsFallback,
+                searchItemLink, searchItemTitle, searchItemDesc, searchItemOrg, searchItemCategory, searchItemPk,
+                searchItemModified, detailTitle, detailMetaDescription, detailMetaLabels,
+                detailOperationOptions, detailOprtinSeq, detailServiceUrlJs, detailServiceUrlText,
+                detailServiceUrlInput, detailServiceUrlHtml, detailJsParamBlock,
+                ajaxTables, ajaxTableCaption, ajaxTableRows
+        );
+        for (ScrapeRule<?> rule : all) {
+            for (ScrapeRule.Alternative<?> alternative : rule.getAlternatives()) {
+                if (!alternative.isEnabled()) {
+                    log.info("Scrape rule alternative disabled: {}/{}", rule.getName(), alternative.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 정의 순서의 전체 규칙
+     */
+    public List<ScrapeRule<?>> all() {
+        return all;
+    }
+
+    private SelectorRule.Builder selector(String name) {
+        return SelectorRule.builder(name).disabled(disabled);
+    }
+
+    private PatternRule.Builder pattern(String name) {
+        return PatternRule.builder(name).disabled(disabled);
+    }
+}
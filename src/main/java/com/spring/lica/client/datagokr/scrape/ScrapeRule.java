@@ -0,0 +1,151 @@
+package com.spring.lica.client.datagokr.scrape;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 이름 있는 스크래핑 규칙. 미리 컴파일된 대안(alternative)들을 순서대로 시도하여 처음 성공한 결과를 사용한다.
+ *
+ * <p>대안마다 성공(hit)·실패(miss) 횟수와 소요 시간을 집계한다. {@code reorderable} 규칙은 대안들이
+ * 서로 배타적인 경우에만 지정하며, 일정 횟수마다 성공률 순으로 시도 순서를 다시 정한다.
+ * 비활성화된 대안은 건너뛴다. 활성 여부는 만들 때 정해지며 이후 바뀌지 않는다.</p>
+ *
+ * @param <C> 컴파일된 규칙 타입 (jsoup Evaluator, Pattern 등)
+ */
+@Getter
+public abstract class ScrapeRule<C> {
+
+    private static final int REORDER_INTERVAL = 256;
+
+    private final String name;
+    private final boolean reorderable;
+    private final List<Alternative<C>> alternatives;
+    private volatile Alternative<C>[] order;
+    private final AtomicLong evaluations = new AtomicLong();
+
+    protected ScrapeRule(String name, boolean reorderable, List<Alternative<C>> alternatives) {
+        if (alternatives.isEmpty()) {
+            throw new IllegalArgumentException("Scrape rule '" + name + "' has no alternatives");
+        }
+        this.name = name;
+        this.reorderable = reorderable;
+        this.alternatives = List.copyOf(alternatives);
+        this.order = toArray(this.alternatives);
+    }
+
+    /**
+     * 활성화된 대안을 순서대로 시도하여 {@code hit}을 만족하는 첫 결과를 반환한다. 모두 실패하면 null.
+     */
+    protected <R> R evaluate(Function<C, R> attempt, Predicate<R> hit) {
+        if (reorderable && evaluations.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+        for (Alternative<C> alternative : order) {
+            if (!alternative.isEnabled()) continue;
+            long start = System.nanoTime();
+            R result = attempt.apply(alternative.getCompiled());
+            boolean matched = hit.test(result);
+            alternative.record(matched, System.nanoTime() - start);
+            if (matched) return result;
+        }
+        return null;
+    }
+
+    private void reorder() {
+        Alternative<C>[] sorted = toArray(alternatives);
+        Arrays.sort(sorted, Comparator.comparingDouble((Alternative<C> a) -> a.hitRate()).reversed());
+        order = sorted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> Alternative<C>[] toArray(List<Alternative<C>> alternatives) {
+        return alternatives.toArray(new Alternative[0]);
+    }
+
+    /**
+     * 규칙 정의용 빌더 베이스
+     */
+    protected abstract static class Builder<C, R extends ScrapeRule<C>, B extends Builder<C, R, B>> {
+        protected final String name;
+        protected boolean reorderable;
+        protected final List<Alternative<C>> alternatives = new ArrayList<>();
+        private Set<String> disabled = Set.of();
+
+        protected Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 대안들이 서로 배타적이라 성공률 순으로 재정렬해도 결과가 달라지지 않을 때 지정
+         */
+        @SuppressWarnings("unchecked")
+        public B reorderable() {
+            this.reorderable = true;
+            return (B) this;
+        }
+
+        /**
+         * 끌 규칙·대안 키 ("rule" 또는 "rule/alternative"). 이후에 추가하는 대안부터 적용된다.
+         */
+        @SuppressWarnings("unchecked")
+        public B disabled(Set<String> disabled) {
+            this.disabled = disabled;
+            return (B) this;
+        }
+
+        @SuppressWarnings("unchecked")
+        protected B add(String id, String source, C compiled) {
+            boolean enabled = !disabled.contains(name) && !disabled.contains(name + "/" + id);
+            alternatives.add(new Alternative<>(id, source, compiled, enabled));
+            return (B) this;
+        }
+
+        public abstract R build();
+    }
+
+    @Getter
+    public static class Alternative<C> {
+        private final String id;
+        private final String source;
+        private final C compiled;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final boolean enabled;
+
+        Alternative(String id, String source, C compiled, boolean enabled) {
+            this.id = id;
+            this.source = source;
+            this.compiled = compiled;
+            this.enabled = enabled;
+        }
+
+        void record(boolean hit, long elapsedNanos) {
+            (hit ? hits : misses).increment();
+            nanos.add(elapsedNanos);
+        }
+
+        public long attempts() {
+            return hits.sum() + misses.sum();
+        }
+
+        public double hitRate() {
+            long attempts = attempts();
+            return attempts == 0 ? 0 : (double) hits.sum() / attempts;
+        }
+
+        public double avgMicros() {
+            long attempts = attempts();
+            return attempts == 0 ? 0 : nanos.sum() / 1000.0 / attempts;
+        }
+    }
+}
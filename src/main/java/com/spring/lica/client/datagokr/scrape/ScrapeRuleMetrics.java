@@ -0,0 +1,64 @@
+package com.spring.lica.client.datagokr.scrape;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스크래핑 규칙별 성공/실패 횟수와 소요 시간을 Micrometer로 노출한다.
+ *
+ * <p>메트릭: {@code datagokr.scrape.rule} (타이머, 태그 rule/alternative),
+ * {@code datagokr.scrape.rule.hits} (카운터, 같은 태그).</p>
+ */
+@Component
+public class ScrapeRuleMetrics implements MeterBinder {
+
+    private final PortalScrapeRules rules;
+
+    public ScrapeRuleMetrics(PortalScrapeRules rules) {
+        this.rules = rules;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ScrapeRule<?> rule : rules.all()) {
+            for (ScrapeRule.Alternative<?> alternative : rule.getAlternatives()) {
+                FunctionTimer.builder("datagokr.scrape.rule", alternative,
+                                ScrapeRule.Alternative::attempts,
+                                a -> a.getNanos().sum(), TimeUnit.NANOSECONDS)
+                        .tag("rule", rule.getName())
+                        .tag("alternative", alternative.getId())
+                        .register(registry);
+                FunctionCounter.builder("datagokr.scrape.rule.hits", alternative, a -> a.getHits().sum())
+                        .tag("rule", rule.getName())
+                        .tag("alternative", alternative.getId())
+                        .register(registry);
+            }
+        }
+    }
+
+    /**
+     * 관리자 화면용 현재 집계값 (시도 순서가 아닌 정의 순서)
+     */
+    public List<RuleStat> snapshot() {
+        List<RuleStat> stats = new ArrayList<>();
+        for (ScrapeRule<?> rule : rules.all()) {
+            for (ScrapeRule.Alternative<?> alternative : rule.getAlternatives()) {
+                stats.add(new RuleStat(rule.getName(), alternative.getId(), alternative.getSource(),
+                        alternative.isEnabled(), alternative.getHits().sum(), alternative.getMisses().sum(),
+                        Math.round(alternative.hitRate() * 1000) / 10.0,
+                        Math.round(alternative.avgMicros() * 10) / 10.0));
+            }
+        }
+        return stats;
+    }
+
+    public record RuleStat(String rule, String alternative, String source, boolean enabled,
+                           long hits, long misses, double hitRatePercent, double avgMicros) {}
+}
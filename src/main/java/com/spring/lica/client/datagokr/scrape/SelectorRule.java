@@ -0,0 +1,150 @@
+package com.spring.lica.client.datagokr.scrape;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * CSS 셀렉터 규칙. 각 대안은 생성 시 한 번 jsoup {@link Evaluator}로 컴파일된다.
+ *
+ * <p>{@code union} 규칙은 대안을 차례로 시도하지 않고 활성 대안을 {@code ", "}로 합친 셀렉터 하나로 찾는다
+ * (CSS 선택자 목록과 같은 결과: {@link #first}는 문서 순서상 첫 요소, {@link #all}은 모든 대안의 합집합).
+ * 집계는 결과 요소가 대안에 일치하는지로 대안마다 기록하며, 질의 시간은 활성 대안 수로 나눠 기록한다.</p>
+ */
+public class SelectorRule extends ScrapeRule<Evaluator> {
+
+    private final boolean union;
+    /** union 규칙의 합친 셀렉터. 활성 대안이 없으면 null */
+    private final Evaluator combined;
+    private final List<Alternative<Evaluator>> active;
+
+    private SelectorRule(String name, boolean reorderable, boolean union, List<Alternative<Evaluator>> alternatives) {
+        super(name, reorderable, alternatives);
+        if (union && reorderable) {
+            throw new IllegalArgumentException("Scrape rule '" + name + "' cannot be both union and reorderable");
+        }
+        if (alternatives.size() > Long.SIZE) {
+            throw new IllegalArgumentException("Scrape rule '" + name + "' has more than " + Long.SIZE + " alternatives");
+        }
+        this.union = union;
+        this.active = getAlternatives().stream().filter(Alternative::isEnabled).toList();
+        this.combined = union && !active.isEmpty()
+                ? QueryParser.parse(active.stream().map(Alternative::getSource).collect(Collectors.joining(", ")))
+                : null;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * 첫 번째로 일치하는 요소. 어떤 대안도 일치하지 않으면 null.
+     */
+    public Element first(Element root) {
+        if (!union) {
+            return evaluate(root::selectFirst, e -> e != null);
+        }
+        long start = System.nanoTime();
+        Element found = combined != null ? root.selectFirst(combined) : null;
+        recordUnion(found != null ? List.of(found) : List.of(), System.nanoTime() - start);
+        return found;
+    }
+
+    /**
+     * 요소를 하나 이상 찾은 첫 대안의 결과 (union 규칙은 모든 대안의 합집합). 없으면 빈 목록.
+     */
+    public Elements all(Element root) {
+        if (!union) {
+            Elements result = evaluate(root::select, e -> !e.isEmpty());
+            return result != null ? result : new Elements();
+        }
+        long start = System.nanoTime();
+        Elements found = combined != null ? root.select(combined) : new Elements();
+        recordUnion(found, System.nanoTime() - start);
+        return found;
+    }
+
+    /**
+     * 요소 자체가 일치하는 활성 대안의 비트 집합 (정의 순서 i번째 대안이면 i번째 비트, 없으면 0).
+     * 집계하지 않으므로 스트리밍 파싱처럼 요소마다 판별하는 쪽은 모은 값을 {@link #record}로 한 번 기록한다.
+     */
+    public long matchMask(Element element) {
+        if (union && (combined == null || !element.is(combined))) return 0;
+        long mask = 0;
+        List<Alternative<Evaluator>> alternatives = getAlternatives();
+        for (int i = 0; i < alternatives.size(); i++) {
+            Alternative<Evaluator> alternative = alternatives.get(i);
+            if (alternative.isEnabled() && element.is(alternative.getCompiled())) mask |= 1L << i;
+        }
+        return mask;
+    }
+
+    /**
+     * {@link #matchMask}로 모은 결과를 대안마다 한 번 기록한다. union이 아니면 {@link #all}처럼 시도 순서상
+     * 처음 일치한 대안까지만 기록한다. 소요 시간은 기록한 대안 수로 나눈다.
+     */
+    public void record(long mask, long elapsedNanos) {
+        List<Alternative<Evaluator>> alternatives = getAlternatives();
+        List<Alternative<Evaluator>> attempted = new ArrayList<>();
+        if (union) {
+            attempted.addAll(active);
+        } else {
+            for (Alternative<Evaluator> alternative : getOrder()) {
+                if (!alternative.isEnabled()) continue;
+                attempted.add(alternative);
+                if ((mask & 1L << alternatives.indexOf(alternative)) != 0) break;
+            }
+        }
+        if (attempted.isEmpty()) return;
+        long share = elapsedNanos / attempted.size();
+        for (Alternative<Evaluator> alternative : attempted) {
+            alternative.record((mask & 1L << alternatives.indexOf(alternative)) != 0, share);
+        }
+    }
+
+    private void recordUnion(List<Element> found, long elapsedNanos) {
+        if (active.isEmpty()) return;
+        long share = elapsedNanos / active.size();
+        for (Alternative<Evaluator> alternative : active) {
+            boolean hit = false;
+            for (Element element : found) {
+                if (element.is(alternative.getCompiled())) {
+                    hit = true;
+                    break;
+                }
+            }
+            alternative.record(hit, share);
+        }
+    }
+
+    public static class Builder extends ScrapeRule.Builder<Evaluator, SelectorRule, Builder> {
+
+        private boolean union;
+
+        private Builder(String name) {
+            super(name);
+        }
+
+        /**
+         * 대안들을 CSS 선택자 목록처럼 합쳐서 찾는다. 대안끼리 겹칠 수 있어 순서를 바꾸면 결과가 달라질 때 지정
+         */
+        public Builder union() {
+            this.union = true;
+            return this;
+        }
+
+        public Builder alt(String id, String cssQuery) {
+            return add(id, cssQuery, QueryParser.parse(cssQuery));
+        }
+
+        @Override
+        public SelectorRule build() {
+            return new SelectorRule(name, reorderable, union, alternatives);
+        }
+    }
+}
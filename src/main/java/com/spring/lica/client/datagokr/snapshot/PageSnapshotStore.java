@@ -0,0 +1,291 @@
+package com.spring.lica.client.datagokr.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.lica.client.datagokr.DataGoKrProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 포털에서 받은 원본 HTML을 로컬 디스크에 보관한다. 파서를 고친 뒤 포털을 다시 크롤링하지 않고 재파싱하기 위한 용도.
+ *
+ * <p>본문은 SHA-256으로 주소 지정되어 gzip으로 한 번만 저장되고({@code objects/ab/abcd….html.gz}),
+ * 논리 키별 최신 스냅샷은 URL·조회 시각과 함께 참조 파일({@code refs/<kind>/<key>.json})에 기록된다.
+ * 인코딩한 키가 파일 이름으로 쓰기에 길면(검색어가 긴 검색 페이지 등) 키의 SHA-256을 이름으로 쓴다.
+ * 저장 실패는 스크래핑을 막지 않도록 로그만 남긴다.</p>
+ *
+ * <p>{@code snapshot-kinds}에 든 종류만 저장한다. {@code snapshot-prune-interval}마다 {@code snapshot-retention-days}보다
+ * 오래된 참조를 지우고, 어떤 참조도 가리키지 않는 본문을 지운다.</p>
+ */
+@Slf4j
+@Component
+public class PageSnapshotStore {
+
+    public enum Kind {
+        /** 검색 결과 페이지 (키: page-perPage-keyword-category) */
+        SEARCH,
+        /** API 상세 페이지 (키: publicDataPk) */
+        DETAIL,
+        /** 오퍼레이션별 AJAX 응답 (키: publicDataPk-oprtinSeqNo) */
+        AJAX
+    }
+
+    // 파일 이름 길이 제한(보통 255바이트) 안쪽. URLEncoder는 '~'를 인코딩하므로 해시 이름과 겹치지 않는다
+    private static final int MAX_REF_NAME = 150;
+    private static final String HASHED_REF_PREFIX = "~";
+    // 본문을 쓴 뒤 참조를 쓰기 전의 본문을 지우지 않도록 최근 본문은 정리 대상에서 뺀다
+    private static final Duration OBJECT_GRACE = Duration.ofHours(1);
+
+    private final Set<Kind> kinds;
+    private final int retentionDays;
+    private final Path root;
+    private final ObjectMapper objectMapper;
+
+    public PageSnapshotStore(DataGoKrProperties properties, ObjectMapper objectMapper) {
+        this.kinds = properties.isSnapshotEnabled() && !properties.getSnapshotKinds().isEmpty()
+                ? Set.copyOf(EnumSet.copyOf(properties.getSnapshotKinds()))
+                : Set.of();
+        this.retentionDays = properties.getSnapshotRetentionDays();
+        this.root = Paths.get(properties.getSnapshotDir()).toAbsolutePath();
+        this.objectMapper = objectMapper;
+        if (!kinds.isEmpty()) {
+            log.info("Page snapshots {} stored under {}", kinds, root);
+        }
+    }
+
+    public boolean isEnabled(Kind kind) {
+        return kinds.contains(kind);
+    }
+
+    /**
+     * 본문을 저장하고 {@code (kind, key)}의 최신 스냅샷으로 기록한다. 같은 본문은 다시 압축·저장하지 않는다.
+     */
+    public void save(Kind kind, String key, String url, String body) {
+        if (!isEnabled(kind) || body == null) return;
+        try {
+            byte[] raw = body.getBytes(StandardCharsets.UTF_8);
+            String sha256 = sha256Hex(raw);
+            Path object = objectPath(sha256);
+            // 기존 본문을 재사용할 때도 수정 시각을 갱신해, 이 참조를 보기 전에 살아 있는 집합을 모은 prune이
+            // 유예 기간으로 건너뛰게 한다
+            if (!touch(object)) {
+                writeAtomically(object, out -> {
+                    try (OutputStream gzip = new GZIPOutputStream(out)) {
+                        gzip.write(raw);
+                    }
+                });
+            }
+            PageSnapshot snapshot = new PageSnapshot(kind, key, url, LocalDateTime.now(), sha256, raw.length);
+            writeAtomically(refPath(kind, key), out -> objectMapper.writeValue(out, snapshot));
+        } catch (IOException e) {
+            log.warn("Failed to store {} snapshot for key={}: {}", kind, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 본문의 수정 시각을 지금으로 바꾼다. 본문이 없으면 false.
+     */
+    private static boolean touch(Path object) throws IOException {
+        try {
+            Files.setLastModifiedTime(object, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    public Optional<PageSnapshot> latest(Kind kind, String key) {
+        Path ref = refPath(kind, key);
+        if (Files.notExists(ref)) return Optional.empty();
+        try {
+            return Optional.of(objectMapper.readValue(ref.toFile(), PageSnapshot.class));
+        } catch (IOException e) {
+            log.warn("Unreadable {} snapshot ref for key={}: {}", kind, key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷 본문 (압축 해제)
+     */
+    public String read(PageSnapshot snapshot) {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(objectPath(snapshot.sha256())))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot object missing or corrupt: " + snapshot.sha256(), e);
+        }
+    }
+
+    /**
+     * 해당 종류로 저장된 모든 키
+     */
+    public List<String> keys(Kind kind) {
+        try (Stream<Path> refs = refs(kind)) {
+            return refs.map(this::keyOf).filter(Objects::nonNull).toList();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 참조와 참조되지 않는 본문을 지운다.
+     */
+    @Scheduled(initialDelayString = "${app.datagokr.snapshot-prune-interval:86400000}",
+            fixedDelayString = "${app.datagokr.snapshot-prune-interval:86400000}")
+    public void prune() {
+        if (kinds.isEmpty() && Files.notExists(root)) return;
+        long start = System.nanoTime();
+        LocalDateTime cutoff = retentionDays > 0 ? LocalDateTime.now().minusDays(retentionDays) : null;
+        Set<String> live = new HashSet<>();
+        int expiredRefs = 0;
+        for (Kind kind : Kind.values()) {
+            try (Stream<Path> refs = refs(kind)) {
+                for (Path ref : (Iterable<Path>) refs::iterator) {
+                    PageSnapshot snapshot = readRef(ref);
+                    if (snapshot == null) continue;
+                    if (cutoff != null && snapshot.fetchedAt().isBefore(cutoff)) {
+                        if (deleteQuietly(ref)) expiredRefs++;
+                    } else {
+                        live.add(snapshot.sha256());
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                // 살아 있는 참조를 다 모으지 못했으면 본문은 건드리지 않는다
+                log.warn("Snapshot ref pruning stopped early for {}: {}", kind, e.getMessage());
+                return;
+            }
+        }
+
+        int deletedObjects = 0;
+        Path objects = root.resolve("objects");
+        if (Files.exists(objects)) {
+            Instant graceLimit = Instant.now().minus(OBJECT_GRACE);
+            try (Stream<Path> files = Files.walk(objects)) {
+                for (Path object : (Iterable<Path>) files::iterator) {
+                    String name = object.getFileName().toString();
+                    if (!name.endsWith(".html.gz")) continue;
+                    String sha256 = name.substring(0, name.length() - ".html.gz".length());
+                    if (live.contains(sha256)) continue;
+                    if (Files.getLastModifiedTime(object).toInstant().isAfter(graceLimit)) continue;
+                    if (deleteQuietly(object)) deletedObjects++;
+                }
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("Snapshot object pruning stopped early: {}", e.getMessage());
+            }
+        }
+        log.info("Page snapshots pruned: {} expired refs, {} unreferenced objects in {}ms",
+                expiredRefs, deletedObjects, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Stream<Path> refs(Kind kind) {
+        Path dir = root.resolve("refs").resolve(kind.name().toLowerCase());
+        if (Files.notExists(dir)) return Stream.empty();
+        try {
+            return Files.list(dir).filter(p -> p.getFileName().toString().endsWith(".json"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 참조 파일 이름의 키. 해시 이름이면 참조 내용에서 읽는다.
+     */
+    private String keyOf(Path ref) {
+        String name = ref.getFileName().toString();
+        name = name.substring(0, name.length() - ".json".length());
+        if (!name.startsWith(HASHED_REF_PREFIX)) return URLDecoder.decode(name, StandardCharsets.UTF_8);
+        PageSnapshot snapshot = readRef(ref);
+        return snapshot != null ? snapshot.key() : null;
+    }
+
+    private PageSnapshot readRef(Path ref) {
+        try {
+            return objectMapper.readValue(ref.toFile(), PageSnapshot.class);
+        } catch (IOException e) {
+            log.warn("Unreadable snapshot ref {}: {}", ref.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean deleteQuietly(Path path) {
+        try {
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete snapshot file {}: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private Path objectPath(String sha256) {
+        return root.resolve("objects").resolve(sha256.substring(0, 2)).resolve(sha256 + ".html.gz");
+    }
+
+    private Path refPath(Kind kind, String key) {
+        String name = URLEncoder.encode(key, StandardCharsets.UTF_8);
+        if (name.length() > MAX_REF_NAME) {
+            name = HASHED_REF_PREFIX + sha256Hex(key.getBytes(StandardCharsets.UTF_8));
+        }
+        return root.resolve("refs").resolve(kind.name().toLowerCase()).resolve(name + ".json");
+    }
+
+    private static String sha256Hex(byte[] raw) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(raw));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이동하여 읽는 쪽이 쓰다 만 파일을 보지 않도록 한다.
+     */
+    private void writeAtomically(Path target, StreamWriter writer) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), ".snapshot-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.write(out);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * 논리 키의 최신 스냅샷 메타데이터
+     */
+    public record PageSnapshot(Kind kind, String key, String url, LocalDateTime fetchedAt, String sha256, int size) {}
+}
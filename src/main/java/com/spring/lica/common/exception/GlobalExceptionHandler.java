@@ -1,6 +1,7 @@
 package com.spring.lica.common.exception;
 
 import com.spring.lica.client.datagokr.DataGoKrApiException;
+import com.spring.lica.client.datagokr.PortalUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +21,13 @@ public class GlobalExceptionHandler {
                 .body(Map.of("error", e.getMessage()));
     }
 
+    @ExceptionHandler(PortalUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handlePortalUnavailable(PortalUnavailableException e) {
+        log.warn("data.go.kr call rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("error", e.getMessage()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
         return ResponseEntity.badRequest()
@@ -43,4 +51,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(Map.of("error", e.getMessage()));
     }
+
+    /**
+     * 공개 API는 익명 호출을 받으므로 실행 중인 작업 ID는 돌려주지 않는다 (관리자 화면에서만 표시)
+     */
+    @ExceptionHandler(SyncAlreadyRunningException.class)
+    public ResponseEntity<Map<String, String>> handleSyncAlreadyRunning(SyncAlreadyRunningException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "이미 실행 중인 동기화 작업이 있습니다."));
+    }
+
+    @ExceptionHandler(ReparseAlreadyRunningException.class)
+    public ResponseEntity<Map<String, String>> handleReparseAlreadyRunning(ReparseAlreadyRunningException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "이미 실행 중인 스냅샷 재파싱 작업이 있습니다."));
+    }
+
+    @ExceptionHandler(SyncJobNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleSyncJobNotFound(SyncJobNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+    }
 }
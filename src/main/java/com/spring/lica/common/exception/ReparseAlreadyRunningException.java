@@ -0,0 +1,14 @@
+package com.spring.lica.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ReparseAlreadyRunningException extends RuntimeException {
+
+    private final String runningJobId;
+
+    public ReparseAlreadyRunningException(String runningJobId) {
+        super("이미 실행 중인 스냅샷 재파싱 작업이 있습니다: " + runningJobId);
+        this.runningJobId = runningJobId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.spring.lica.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class SyncAlreadyRunningException extends RuntimeException {
+
+    private final String runningJobId;
+
+    public SyncAlreadyRunningException(String runningJobId) {
+        super("이미 실행 중인 동기화 작업이 있습니다: " + runningJobId);
+        this.runningJobId = runningJobId;
+    }
+}
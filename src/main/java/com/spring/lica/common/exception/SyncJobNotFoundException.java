@@ -0,0 +1,7 @@
+package com.spring.lica.common.exception;
+
+public class SyncJobNotFoundException extends RuntimeException {
+    public SyncJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package com.spring.lica.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지. {@code nextCursor}를 다음 요청의 {@code cursor}로 넘기면 이어서 조회한다.
+ * {@code totalCount}는 요청했거나 저렴하게 알 수 있을 때만 채워진다 (없으면 null).
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext, Long totalCount) {
+
+    /**
+     * 한 번에 돌려주는 최대 건수
+     */
+    public static final int MAX_SIZE = 100;
+
+    public static int clampSize(int size) {
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+
+    /**
+     * {@code size + 1}건을 조회한 결과로 페이지를 만든다. 초과분이 있으면 다음 커서를 만든다.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, KeysetCursor> keyOf, Long totalCount) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? keyOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPage<>(List.copyOf(content), nextCursor, hasNext, totalCount);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, hasNext, totalCount);
+    }
+}
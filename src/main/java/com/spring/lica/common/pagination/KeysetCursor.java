@@ -0,0 +1,44 @@
+package com.spring.lica.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 위치: 정렬 키(시각, id) 내림차순에서 마지막으로 반환한 행.
+ * 클라이언트에는 불투명한 토큰({@link #encode()})으로만 전달한다.
+ */
+public record KeysetCursor(LocalDateTime at, long id) {
+
+    private static final String VERSION = "v1";
+
+    public String encode() {
+        String raw = VERSION + "|" + at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비어 있으면 null (첫 페이지). 형식이 맞지 않으면 {@link IllegalArgumentException}.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length == 3 && VERSION.equals(parts[0])) {
+                return new KeysetCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+            }
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+        throw new IllegalArgumentException("잘못된 커서입니다");
+    }
+
+    /**
+     * 내림차순 정렬에서 이 커서 뒤(다음 페이지)에 오는 행인지
+     */
+    public boolean precedes(LocalDateTime rowAt, long rowId) {
+        int cmp = rowAt.compareTo(at);
+        return cmp < 0 || (cmp == 0 && rowId < id);
+    }
+}
@@ -0,0 +1,41 @@
+package com.spring.lica.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N개 지연 시간 표본으로 백분위수를 계산한다.
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private int index;
+    private int count;
+
+    public LatencyWindow(int size) {
+        this.samples = new long[Math.max(1, size)];
+    }
+
+    public synchronized void record(long millis) {
+        samples[index] = millis;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * {@code percentile}(0~1) 지점의 값. 표본이 없으면 -1.
+     */
+    public long percentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (count == 0) return -1;
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.clamp(rank, 0, sorted.length - 1)];
+    }
+}
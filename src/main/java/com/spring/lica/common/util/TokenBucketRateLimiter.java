@@ -0,0 +1,49 @@
+package com.spring.lica.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 방식의 단순 속도 제한기.
+ *
+ * <p>초당 {@code ratePerSecond}개의 토큰이 채워지며, 최대 {@code burst}개까지 누적된다.
+ * 토큰이 부족하면 호출 스레드는 다음 토큰이 채워질 때까지 대기한다.
+ * {@code ratePerSecond}가 0 이하이면 제한하지 않는다.</p>
+ */
+public class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final double nanosPerToken;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucketRateLimiter(double ratePerSecond, int burst) {
+        this.capacity = Math.max(1, burst);
+        this.nanosPerToken = ratePerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / ratePerSecond : 0;
+        this.tokens = this.capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 획득한다. 부족하면 필요한 시간만큼 대기한다.
+     */
+    public void acquire() throws InterruptedException {
+        if (nanosPerToken == 0) return;
+
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            // 음수 잔량은 이미 예약된 대기열을 의미한다
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) / nanosPerToken);
+        lastRefill = now;
+    }
+}
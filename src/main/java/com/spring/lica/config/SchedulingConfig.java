@@ -0,0 +1,14 @@
+package com.spring.lica.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 작업 활성화 (자동완성 색인 갱신, 스냅샷 정리, 상세 수집기 등).
+ *
+ * <p>설정으로 꺼질 수 있는 빈에 두면 그 빈이 꺼질 때 다른 예약 작업까지 멈추므로 항상 등록되는 이 클래스에 둔다.</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,10 +1,16 @@
 package com.spring.lica.domain.catalog.controller;
 
+import com.spring.lica.common.pagination.CursorPage;
 import com.spring.lica.domain.catalog.dto.CatalogDetailResponse;
+import com.spring.lica.domain.catalog.dto.CatalogFacets;
 import com.spring.lica.domain.catalog.dto.CatalogResponse;
 import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
+import com.spring.lica.domain.catalog.dto.CatalogSearchResult;
+import com.spring.lica.domain.catalog.dto.CatalogSuggestion;
+import com.spring.lica.domain.catalog.dto.SyncJobResponse;
 import com.spring.lica.domain.catalog.service.CatalogDetailService;
 import com.spring.lica.domain.catalog.service.CatalogService;
+import com.spring.lica.domain.catalog.service.CatalogSyncJobService;
 import com.spring.lica.domain.catalog.service.CatalogSyncService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,28 +18,42 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/catalog")
 @RequiredArgsConstructor
 public class CatalogController {
 
+    private static final String SOURCE_HEADER = "X-Catalog-Source";
+
     private final CatalogService catalogService;
-    private final CatalogSyncService catalogSyncService;
+    private final CatalogSyncJobService catalogSyncJobService;
     private final CatalogDetailService catalogDetailService;
 
     @GetMapping("/search")
     public ResponseEntity<Page<CatalogResponse>> search(
             CatalogSearchRequest request,
             @RequestParam(defaultValue = "portal") String source) {
-        Page<CatalogResponse> results;
+        CatalogSearchResult result;
         if ("local".equals(source)) {
-            results = catalogService.searchFromLocal(request);
+            result = new CatalogSearchResult(catalogService.searchFromLocal(request), CatalogSearchResult.Source.LOCAL);
         } else {
-            results = catalogService.searchFromPortal(request);
+            result = catalogService.searchFromPortal(request);
         }
-        return ResponseEntity.ok(results);
+        return ResponseEntity.ok()
+                .header(SOURCE_HEADER, result.source().name())
+                .body(result.page());
+    }
+
+    /**
+     * 로컬 DB 커서 기반 조회. 응답의 {@code nextCursor}를 다음 요청의 {@code cursor}로 넘긴다.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<CatalogResponse>> scroll(
+            CatalogSearchRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(catalogService.scrollLocal(request, cursor, includeTotal));
     }
 
     @GetMapping("/{uddiSeq}")
@@ -56,14 +76,26 @@ public class CatalogController {
         return ResponseEntity.ok(catalogService.getProviderOrgs());
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CatalogSuggestion>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(catalogService.suggest(q, limit));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<CatalogFacets> facets() {
+        return ResponseEntity.ok(catalogService.getFacets());
+    }
+
     @PostMapping("/sync")
-    public ResponseEntity<Map<String, Object>> sync() {
-        CatalogSyncService.SyncResult result = catalogSyncService.syncFromPortal();
-        return ResponseEntity.ok(Map.of(
-                "totalSynced", result.totalSynced(),
-                "newApis", result.totalNew(),
-                "updatedApis", result.totalUpdated(),
-                "portalTotalCount", result.portalTotalCount()
-        ));
+    public ResponseEntity<SyncJobResponse> sync(
+            @RequestParam(defaultValue = "INCREMENTAL") CatalogSyncService.SyncMode mode) {
+        return ResponseEntity.accepted().body(SyncJobResponse.from(catalogSyncJobService.submit(mode)));
+    }
+
+    @GetMapping("/sync/{jobId}")
+    public ResponseEntity<SyncJobResponse> syncStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(SyncJobResponse.from(catalogSyncJobService.get(jobId)));
     }
 }
@@ -1,12 +1,11 @@
 package com.spring.lica.domain.catalog.controller;
 
 import com.spring.lica.domain.catalog.dto.CatalogDetailResponse;
-import com.spring.lica.domain.catalog.dto.CatalogResponse;
 import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
+import com.spring.lica.domain.catalog.dto.CatalogSearchResult;
 import com.spring.lica.domain.catalog.service.CatalogDetailService;
 import com.spring.lica.domain.catalog.service.CatalogService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,13 +23,14 @@ public class CatalogViewController {
     public String index(CatalogSearchRequest request,
                         @RequestParam(defaultValue = "portal") String source,
                         Model model) {
-        Page<CatalogResponse> results;
+        CatalogSearchResult result;
         if ("local".equals(source)) {
-            results = catalogService.searchFromLocal(request);
+            result = new CatalogSearchResult(catalogService.searchFromLocal(request), CatalogSearchResult.Source.LOCAL);
         } else {
-            results = catalogService.searchFromPortal(request);
+            result = catalogService.searchFromPortal(request);
         }
-        model.addAttribute("results", results);
+        model.addAttribute("results", result.page());
+        model.addAttribute("resultSource", result.source());
         model.addAttribute("request", request);
         model.addAttribute("source", source);
         model.addAttribute("localCount", catalogService.getRestApiCount());
@@ -0,0 +1,29 @@
+package com.spring.lica.domain.catalog.dto;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 결과의 분류·제공기관별 건수. 건수 내림차순, 같으면 이름 순.
+ */
+public record CatalogFacets(List<FacetCount> categories, List<FacetCount> orgs) {
+
+    public static final CatalogFacets EMPTY = new CatalogFacets(List.of(), List.of());
+
+    private static final Comparator<FacetCount> ORDER = Comparator.comparingLong(FacetCount::count).reversed()
+            .thenComparing(FacetCount::value);
+
+    public record FacetCount(String value, long count) {}
+
+    public static CatalogFacets of(Map<String, ? extends Number> categories, Map<String, ? extends Number> orgs) {
+        return new CatalogFacets(sorted(categories), sorted(orgs));
+    }
+
+    private static List<FacetCount> sorted(Map<String, ? extends Number> counts) {
+        return counts.entrySet().stream()
+                .map(e -> new FacetCount(e.getKey(), e.getValue().longValue()))
+                .sorted(ORDER)
+                .toList();
+    }
+}
@@ -3,9 +3,11 @@ package com.spring.lica.domain.catalog.dto;
 import com.spring.lica.domain.catalog.entity.ApiCatalog;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class CatalogResponse {
     private Long id;
     private String uddiSeq;
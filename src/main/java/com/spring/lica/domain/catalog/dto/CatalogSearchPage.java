@@ -0,0 +1,21 @@
+package com.spring.lica.domain.catalog.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 로컬 검색 결과 페이지. 기존 페이지 응답에 현재 질의의 {@code facets}가 추가된다.
+ */
+@Getter
+public class CatalogSearchPage extends PageImpl<CatalogResponse> {
+
+    private final CatalogFacets facets;
+
+    public CatalogSearchPage(List<CatalogResponse> content, Pageable pageable, long total, CatalogFacets facets) {
+        super(content, pageable, total);
+        this.facets = facets;
+    }
+}
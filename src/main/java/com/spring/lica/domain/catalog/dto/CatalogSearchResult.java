@@ -0,0 +1,20 @@
+package com.spring.lica.domain.catalog.dto;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * 검색 결과와 실제로 응답한 데이터 출처
+ */
+public record CatalogSearchResult(Page<CatalogResponse> page, Source source) {
+
+    public enum Source {
+        /** 포털 실시간 검색 (캐시 포함) */
+        PORTAL,
+        /** 포털이 지연 예산 안에 응답하지 않아 로컬 DB 결과를 반환 */
+        LOCAL_HEDGED,
+        /** 포털 호출 실패로 로컬 DB 결과를 반환 */
+        LOCAL_FALLBACK,
+        /** 로컬 DB 검색을 직접 요청 */
+        LOCAL
+    }
+}
@@ -0,0 +1,13 @@
+package com.spring.lica.domain.catalog.dto;
+
+/**
+ * 자동완성 후보. API 이름이면 {@code uddiSeq}가 있고, 제공기관·분류면 null.
+ */
+public record CatalogSuggestion(String text, Type type, String uddiSeq) {
+
+    public enum Type {
+        API,
+        ORG,
+        CATEGORY
+    }
+}
@@ -0,0 +1,53 @@
+package com.spring.lica.domain.catalog.dto;
+
+import com.spring.lica.domain.catalog.service.CatalogSyncJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class SyncJobResponse {
+    private String jobId;
+    private String mode;
+    private String status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int portalTotalCount;
+    private Integer totalPages;
+    private int pagesDone;
+    private int newApis;
+    private int updatedApis;
+    private int unchangedApis;
+    private List<Integer> failedPages;
+    private long elapsedMs;
+    private double itemsPerSecond;
+    private Long etaSeconds;
+    private boolean cancelRequested;
+    private String error;
+
+    public static SyncJobResponse from(CatalogSyncJob job) {
+        int totalPages = job.getTotalPages();
+        return SyncJobResponse.builder()
+                .jobId(job.getId())
+                .mode(job.getMode().name())
+                .status(job.getStatus().name())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .portalTotalCount(job.getPortalTotalCount())
+                .totalPages(totalPages > 0 && totalPages != Integer.MAX_VALUE ? totalPages : null)
+                .pagesDone(job.getPagesDone().get())
+                .newApis(job.getItemsNew().get())
+                .updatedApis(job.getItemsUpdated().get())
+                .unchangedApis(job.getItemsUnchanged().get())
+                .failedPages(List.copyOf(job.getFailedPages()))
+                .elapsedMs(job.getElapsedMs())
+                .itemsPerSecond(Math.round(job.getItemsPerSecond() * 10) / 10.0)
+                .etaSeconds(job.getEtaSeconds())
+                .cancelRequested(job.isCancelRequested())
+                .error(job.getError())
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.spring.lica.domain.catalog.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,7 +12,8 @@ import java.util.List;
 @Table(name = "api_catalog", indexes = {
         @Index(name = "idx_catalog_uddi_seq", columnList = "uddiSeq", unique = true),
         @Index(name = "idx_catalog_service_type", columnList = "serviceType"),
-        @Index(name = "idx_catalog_category", columnList = "category")
+        @Index(name = "idx_catalog_category", columnList = "category"),
+        @Index(name = "idx_catalog_updated_at_id", columnList = "updatedAt, id")
 })
 @Getter
 @Setter
@@ -20,8 +22,14 @@ import java.util.List;
 @Builder
 public class ApiCatalog {
 
+    /**
+     * 시퀀스 할당 크기. 벌크 동기화({@code CatalogSyncWriter})도 같은 크기로 ID 블록을 예약한다 (pooled-lo).
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_catalog_seq")
+    @SequenceGenerator(name = "api_catalog_seq", sequenceName = "api_catalog_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -47,6 +55,37 @@ public class ApiCatalog {
 
     private LocalDateTime lastSyncedAt;
 
+    /**
+     * 포털 목록 항목의 콘텐츠 지문 (이름/설명/기관/분류/포맷/엔드포인트 SHA-256)
+     */
+    @Column(length = 64)
+    private String contentHash;
+
+    /**
+     * 포털에 표시된 수정일 (증분 동기화 워터마크 기준)
+     */
+    private LocalDate portalUpdatedAt;
+
+    /**
+     * 상세 정보(오퍼레이션 명세)를 마지막으로 스크래핑한 시각. 목록 항목이 바뀌면 동기화가 비운다.
+     */
+    private LocalDateTime detailFetchedAt;
+
+    /**
+     * 상세 페이지 재검증용 응답 헤더 (ETag / Last-Modified)
+     */
+    @Column(length = 200)
+    private String detailEtag;
+
+    @Column(length = 100)
+    private String detailLastModified;
+
+    /**
+     * 상세 페이지 본문 SHA-256 (검증 헤더가 없을 때 비교 기준)
+     */
+    @Column(length = 64)
+    private String detailContentHash;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -16,7 +16,8 @@ import java.util.List;
 public class ApiOperation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_operation_seq")
+    @SequenceGenerator(name = "api_operation_seq", sequenceName = "api_operation_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -13,7 +13,8 @@ import lombok.*;
 public class ApiParameter {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_parameter_seq")
+    @SequenceGenerator(name = "api_parameter_seq", sequenceName = "api_parameter_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,149 @@
+package com.spring.lica.domain.catalog.readmodel;
+
+import com.spring.lica.domain.catalog.dto.CatalogFacets;
+import com.spring.lica.domain.catalog.dto.CatalogResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 카탈로그 요약({@link CatalogResponse})의 불변 스냅샷.
+ *
+ * <p>열 단위 배열에 담고, 값이 많이 반복되는 제공기관·분류·서비스 유형·데이터 형식은 사전 번호({@code int})로 저장한다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드가 잠금 없이 읽으며, 변경은 {@link #with}로 새 스냅샷을 만들어 교체한다.
+ * 전체 REST API 수와 분류·제공기관별 건수는 만들 때 미리 센다.</p>
+ */
+public final class CatalogSnapshot {
+
+    private static final String REST = "REST";
+    private static final int NONE = -1;
+
+    private final long[] ids;
+    private final String[] uddiSeqs;
+    private final String[] apiNames;
+    private final String[] descriptions;
+    private final String[] endpointUrls;
+    private final int[] orgs;
+    private final int[] categories;
+    private final int[] serviceTypes;
+    private final int[] dataFormats;
+    private final String[] dictionary;
+    private final Map<String, Integer> positions;
+    private final int restCount;
+    private final CatalogFacets restFacets;
+
+    private CatalogSnapshot(List<CatalogResponse> rows) {
+        int n = rows.size();
+        ids = new long[n];
+        uddiSeqs = new String[n];
+        apiNames = new String[n];
+        descriptions = new String[n];
+        endpointUrls = new String[n];
+        orgs = new int[n];
+        categories = new int[n];
+        serviceTypes = new int[n];
+        dataFormats = new int[n];
+        positions = HashMap.newHashMap(n);
+
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> values = new ArrayList<>();
+        Map<String, Integer> categoryCounts = new HashMap<>();
+        Map<String, Integer> orgCounts = new HashMap<>();
+        int rest = 0;
+        for (int i = 0; i < n; i++) {
+            CatalogResponse row = rows.get(i);
+            ids[i] = row.getId();
+            uddiSeqs[i] = row.getUddiSeq();
+            apiNames[i] = row.getApiName();
+            descriptions[i] = row.getDescription();
+            endpointUrls[i] = row.getEndpointUrl();
+            orgs[i] = encode(row.getProviderOrg(), codes, values);
+            categories[i] = encode(row.getCategory(), codes, values);
+            serviceTypes[i] = encode(row.getServiceType(), codes, values);
+            dataFormats[i] = encode(row.getDataFormat(), codes, values);
+            positions.put(row.getUddiSeq(), i);
+            if (REST.equals(row.getServiceType())) {
+                rest++;
+                if (row.getCategory() != null) categoryCounts.merge(row.getCategory(), 1, Integer::sum);
+                if (row.getProviderOrg() != null) orgCounts.merge(row.getProviderOrg(), 1, Integer::sum);
+            }
+        }
+        dictionary = values.toArray(String[]::new);
+        restCount = rest;
+        restFacets = CatalogFacets.of(categoryCounts, orgCounts);
+    }
+
+    static CatalogSnapshot of(List<CatalogResponse> rows) {
+        return new CatalogSnapshot(rows);
+    }
+
+    /**
+     * {@code changed}의 행을 {@code rows}의 값으로 바꾼 새 스냅샷. {@code rows}에 없는 항목은 빠진다.
+     */
+    CatalogSnapshot with(Collection<String> changed, Map<String, CatalogResponse> rows) {
+        List<CatalogResponse> merged = new ArrayList<>(size() + rows.size());
+        for (int i = 0; i < size(); i++) {
+            if (!changed.contains(uddiSeqs[i])) merged.add(response(i));
+        }
+        merged.addAll(rows.values());
+        return new CatalogSnapshot(merged);
+    }
+
+    public Optional<CatalogResponse> find(String uddiSeq) {
+        Integer position = positions.get(uddiSeq);
+        return position != null ? Optional.of(response(position)) : Optional.empty();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int restCount() {
+        return restCount;
+    }
+
+    /**
+     * 전체 REST API의 분류·제공기관별 건수
+     */
+    public CatalogFacets restFacets() {
+        return restFacets;
+    }
+
+    public Stream<CatalogResponse> restApis() {
+        return IntStream.range(0, size())
+                .filter(i -> REST.equals(decode(serviceTypes[i])))
+                .mapToObj(this::response);
+    }
+
+    private CatalogResponse response(int i) {
+        return CatalogResponse.builder()
+                .id(ids[i])
+                .uddiSeq(uddiSeqs[i])
+                .apiName(apiNames[i])
+                .description(descriptions[i])
+                .providerOrg(decode(orgs[i]))
+                .category(decode(categories[i]))
+                .serviceType(decode(serviceTypes[i]))
+                .dataFormat(decode(dataFormats[i]))
+                .endpointUrl(endpointUrls[i])
+                .build();
+    }
+
+    private String decode(int code) {
+        return code == NONE ? null : dictionary[code];
+    }
+
+    private static int encode(String value, Map<String, Integer> codes, List<String> values) {
+        if (value == null) return NONE;
+        return codes.computeIfAbsent(value, v -> {
+            values.add(v);
+            return values.size() - 1;
+        });
+    }
+}
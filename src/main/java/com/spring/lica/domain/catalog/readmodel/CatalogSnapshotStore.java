@@ -0,0 +1,145 @@
+package com.spring.lica.domain.catalog.readmodel;
+
+import com.spring.lica.domain.catalog.dto.CatalogResponse;
+import com.spring.lica.domain.catalog.search.CatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카탈로그 읽기 모델. 현재 {@link CatalogSnapshot}을 volatile 필드 하나로 공개하므로 읽는 쪽은 잠금도 DB 왕복도 없다.
+ *
+ * <p>처음 읽을 때(또는 기동 직후) 전체 행을 JDBC로 한 번 읽고, 이후에는 동기화·상세 저장이 발행하는
+ * {@link CatalogChangedEvent}를 커밋 후 받아 바뀐 행만 다시 읽어 새 스냅샷으로 교체한다.</p>
+ *
+ * <p>스냅샷 교체는 전체 배열을 새로 만드는 비용이 들므로 이벤트마다 하지 않는다. 바뀐 키는 대기 집합에 모으고,
+ * 잠금을 얻은 스레드 하나가 그때까지 모인 키를 한꺼번에 반영한다. 반영 중에 들어온 키는 잠금을 놓기 전후에
+ * 다시 확인하여 그 스레드나 다음 스레드가 이어서 반영하므로, 크롤러처럼 건별로 커밋하는 쪽이 몰려도 교체 횟수는
+ * 이벤트 수가 아니라 교체에 걸리는 시간에 비례한다. 최초 적재 중에 커밋된 변경은 적재가 끝난 뒤 반영한다.</p>
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotStore {
+
+    private static final String SELECT_COLUMNS = """
+            SELECT id, uddi_seq, api_name, description, provider_org, category, service_type, data_format,
+                endpoint_url FROM api_catalog
+            """;
+    private static final String SELECT_CHANGED_SQL = SELECT_COLUMNS + " WHERE uddi_seq IN (:uddiSeqs)";
+
+    private static final RowMapper<CatalogResponse> ROW_MAPPER = (rs, rowNum) -> CatalogResponse.builder()
+            .id(rs.getLong("id"))
+            .uddiSeq(rs.getString("uddi_seq"))
+            .apiName(rs.getString("api_name"))
+            .description(rs.getString("description"))
+            .providerOrg(rs.getString("provider_org"))
+            .category(rs.getString("category"))
+            .serviceType(rs.getString("service_type"))
+            .dataFormat(rs.getString("data_format"))
+            .endpointUrl(rs.getString("endpoint_url"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private volatile CatalogSnapshot snapshot;
+
+    public CatalogSnapshotStore(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    /**
+     * 현재 스냅샷. 아직 적재 전이면 이 호출에서 적재한다.
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : load();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        current();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.uddiSeqs().isEmpty()) return;
+        pending.addAll(event.uddiSeqs());
+        drainPending();
+    }
+
+    /**
+     * 대기 중인 키를 반영한다. 다른 스레드가 반영 중이면 그 스레드에 맡기고 바로 돌아간다.
+     */
+    private void drainPending() {
+        while (!pending.isEmpty() && writeLock.tryLock()) {
+            try {
+                // 아직 적재 전이면 적재가 끝난 뒤 반영한다
+                if (snapshot == null) return;
+                Set<String> changed = new LinkedHashSet<>();
+                for (Iterator<String> it = pending.iterator(); it.hasNext(); ) {
+                    changed.add(it.next());
+                    it.remove();
+                }
+                refresh(changed);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 바뀐 행만 다시 읽는다. 전체의 절반 이상이 바뀌었으면(재파싱 등) 전부 다시 읽는 편이 싸다.
+     */
+    private void refresh(Set<String> changed) {
+        try {
+            if (changed.size() * 2L >= snapshot.size()) {
+                snapshot = CatalogSnapshot.of(jdbcTemplate.query(SELECT_COLUMNS, ROW_MAPPER));
+                return;
+            }
+            Map<String, CatalogResponse> rows = new HashMap<>();
+            namedParameterJdbcTemplate.query(SELECT_CHANGED_SQL, Map.of("uddiSeqs", changed), ROW_MAPPER)
+                    .forEach(row -> rows.put(row.getUddiSeq(), row));
+            snapshot = snapshot.with(changed, rows);
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh {} catalog snapshot entries: {}", changed.size(), e.getMessage());
+        }
+    }
+
+    private CatalogSnapshot load() {
+        CatalogSnapshot loaded;
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                long start = System.nanoTime();
+                List<CatalogResponse> rows = jdbcTemplate.query(SELECT_COLUMNS, ROW_MAPPER);
+                snapshot = CatalogSnapshot.of(rows);
+                log.info("Catalog snapshot loaded: {} entries ({} REST) in {}ms", snapshot.size(),
+                        snapshot.restCount(), (System.nanoTime() - start) / 1_000_000);
+            }
+            loaded = snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+        drainPending();
+        return loaded;
+    }
+}
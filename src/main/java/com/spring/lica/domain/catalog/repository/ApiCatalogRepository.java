@@ -1,16 +1,19 @@
 package com.spring.lica.domain.catalog.repository;
 
 import com.spring.lica.domain.catalog.entity.ApiCatalog;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ApiCatalogRepository extends JpaRepository<ApiCatalog, Long> {
+public interface ApiCatalogRepository extends JpaRepository<ApiCatalog, Long>, ApiCatalogSearchRepository {
 
     Optional<ApiCatalog> findByUddiSeq(String uddiSeq);
 
@@ -24,29 +27,30 @@ public interface ApiCatalogRepository extends JpaRepository<ApiCatalog, Long> {
 
     boolean existsByUddiSeq(String uddiSeq);
 
+    @Query("SELECT MAX(c.portalUpdatedAt) FROM ApiCatalog c")
+    Optional<LocalDate> findMaxPortalUpdatedAt();
+
+    /**
+     * 상세 정보를 수집한 적이 없거나 오래된 REST API. 미수집 항목 우선, 그다음 포털 수정일 최신순.
+     */
     @Query("""
-        SELECT c FROM ApiCatalog c
+        SELECT c.uddiSeq FROM ApiCatalog c
         WHERE c.serviceType = 'REST'
-        AND (:keyword IS NULL OR :keyword = ''
-            OR LOWER(c.apiName) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            OR LOWER(c.providerOrg) LIKE LOWER(CONCAT('%', :keyword, '%')))
-        AND (:category IS NULL OR :category = '' OR c.category = :category)
-        AND (:org IS NULL OR :org = '' OR c.providerOrg = :org)
-        ORDER BY c.updatedAt DESC
+        AND (c.detailFetchedAt IS NULL OR c.detailFetchedAt < :staleBefore)
+        ORDER BY CASE WHEN c.detailFetchedAt IS NULL THEN 0 ELSE 1 END,
+            c.portalUpdatedAt DESC NULLS LAST, c.detailFetchedAt
     """)
-    Page<ApiCatalog> searchRestApis(
-            @Param("keyword") String keyword,
-            @Param("category") String category,
-            @Param("org") String org,
-            Pageable pageable
-    );
-
-    @Query("SELECT DISTINCT c.category FROM ApiCatalog c WHERE c.category IS NOT NULL AND c.serviceType = 'REST' ORDER BY c.category")
-    List<String> findDistinctCategories();
+    List<String> findDetailCrawlCandidates(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
 
-    @Query("SELECT DISTINCT c.providerOrg FROM ApiCatalog c WHERE c.providerOrg IS NOT NULL AND c.serviceType = 'REST' ORDER BY c.providerOrg")
-    List<String> findDistinctProviderOrgs();
+    @Query("""
+        SELECT c.uddiSeq FROM ApiCatalog c
+        WHERE c.uddiSeq IN :uddiSeqs
+        AND (c.detailFetchedAt IS NULL OR c.detailFetchedAt < :staleBefore)
+    """)
+    List<String> findStaleDetailUddiSeqs(@Param("uddiSeqs") Collection<String> uddiSeqs,
+                                         @Param("staleBefore") LocalDateTime staleBefore);
 
-    long countByServiceType(String serviceType);
+    @Modifying
+    @Query("UPDATE ApiCatalog c SET c.detailFetchedAt = :fetchedAt WHERE c.uddiSeq = :uddiSeq")
+    int markDetailFetched(@Param("uddiSeq") String uddiSeq, @Param("fetchedAt") LocalDateTime fetchedAt);
 }
@@ -0,0 +1,39 @@
+package com.spring.lica.domain.catalog.repository;
+
+import com.spring.lica.domain.catalog.entity.ApiCatalog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST API 키워드 검색. 질의어 토큰마다 이름·설명·제공기관 중 하나에 포함돼야 일치한다 (토큰끼리 AND).
+ *
+ * <p>토큰 수만큼 조건이 늘어나 {@code @Query}로는 쓸 수 없으므로 JPQL을 조립한다.
+ * 토큰은 정규화·소문자화된 글자·숫자 연속 구간이어야 한다 ({@code LIKE} 와일드카드를 포함하지 않는다).
+ * 빈 목록이면 키워드 조건이 없고, 빈 {@code category}·{@code org}도 조건이 없다.</p>
+ */
+public interface ApiCatalogSearchRepository {
+
+    Page<ApiCatalog> searchRestApis(List<String> tokens, String category, String org, Pageable pageable);
+
+    /**
+     * {@link #searchRestApis}와 같은 조건의 키셋 조회 ({@code updatedAt}, {@code id} 내림차순).
+     * {@code updatedAt}이 null이면 첫 페이지, 아니면 커서 다음 행부터 OFFSET 없이 읽는다.
+     */
+    List<ApiCatalog> scrollRestApis(List<String> tokens, String category, String org,
+                                    LocalDateTime updatedAt, Long id, int limit);
+
+    long countRestApis(List<String> tokens, String category, String org);
+
+    /**
+     * {@link #searchRestApis}와 같은 조건의 분류별 건수 ([분류, 건수])
+     */
+    List<Object[]> countRestApisByCategory(List<String> tokens, String category, String org);
+
+    /**
+     * {@link #searchRestApis}와 같은 조건의 제공기관별 건수 ([제공기관, 건수])
+     */
+    List<Object[]> countRestApisByProviderOrg(List<String> tokens, String category, String org);
+}
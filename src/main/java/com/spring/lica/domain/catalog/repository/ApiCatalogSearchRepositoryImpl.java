@@ -0,0 +1,108 @@
+package com.spring.lica.domain.catalog.repository;
+
+import com.spring.lica.domain.catalog.entity.ApiCatalog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ApiCatalogSearchRepositoryImpl implements ApiCatalogSearchRepository {
+
+    private final EntityManager entityManager;
+
+    ApiCatalogSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<ApiCatalog> searchRestApis(List<String> tokens, String category, String org, Pageable pageable) {
+        Condition condition = new Condition(tokens, category, org);
+        TypedQuery<ApiCatalog> query = condition.bind(entityManager.createQuery(
+                "SELECT c FROM ApiCatalog c" + condition.where + " ORDER BY c.updatedAt DESC", ApiCatalog.class));
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable,
+                () -> countRestApis(tokens, category, org));
+    }
+
+    @Override
+    public List<ApiCatalog> scrollRestApis(List<String> tokens, String category, String org,
+                                           LocalDateTime updatedAt, Long id, int limit) {
+        Condition condition = new Condition(tokens, category, org);
+        String where = condition.where;
+        if (updatedAt != null) {
+            where += " AND (c.updatedAt < :updatedAt OR (c.updatedAt = :updatedAt AND c.id < :id))";
+            condition.params.put("updatedAt", updatedAt);
+            condition.params.put("id", id);
+        }
+        return condition.bind(entityManager.createQuery(
+                        "SELECT c FROM ApiCatalog c" + where + " ORDER BY c.updatedAt DESC, c.id DESC",
+                        ApiCatalog.class))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countRestApis(List<String> tokens, String category, String org) {
+        Condition condition = new Condition(tokens, category, org);
+        return condition.bind(entityManager.createQuery(
+                "SELECT COUNT(c) FROM ApiCatalog c" + condition.where, Long.class)).getSingleResult();
+    }
+
+    @Override
+    public List<Object[]> countRestApisByCategory(List<String> tokens, String category, String org) {
+        return countBy("c.category", tokens, category, org);
+    }
+
+    @Override
+    public List<Object[]> countRestApisByProviderOrg(List<String> tokens, String category, String org) {
+        return countBy("c.providerOrg", tokens, category, org);
+    }
+
+    private List<Object[]> countBy(String field, List<String> tokens, String category, String org) {
+        Condition condition = new Condition(tokens, category, org);
+        return condition.bind(entityManager.createQuery(
+                "SELECT " + field + ", COUNT(c) FROM ApiCatalog c" + condition.where
+                        + " AND " + field + " IS NOT NULL GROUP BY " + field, Object[].class)).getResultList();
+    }
+
+    /**
+     * 공통 WHERE 절과 바인딩 값. 토큰 i는 {@code :kw<i>}로 바인딩한다.
+     */
+    private static final class Condition {
+
+        private final String where;
+        private final Map<String, Object> params = new HashMap<>();
+
+        private Condition(List<String> tokens, String category, String org) {
+            StringBuilder where = new StringBuilder(" WHERE c.serviceType = 'REST'");
+            for (int i = 0; i < tokens.size(); i++) {
+                String param = "kw" + i;
+                where.append(" AND (LOWER(c.apiName) LIKE :").append(param)
+                        .append(" OR LOWER(c.description) LIKE :").append(param)
+                        .append(" OR LOWER(c.providerOrg) LIKE :").append(param).append(')');
+                params.put(param, "%" + tokens.get(i) + "%");
+            }
+            if (category != null && !category.isEmpty()) {
+                where.append(" AND c.category = :category");
+                params.put("category", category);
+            }
+            if (org != null && !org.isEmpty()) {
+                where.append(" AND c.providerOrg = :org");
+                params.put("org", org);
+            }
+            this.where = where.toString();
+        }
+
+        private <T> TypedQuery<T> bind(TypedQuery<T> query) {
+            params.forEach(query::setParameter);
+            return query;
+        }
+    }
+}
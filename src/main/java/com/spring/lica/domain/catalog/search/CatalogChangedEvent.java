@@ -0,0 +1,14 @@
+package com.spring.lica.domain.catalog.search;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 카탈로그 행의 검색 대상 필드(이름·설명·제공기관·분류 등)가 바뀌었음을 알린다. 커밋 후 검색 색인과 읽기 스냅샷에 반영된다.
+ */
+public record CatalogChangedEvent(Collection<String> uddiSeqs) {
+
+    public static CatalogChangedEvent of(String uddiSeq) {
+        return new CatalogChangedEvent(List.of(uddiSeq));
+    }
+}
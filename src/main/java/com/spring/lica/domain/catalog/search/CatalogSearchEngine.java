@@ -0,0 +1,24 @@
+package com.spring.lica.domain.catalog.search;
+
+import com.spring.lica.common.pagination.CursorPage;
+import com.spring.lica.common.pagination.KeysetCursor;
+import com.spring.lica.domain.catalog.dto.CatalogResponse;
+import com.spring.lica.domain.catalog.dto.CatalogSearchPage;
+import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
+
+/**
+ * 로컬 카탈로그(REST API) 검색. 키워드, 분류({@code category}), 제공기관({@code org}) 필터와 페이지를 받는다.
+ */
+public interface CatalogSearchEngine {
+
+    /**
+     * 결과 페이지와 함께 현재 질의(키워드·필터 모두 적용)에 일치하는 전체 항목의 분류·제공기관별 건수를 돌려준다.
+     */
+    CatalogSearchPage search(CatalogSearchRequest request);
+
+    /**
+     * 최근 수정 순({@code updatedAt}, {@code id} 내림차순) 키셋 조회. {@code request}의 page는 무시하고 size만 쓴다.
+     * {@code after}가 null이면 첫 페이지. 전체 건수는 {@code includeTotal}이 아니면 생략될 수 있다.
+     */
+    CursorPage<CatalogResponse> scroll(CatalogSearchRequest request, KeysetCursor after, boolean includeTotal);
+}
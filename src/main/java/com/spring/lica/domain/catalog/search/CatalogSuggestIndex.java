@@ -0,0 +1,138 @@
+package com.spring.lica.domain.catalog.search;
+
+import com.spring.lica.domain.catalog.dto.CatalogSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 자동완성용 불변 접두어 색인.
+ *
+ * <p>정규화한 키를 정렬해 두고 이진 탐색으로 접두어에 해당하는 구간을 찾는다. 구간 안에서 가중치가 큰 후보는
+ * 키 위치별 최댓값 트리(segment tree)에서 꺼내므로 짧은 접두어로 구간이 커져도 비용은 {@code limit}에만 비례한다.
+ * 한 후보가 여러 키(토큰 시작 위치)로 들어 있으므로 같은 후보는 한 번만 돌려준다.</p>
+ */
+final class CatalogSuggestIndex {
+
+    static final CatalogSuggestIndex EMPTY = new Builder().build();
+
+    private final String[] keys;
+    private final int[] entryOf;
+    private final CatalogSuggestion[] entries;
+    private final long[] weights;
+    /** tree[n + i] = i, tree[v] = 자식 구간에서 가중치가 가장 큰 키 위치 */
+    private final int[] tree;
+
+    private CatalogSuggestIndex(String[] keys, int[] entryOf, CatalogSuggestion[] entries, long[] weights) {
+        this.keys = keys;
+        this.entryOf = entryOf;
+        this.entries = entries;
+        this.weights = weights;
+        int n = keys.length;
+        this.tree = new int[2 * n];
+        for (int i = 0; i < n; i++) tree[n + i] = i;
+        for (int v = n - 1; v > 0; v--) tree[v] = better(tree[2 * v], tree[2 * v + 1]);
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * 정규화된 접두어로 시작하는 키의 후보를 가중치 순으로 최대 {@code limit}개
+     */
+    List<CatalogSuggestion> suggest(String prefix, int limit) {
+        int lo = lowerBound(prefix);
+        int hi = lowerBound(prefix + Character.MAX_VALUE);
+        if (lo >= hi) return List.of();
+
+        // {구간 시작, 구간 끝, 구간 최댓값 위치}
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(Comparator.comparingLong((int[] r) -> -weights[entryOf[r[2]]])
+                .thenComparingInt(r -> r[2]));
+        ranges.add(new int[]{lo, hi, argmax(lo, hi)});
+        List<CatalogSuggestion> result = new ArrayList<>(limit);
+        Set<Integer> seen = new HashSet<>();
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int top = range[2];
+            if (seen.add(entryOf[top])) result.add(entries[entryOf[top]]);
+            if (range[0] < top) ranges.add(new int[]{range[0], top, argmax(range[0], top)});
+            if (top + 1 < range[1]) ranges.add(new int[]{top + 1, range[1], argmax(top + 1, range[1])});
+        }
+        return result;
+    }
+
+    private int lowerBound(String key) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * [from, to) 구간에서 가중치가 가장 큰 키 위치 (같으면 앞쪽)
+     */
+    private int argmax(int from, int to) {
+        int n = keys.length;
+        int best = -1;
+        for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) best = better(best, tree[l++]);
+            if ((r & 1) == 1) best = better(best, tree[--r]);
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) return b;
+        long wa = weights[entryOf[a]];
+        long wb = weights[entryOf[b]];
+        if (wa != wb) return wa > wb ? a : b;
+        return Math.min(a, b);
+    }
+
+    static final class Builder {
+        private final List<CatalogSuggestion> entries = new ArrayList<>();
+        private final List<Long> weights = new ArrayList<>();
+        private final List<Key> keys = new ArrayList<>();
+
+        /**
+         * 후보 하나와 그 후보를 찾을 정규화된 키들
+         */
+        Builder add(CatalogSuggestion suggestion, long weight, List<String> keys) {
+            if (keys.isEmpty()) return this;
+            int entry = entries.size();
+            entries.add(suggestion);
+            weights.add(weight);
+            for (String key : keys) this.keys.add(new Key(key, entry));
+            return this;
+        }
+
+        CatalogSuggestIndex build() {
+            Key[] sorted = keys.toArray(Key[]::new);
+            Arrays.sort(sorted, Comparator.comparing(Key::key).thenComparingInt(Key::entry));
+            String[] keyArray = new String[sorted.length];
+            int[] entryOf = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                keyArray[i] = sorted[i].key();
+                entryOf[i] = sorted[i].entry();
+            }
+            long[] weightArray = weights.stream().mapToLong(Long::longValue).toArray();
+            return new CatalogSuggestIndex(keyArray, entryOf, entries.toArray(CatalogSuggestion[]::new), weightArray);
+        }
+
+        private record Key(String key, int entry) {}
+    }
+}
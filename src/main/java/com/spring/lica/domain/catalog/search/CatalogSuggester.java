@@ -0,0 +1,156 @@
+package com.spring.lica.domain.catalog.search;
+
+import com.spring.lica.domain.catalog.dto.CatalogSuggestion;
+import com.spring.lica.domain.catalog.readmodel.CatalogSnapshotStore;
+import com.spring.lica.domain.catalog.service.CatalogProperties;
+import com.spring.lica.domain.catalog.service.CatalogSyncCompletedEvent;
+import com.spring.lica.domain.catalog.service.CatalogViewTracker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * API 이름·제공기관·분류 자동완성.
+ *
+ * <p>요청은 메모리의 {@link CatalogSuggestIndex}만 읽고 DB나 포털을 거치지 않는다. 색인은 기동 직후, 동기화가 끝날 때,
+ * 그리고 {@code suggest-refresh-interval}마다 전용 스레드에서 새로 만들어 통째로 교체하므로 읽는 쪽에는 잠금이 없다.</p>
+ *
+ * <p>API 목록은 {@link CatalogSnapshotStore}의 스냅샷에서 읽고, DB에는 테스트 실행 수 집계만 질의한다.
+ * API 가중치는 1 + 상세 조회수 + 최근 {@code suggest-popularity-days}일 테스트 실행 수 x {@value #TEST_WEIGHT}이고,
+ * 제공기관·분류는 소속 API 가중치의 합이다.</p>
+ */
+@Slf4j
+@Component
+public class CatalogSuggester {
+
+    /**
+     * 한 번에 돌려주는 최대 후보 수
+     */
+    public static final int MAX_LIMIT = 20;
+
+    private static final int TEST_WEIGHT = 3;
+    private static final int MAX_KEYS_PER_TEXT = 8;
+
+    private static final String TEST_COUNTS_SQL = """
+            SELECT c.uddi_seq, COUNT(*) AS tests FROM test_history h JOIN api_catalog c ON c.id = h.catalog_id
+            WHERE h.executed_at >= ? GROUP BY c.uddi_seq
+            """;
+
+    private final CatalogProperties properties;
+    private final CatalogViewTracker viewTracker;
+    private final CatalogSnapshotStore snapshotStore;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("catalog-suggest-build").daemon(true).factory());
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private volatile CatalogSuggestIndex index = CatalogSuggestIndex.EMPTY;
+
+    public CatalogSuggester(CatalogProperties properties, CatalogViewTracker viewTracker,
+                            CatalogSnapshotStore snapshotStore, JdbcTemplate jdbcTemplate) {
+        this.properties = properties;
+        this.viewTracker = viewTracker;
+        this.snapshotStore = snapshotStore;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@code query}로 시작하는(단어 시작 기준) 후보를 가중치 순으로
+     */
+    public List<CatalogSuggestion> suggest(String query, int limit) {
+        String prefix = CatalogTextAnalyzer.normalize(query).strip();
+        if (prefix.isEmpty()) return List.of();
+        return index.suggest(prefix, Math.clamp(limit, 1, MAX_LIMIT));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        requestRebuild();
+    }
+
+    @EventListener
+    public void onSyncCompleted(CatalogSyncCompletedEvent event) {
+        requestRebuild();
+    }
+
+    /**
+     * 조회·테스트 인기도 변화를 반영한다. 상세 수집기가 꺼져 있어도 돈다 ({@code SchedulingConfig}).
+     */
+    @Scheduled(initialDelayString = "${app.catalog.suggest-refresh-interval:600000}",
+            fixedDelayString = "${app.catalog.suggest-refresh-interval:600000}")
+    public void refresh() {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        builder.shutdownNow();
+    }
+
+    /**
+     * 이미 대기 중인 재구성이 있으면 합친다. 만드는 도중의 요청은 끝난 뒤 한 번 더 만든다.
+     */
+    private void requestRebuild() {
+        if (!properties.isSuggestEnabled() || !rebuildQueued.compareAndSet(false, true)) return;
+        builder.execute(() -> {
+            rebuildQueued.set(false);
+            rebuild();
+        });
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        try {
+            Map<String, Long> views = viewTracker.viewCounts();
+            Map<String, Long> tests = new HashMap<>();
+            Timestamp since = Timestamp.valueOf(LocalDateTime.now().minusDays(properties.getSuggestPopularityDays()));
+            jdbcTemplate.query(TEST_COUNTS_SQL, rs -> {
+                tests.put(rs.getString("uddi_seq"), rs.getLong("tests"));
+            }, since);
+
+            CatalogSuggestIndex.Builder built = CatalogSuggestIndex.builder();
+            Map<String, Long> orgWeights = new HashMap<>();
+            Map<String, Long> categoryWeights = new HashMap<>();
+            snapshotStore.current().restApis().forEach(api -> {
+                String uddiSeq = api.getUddiSeq();
+                String org = api.getProviderOrg();
+                String category = api.getCategory();
+                long weight = 1 + views.getOrDefault(uddiSeq, 0L) + TEST_WEIGHT * tests.getOrDefault(uddiSeq, 0L);
+                add(built, api.getApiName(), CatalogSuggestion.Type.API, uddiSeq, weight);
+                if (org != null && !org.isBlank()) orgWeights.merge(org, weight, Long::sum);
+                if (category != null && !category.isBlank()) categoryWeights.merge(category, weight, Long::sum);
+            });
+            orgWeights.forEach((org, weight) -> add(built, org, CatalogSuggestion.Type.ORG, null, weight));
+            categoryWeights.forEach((category, weight) ->
+                    add(built, category, CatalogSuggestion.Type.CATEGORY, null, weight));
+
+            CatalogSuggestIndex rebuilt = built.build();
+            index = rebuilt;
+            log.info("Catalog suggest index built: {} entries in {}ms", rebuilt.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Failed to build catalog suggest index, keeping previous one: {}", e.getMessage());
+        }
+    }
+
+    private static void add(CatalogSuggestIndex.Builder builder, String text, CatalogSuggestion.Type type,
+                            String uddiSeq, long weight) {
+        if (text == null || text.isBlank()) return;
+        List<String> keys = CatalogTextAnalyzer.prefixKeys(CatalogTextAnalyzer.normalize(text), MAX_KEYS_PER_TEXT);
+        builder.add(new CatalogSuggestion(text, type, uddiSeq), weight, keys);
+    }
+}
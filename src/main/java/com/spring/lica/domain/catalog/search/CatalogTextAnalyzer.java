@@ -0,0 +1,78 @@
+package com.spring.lica.domain.catalog.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 색인·질의 공통 텍스트 분석. 형태소 분석 없이 한글 부분 문자열 검색을 지원하기 위해
+ * 토큰 안의 글자 unigram과 인접 글자 bigram을 색인어로 쓴다 ("기상청" → 기, 상, 청, 기상, 상청).
+ */
+final class CatalogTextAnalyzer {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private CatalogTextAnalyzer() {
+    }
+
+    /**
+     * NFKC 정규화 + 소문자. null이면 빈 문자열.
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 텍스트의 토큰 (글자·숫자 연속 구간)
+     */
+    static List<String> tokens(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(normalized)) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    /**
+     * 자동완성 키: 정규화된 텍스트를 토큰 시작 위치마다 자른 나머지 ("기상청 단기예보" → "기상청 단기예보", "단기예보").
+     * 앞에서부터 최대 {@code maxKeys}개.
+     */
+    static List<String> prefixKeys(String normalized, int maxKeys) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < normalized.length() && keys.size() < maxKeys; i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1)))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 토큰 하나의 unigram과 bigram
+     */
+    static void addGrams(String token, Set<String> grams) {
+        for (int i = 0; i < token.length(); i++) {
+            grams.add(token.substring(i, i + 1));
+            if (i + 1 < token.length()) grams.add(token.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * 질의어가 포함된 문서를 찾는 데 필요한 색인어. 한 글자면 그 글자, 아니면 bigram 전부.
+     */
+    static Set<String> queryGrams(String term) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (term.length() == 1) {
+            grams.add(term);
+        } else {
+            for (int i = 0; i + 1 < term.length(); i++) grams.add(term.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,488 @@
+package com.spring.lica.domain.catalog.search;
+
+import com.spring.lica.common.pagination.CursorPage;
+import com.spring.lica.common.pagination.KeysetCursor;
+import com.spring.lica.domain.catalog.dto.CatalogFacets;
+import com.spring.lica.domain.catalog.dto.CatalogResponse;
+import com.spring.lica.domain.catalog.dto.CatalogSearchPage;
+import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
+import com.spring.lica.domain.catalog.service.CatalogProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * REST API 카탈로그의 인메모리 역색인 검색.
+ *
+ * <p>이름·설명·제공기관을 {@link CatalogTextAnalyzer}로 글자 unigram/bigram과 토큰으로 색인하고,
+ * 질의어마다 bigram 포스팅 리스트를 교집합한 뒤 실제 포함 여부를 확인해 {@code LIKE '%kw%'}와 같은 부분 문자열 의미를 유지한다.
+ * 분류·제공기관 필터도 포스팅 리스트 교집합으로 처리한다. 여러 단어는 AND로 결합하며, 이름 > 제공기관 > 설명 순으로
+ * 가중한 점수, 그다음 최근 수정 순으로 정렬한다.</p>
+ *
+ * <p>분류·제공기관별 건수는 필터가 없으면 추가·삭제 때마다 갱신하는 집계를 그대로 쓰고, 필터가 있으면 순위를 매기는
+ * 같은 순회에서 일치 항목만 센다. 어느 쪽도 DB 질의를 더 하지 않는다.</p>
+ *
+ * <p>기동 후 DB 전체로 색인을 만들고(그동안은 {@link JpaCatalogSearchEngine}으로 응답), 이후에는 동기화·상세 수집이 발행하는
+ * {@link CatalogChangedEvent}를 받아 커밋된 행만 다시 읽어 반영한다. 문서 번호는 추가 순으로만 증가하므로 갱신은
+ * 기존 번호를 지우고 새 번호를 덧붙이는 방식이며, 지워진 번호가 많아지면 메모리에서 압축한다.</p>
+ */
+@Slf4j
+@Primary
+@Component
+public class InvertedIndexCatalogSearchEngine implements CatalogSearchEngine {
+
+    private static final String SELECT_COLUMNS = """
+            SELECT id, uddi_seq, api_name, description, provider_org, category, service_type, data_format,
+                endpoint_url, updated_at FROM api_catalog
+            """;
+    private static final String SELECT_ALL_SQL = SELECT_COLUMNS + " WHERE service_type = 'REST'";
+    private static final String SELECT_CHANGED_SQL = SELECT_COLUMNS + " WHERE uddi_seq IN (:uddiSeqs)";
+
+    private static final int NAME_SCORE = 10;
+    private static final int NAME_TOKEN_BONUS = 5;
+    private static final int ORG_SCORE = 4;
+    private static final int DESCRIPTION_SCORE = 1;
+    private static final int COMPACT_MIN_DEAD = 1000;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score)
+            .thenComparing(hit -> hit.doc().updatedAt())
+            .thenComparingLong(hit -> hit.doc().response().getId());
+    private static final Comparator<Doc> RECENCY = Comparator.comparing(Doc::updatedAt)
+            .thenComparingLong(doc -> doc.response().getId());
+
+    private final CatalogProperties properties;
+    private final JpaCatalogSearchEngine fallback;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("catalog-index-build").daemon(true).factory());
+
+    // lock으로 보호
+    private Index index;
+    private Set<String> changedDuringBuild;
+
+    public InvertedIndexCatalogSearchEngine(CatalogProperties properties, JpaCatalogSearchEngine fallback,
+                                            JdbcTemplate jdbcTemplate,
+                                            NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.properties = properties;
+        this.fallback = fallback;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (properties.isSearchIndexEnabled()) {
+            builder.execute(this::rebuild);
+        }
+    }
+
+    @Override
+    public CatalogSearchPage search(CatalogSearchRequest request) {
+        lock.readLock().lock();
+        try {
+            if (index != null) {
+                return index.search(request);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return fallback.search(request);
+    }
+
+    /**
+     * 색인에서는 전체 건수도 같은 순회에서 나오므로 {@code includeTotal}과 관계없이 채운다.
+     */
+    @Override
+    public CursorPage<CatalogResponse> scroll(CatalogSearchRequest request, KeysetCursor after, boolean includeTotal) {
+        lock.readLock().lock();
+        try {
+            if (index != null) {
+                return index.scroll(request, after);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return fallback.scroll(request, after, includeTotal);
+    }
+
+    /**
+     * DB 전체로 색인을 다시 만든다. 만드는 동안 바뀐 행은 교체 후 다시 반영한다.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        Index built = new Index();
+        try {
+            jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+                built.add(toDoc(rs));
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to build catalog search index, keeping DB search", e);
+            lock.writeLock().lock();
+            try {
+                changedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        Set<String> changed;
+        lock.writeLock().lock();
+        try {
+            index = built;
+            changed = changedDuringBuild;
+            changedDuringBuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!changed.isEmpty()) reload(changed);
+        log.info("Catalog search index built: {} APIs, {} terms in {}ms", built.live, built.termCount(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!properties.isSearchIndexEnabled() || event.uddiSeqs().isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            if (changedDuringBuild != null) changedDuringBuild.addAll(event.uddiSeqs());
+            if (index == null) return;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        reload(event.uddiSeqs());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        builder.shutdownNow();
+    }
+
+    /**
+     * 커밋된 행을 다시 읽어 반영한다. 없거나 REST가 아니게 된 행은 색인에서 뺀다.
+     */
+    private void reload(Iterable<String> uddiSeqs) {
+        List<String> keys = new ArrayList<>();
+        uddiSeqs.forEach(keys::add);
+        Map<String, Doc> rows = new HashMap<>();
+        try {
+            namedParameterJdbcTemplate.query(SELECT_CHANGED_SQL, Map.of("uddiSeqs", keys), rs -> {
+                Doc doc = toDoc(rs);
+                rows.put(doc.response().getUddiSeq(), doc);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh {} catalog index entries: {}", keys.size(), e.getMessage());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (index == null) return;
+            for (String uddiSeq : keys) {
+                index.remove(uddiSeq);
+                Doc doc = rows.get(uddiSeq);
+                if (doc != null && "REST".equals(doc.response().getServiceType())) index.add(doc);
+            }
+            if (index.dead > COMPACT_MIN_DEAD && index.dead > index.live) {
+                index = index.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Doc toDoc(ResultSet rs) throws SQLException {
+        CatalogResponse response = CatalogResponse.builder()
+                .id(rs.getLong("id"))
+                .uddiSeq(rs.getString("uddi_seq"))
+                .apiName(rs.getString("api_name"))
+                .description(rs.getString("description"))
+                .providerOrg(rs.getString("provider_org"))
+                .category(rs.getString("category"))
+                .serviceType(rs.getString("service_type"))
+                .dataFormat(rs.getString("data_format"))
+                .endpointUrl(rs.getString("endpoint_url"))
+                .build();
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new Doc(response,
+                CatalogTextAnalyzer.normalize(response.getApiName()),
+                CatalogTextAnalyzer.normalize(response.getDescription()),
+                CatalogTextAnalyzer.normalize(response.getProviderOrg()),
+                updatedAt != null ? updatedAt.toLocalDateTime() : LocalDateTime.MIN);
+    }
+
+    /**
+     * 색인 문서. 정규화한 검색 필드를 함께 들고 있어 후보 확인과 점수 계산에 DB를 거치지 않는다.
+     */
+    private record Doc(CatalogResponse response, String name, String description, String org,
+                       LocalDateTime updatedAt) {}
+
+    private record Hit(Doc doc, int score) {}
+
+    /**
+     * 문서 번호(추가 순) → 문서, 색인어 → 문서 번호 포스팅 리스트. 호출자가 잠금을 책임진다.
+     */
+    private static final class Index {
+        private final List<Doc> docs = new ArrayList<>();
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final Map<String, IntList> grams = new HashMap<>();
+        private final Map<String, IntList> categories = new HashMap<>();
+        private final Map<String, IntList> orgs = new HashMap<>();
+        private final Map<String, Integer> categoryCounts = new HashMap<>();
+        private final Map<String, Integer> orgCounts = new HashMap<>();
+        private int live;
+        private int dead;
+
+        void add(Doc doc) {
+            int ordinal = docs.size();
+            docs.add(doc);
+            ordinals.put(doc.response().getUddiSeq(), ordinal);
+            live++;
+
+            Set<String> terms = new HashSet<>();
+            for (String field : new String[]{doc.name(), doc.description(), doc.org()}) {
+                for (String token : CatalogTextAnalyzer.tokens(field)) CatalogTextAnalyzer.addGrams(token, terms);
+            }
+            for (String term : terms) grams.computeIfAbsent(term, k -> new IntList()).add(ordinal);
+            if (doc.response().getCategory() != null) {
+                categories.computeIfAbsent(doc.response().getCategory(), k -> new IntList()).add(ordinal);
+                categoryCounts.merge(doc.response().getCategory(), 1, Integer::sum);
+            }
+            if (doc.response().getProviderOrg() != null) {
+                orgs.computeIfAbsent(doc.response().getProviderOrg(), k -> new IntList()).add(ordinal);
+                orgCounts.merge(doc.response().getProviderOrg(), 1, Integer::sum);
+            }
+        }
+
+        void remove(String uddiSeq) {
+            Integer ordinal = ordinals.remove(uddiSeq);
+            if (ordinal == null) return;
+            CatalogResponse removed = docs.get(ordinal).response();
+            if (removed.getCategory() != null) decrement(categoryCounts, removed.getCategory());
+            if (removed.getProviderOrg() != null) decrement(orgCounts, removed.getProviderOrg());
+            docs.set(ordinal, null);
+            live--;
+            dead++;
+        }
+
+        Index compact() {
+            Index compacted = new Index();
+            for (Doc doc : docs) {
+                if (doc != null) compacted.add(doc);
+            }
+            return compacted;
+        }
+
+        int termCount() {
+            return grams.size();
+        }
+
+        CatalogFacets facets() {
+            return CatalogFacets.of(categoryCounts, orgCounts);
+        }
+
+        private static void decrement(Map<String, Integer> counts, String key) {
+            counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+        }
+
+        CatalogSearchPage search(CatalogSearchRequest request) {
+            PageRequest pageable = PageRequest.of(request.getPage(), request.getSize());
+            List<String> terms = CatalogTextAnalyzer.tokens(CatalogTextAnalyzer.normalize(request.getKeyword()));
+            List<IntList> postings = postings(request, terms);
+            if (postings.contains(null)) {
+                return new CatalogSearchPage(List.of(), pageable, 0, CatalogFacets.EMPTY);
+            }
+            boolean filtered = !postings.isEmpty();
+            Map<String, Integer> matchedCategories = filtered ? new HashMap<>() : null;
+            Map<String, Integer> matchedOrgs = filtered ? new HashMap<>() : null;
+
+            int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(limit, 1024) + 1, RANKING);
+            int total = 0;
+            int[] candidates = postings.isEmpty() ? null : intersect(postings);
+            int count = candidates != null ? candidates.length : docs.size();
+            for (int i = 0; i < count; i++) {
+                Doc doc = docs.get(candidates != null ? candidates[i] : i);
+                if (doc == null) continue;
+                int score = score(doc, terms);
+                if (score < 0) continue;
+                total++;
+                if (filtered) {
+                    if (doc.response().getCategory() != null) {
+                        matchedCategories.merge(doc.response().getCategory(), 1, Integer::sum);
+                    }
+                    if (doc.response().getProviderOrg() != null) {
+                        matchedOrgs.merge(doc.response().getProviderOrg(), 1, Integer::sum);
+                    }
+                }
+                Hit hit = new Hit(doc, score);
+                if (top.size() < limit) {
+                    top.add(hit);
+                } else if (RANKING.compare(hit, top.peek()) > 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING.reversed());
+            List<CatalogResponse> content = ranked.stream()
+                    .skip(pageable.getOffset())
+                    .map(Hit::doc)
+                    .map(Doc::response)
+                    .toList();
+            return new CatalogSearchPage(content, pageable, total,
+                    filtered ? CatalogFacets.of(matchedCategories, matchedOrgs) : facets());
+        }
+
+        /**
+         * 최근 수정 순 키셋 조회. 커서 뒤의 일치 항목 중 상위 {@code size + 1}개만 힙에 남기므로
+         * 몇 번째 페이지든 비용은 후보 수에만 비례한다.
+         */
+        CursorPage<CatalogResponse> scroll(CatalogSearchRequest request, KeysetCursor after) {
+            int size = request.getSize();
+            List<String> terms = CatalogTextAnalyzer.tokens(CatalogTextAnalyzer.normalize(request.getKeyword()));
+            List<IntList> postings = postings(request, terms);
+            if (postings.contains(null)) {
+                return new CursorPage<>(List.of(), null, false, 0L);
+            }
+
+            PriorityQueue<Doc> top = new PriorityQueue<>(Math.min(size, 1024) + 2, RECENCY);
+            long total = 0;
+            int[] candidates = postings.isEmpty() ? null : intersect(postings);
+            int count = candidates != null ? candidates.length : docs.size();
+            for (int i = 0; i < count; i++) {
+                Doc doc = docs.get(candidates != null ? candidates[i] : i);
+                if (doc == null || score(doc, terms) < 0) continue;
+                total++;
+                if (after != null && !after.precedes(doc.updatedAt(), doc.response().getId())) continue;
+                if (top.size() <= size) {
+                    top.add(doc);
+                } else if (RECENCY.compare(doc, top.peek()) > 0) {
+                    top.poll();
+                    top.add(doc);
+                }
+            }
+
+            List<Doc> ranked = new ArrayList<>(top);
+            ranked.sort(RECENCY.reversed());
+            return CursorPage.of(ranked, size, doc -> new KeysetCursor(doc.updatedAt(), doc.response().getId()), total)
+                    .map(Doc::response);
+        }
+
+        /**
+         * 필터와 질의어 bigram의 포스팅 리스트. 하나라도 없는 색인어면 null이 들어간다 (결과 없음).
+         */
+        private List<IntList> postings(CatalogSearchRequest request, List<String> terms) {
+            List<IntList> postings = new ArrayList<>();
+            if (hasText(request.getCategory())) postings.add(categories.get(request.getCategory()));
+            if (hasText(request.getOrg())) postings.add(orgs.get(request.getOrg()));
+            for (String term : terms) {
+                for (String gram : CatalogTextAnalyzer.queryGrams(term)) postings.add(grams.get(gram));
+            }
+            return postings;
+        }
+
+        /**
+         * 모든 질의어가 이름·설명·제공기관 중 하나에 포함되면 점수, 아니면 -1 (bigram 후보의 오탐 제거).
+         */
+        private static int score(Doc doc, List<String> terms) {
+            int score = 0;
+            for (String term : terms) {
+                int termScore = 0;
+                if (doc.name().contains(term)) {
+                    termScore += NAME_SCORE;
+                    if (CatalogTextAnalyzer.tokens(doc.name()).contains(term)) termScore += NAME_TOKEN_BONUS;
+                }
+                if (doc.org().contains(term)) termScore += ORG_SCORE;
+                if (doc.description().contains(term)) termScore += DESCRIPTION_SCORE;
+                if (termScore == 0) return -1;
+                score += termScore;
+            }
+            return score;
+        }
+
+        /**
+         * 짧은 리스트부터 교집합. 길이 차이가 크면 이진 탐색으로 건너뛴다.
+         */
+        private static int[] intersect(List<IntList> postings) {
+            postings.sort(Comparator.comparingInt(IntList::size));
+            IntList first = postings.get(0);
+            int[] result = Arrays.copyOf(first.values, first.size);
+            int size = result.length;
+            for (int p = 1; p < postings.size() && size > 0; p++) {
+                IntList other = postings.get(p);
+                int kept = 0;
+                int from = 0;
+                for (int i = 0; i < size; i++) {
+                    int found = Arrays.binarySearch(other.values, from, other.size, result[i]);
+                    if (found >= 0) {
+                        result[kept++] = result[i];
+                        from = found + 1;
+                    } else {
+                        from = -found - 1;
+                    }
+                    if (from >= other.size) break;
+                }
+                size = kept;
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static boolean hasText(String value) {
+            return value != null && !value.isEmpty();
+        }
+    }
+
+    /**
+     * 오름차순으로만 추가되는 문서 번호 목록
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.spring.lica.domain.catalog.search;
+
+import com.spring.lica.common.pagination.CursorPage;
+import com.spring.lica.common.pagination.KeysetCursor;
+import com.spring.lica.domain.catalog.dto.CatalogFacets;
+import com.spring.lica.domain.catalog.dto.CatalogResponse;
+import com.spring.lica.domain.catalog.dto.CatalogSearchPage;
+import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
+import com.spring.lica.domain.catalog.entity.ApiCatalog;
+import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB {@code LIKE} 검색 (최근 수정 순). 인메모리 색인이 꺼져 있거나 아직 만들어지지 않았을 때 사용한다.
+ * 색인과 같이 키워드를 {@link CatalogTextAnalyzer}로 토큰화해 모든 토큰이 이름·설명·제공기관 중 하나에 포함된 항목을 찾는다.
+ * 분류·제공기관별 건수는 같은 조건의 {@code GROUP BY} 질의로 센다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaCatalogSearchEngine implements CatalogSearchEngine {
+
+    private final ApiCatalogRepository catalogRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogSearchPage search(CatalogSearchRequest request) {
+        List<String> tokens = tokens(request);
+        String category = request.getCategory();
+        String org = request.getOrg();
+        Page<CatalogResponse> page = catalogRepository.searchRestApis(tokens, category, org,
+                        PageRequest.of(request.getPage(), request.getSize()))
+                .map(CatalogResponse::from);
+        return new CatalogSearchPage(page.getContent(), page.getPageable(), page.getTotalElements(),
+                facets(tokens, category, org));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CatalogResponse> scroll(CatalogSearchRequest request, KeysetCursor after, boolean includeTotal) {
+        List<String> tokens = tokens(request);
+        String category = request.getCategory();
+        String org = request.getOrg();
+        List<ApiCatalog> rows = catalogRepository.scrollRestApis(tokens, category, org,
+                after != null ? after.at() : null, after != null ? after.id() : null, request.getSize() + 1);
+        Long total = includeTotal ? catalogRepository.countRestApis(tokens, category, org) : null;
+        return CursorPage.of(rows, request.getSize(), c -> new KeysetCursor(c.getUpdatedAt(), c.getId()), total)
+                .map(CatalogResponse::from);
+    }
+
+    private CatalogFacets facets(List<String> tokens, String category, String org) {
+        return CatalogFacets.of(
+                toCounts(catalogRepository.countRestApisByCategory(tokens, category, org)),
+                toCounts(catalogRepository.countRestApisByProviderOrg(tokens, category, org)));
+    }
+
+    private static List<String> tokens(CatalogSearchRequest request) {
+        return CatalogTextAnalyzer.tokens(CatalogTextAnalyzer.normalize(request.getKeyword()));
+    }
+
+    private static Map<String, Long> toCounts(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
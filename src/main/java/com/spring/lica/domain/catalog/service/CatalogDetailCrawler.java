@@ -0,0 +1,140 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.spring.lica.client.datagokr.PortalUnavailableException;
+import com.spring.lica.common.util.TokenBucketRateLimiter;
+import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동기화된 카탈로그의 상세 정보(오퍼레이션 명세)를 백그라운드에서 미리 수집한다.
+ *
+ * <p>상세 정보를 수집한 적이 없거나 {@code crawler-stale-after-hours}보다 오래된 항목을 대상으로,
+ * 최근 많이 조회된 API → 미수집 → 포털 수정일 최신 순으로 처리한다. 상세 페이지 요청은
+ * {@code crawler-concurrency}개까지 동시에 보내며 토큰 버킷({@code crawler-rate-per-second})으로 속도를 제한한다.
+ * 카탈로그 동기화 작업이 실행 중인 동안에는 포털 부하를 줄이기 위해 쉬어 간다.
+ * 포털에 지속적으로 요청을 보내므로 {@code crawler-enabled=true}로 명시해야 켜진다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.catalog.crawler-enabled", havingValue = "true")
+public class CatalogDetailCrawler {
+
+    private static final int TOP_VIEWED_LIMIT = 100;
+
+    private final CatalogDetailService catalogDetailService;
+    private final ApiCatalogRepository catalogRepository;
+    private final CatalogSyncJobService catalogSyncJobService;
+    private final CatalogViewTracker viewTracker;
+    private final CatalogProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ExecutorService executor;
+
+    public CatalogDetailCrawler(CatalogDetailService catalogDetailService,
+                                ApiCatalogRepository catalogRepository,
+                                CatalogSyncJobService catalogSyncJobService,
+                                CatalogViewTracker viewTracker,
+                                CatalogProperties properties) {
+        this.catalogDetailService = catalogDetailService;
+        this.catalogRepository = catalogRepository;
+        this.catalogSyncJobService = catalogSyncJobService;
+        this.viewTracker = viewTracker;
+        this.properties = properties;
+        this.rateLimiter = new TokenBucketRateLimiter(properties.getCrawlerRatePerSecond(),
+                Math.max(1, properties.getCrawlerConcurrency()));
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getCrawlerConcurrency()),
+                Thread.ofPlatform().name("catalog-crawler-", 1).daemon(true).factory());
+    }
+
+    @Scheduled(initialDelayString = "${app.catalog.crawler-initial-delay:30000}",
+            fixedDelayString = "${app.catalog.crawler-interval:60000}")
+    public void crawl() {
+        if (catalogSyncJobService.current().isPresent()) {
+            log.debug("Catalog sync in progress, skipping detail crawl");
+            return;
+        }
+
+        List<String> targets = selectTargets();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        AtomicInteger fetched = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(targets.size());
+        for (String uddiSeq : targets) {
+            futures.add(executor.submit(() -> {
+                if (crawlOne(uddiSeq)) fetched.incrementAndGet();
+                else failed.incrementAndGet();
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            return;
+        } catch (Exception e) {
+            log.error("Detail crawl batch failed", e);
+        }
+        log.info("Detail crawl finished: fetched={}, failed={}, elapsed={}ms",
+                fetched.get(), failed.get(), System.currentTimeMillis() - startedAt);
+    }
+
+    private List<String> selectTargets() {
+        int batchSize = properties.getCrawlerBatchSize();
+        LocalDateTime staleBefore = LocalDateTime.now().minusHours(properties.getCrawlerStaleAfterHours());
+
+        Set<String> targets = new LinkedHashSet<>();
+        List<String> topViewed = viewTracker.topViewed(TOP_VIEWED_LIMIT);
+        if (!topViewed.isEmpty()) {
+            // 조회수 순서 유지
+            Set<String> stale = Set.copyOf(catalogRepository.findStaleDetailUddiSeqs(topViewed, staleBefore));
+            topViewed.stream().filter(stale::contains).limit(batchSize).forEach(targets::add);
+        }
+        if (targets.size() < batchSize) {
+            targets.addAll(catalogRepository.findDetailCrawlCandidates(staleBefore, PageRequest.of(0, batchSize)));
+        }
+        return targets.stream().limit(batchSize).toList();
+    }
+
+    private boolean crawlOne(String uddiSeq) throws InterruptedException {
+        rateLimiter.acquire();
+        try {
+            catalogDetailService.crawlDetail(uddiSeq);
+            return true;
+        } catch (PortalUnavailableException e) {
+            // 포털 차단 중에는 항목 탓이 아니므로 수집 시각을 남기지 않고 다음 주기에 다시 시도
+            log.debug("Detail crawl skipped for uddiSeq={}: {}", uddiSeq, e.getMessage());
+            return false;
+        } catch (Exception e) {
+            // 실패한 항목도 수집 시각을 기록하여 다음 주기에 같은 항목만 반복하지 않도록 한다
+            log.warn("Detail crawl failed for uddiSeq={}: {}", uddiSeq, e.getMessage());
+            catalogDetailService.markDetailFetched(uddiSeq);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,150 +1,179 @@
 package com.spring.lica.domain.catalog.service;
 
+import com.spring.lica.client.datagokr.DataGoKrApiException;
 import com.spring.lica.client.datagokr.DataGoKrClient;
-import com.spring.lica.client.datagokr.dto.ApiDetailParseResult;
+import com.spring.lica.client.datagokr.PortalUnavailableException;
+import com.spring.lica.client.datagokr.dto.DetailFetchResult;
+import com.spring.lica.client.datagokr.dto.DetailValidators;
+import com.spring.lica.common.util.SingleFlight;
 import com.spring.lica.domain.catalog.dto.CatalogDetailResponse;
-import com.spring.lica.domain.catalog.entity.ApiCatalog;
-import com.spring.lica.domain.catalog.entity.ApiOperation;
-import com.spring.lica.domain.catalog.entity.ApiParameter;
-import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API 상세 정보 조회.
+ *
+ * <p>같은 uddiSeq에 대한 동시 스크래핑은 {@link SingleFlight}로 하나로 합쳐지며, 기다리던 호출은
+ * 리더가 저장한 결과를 함께 받는다. 백그라운드 수집은 결과 의미가 달라(동기화 전 항목은 null, 바뀌지 않은 페이지는
+ * 기존 오퍼레이션 유지) 사용자 요청과 별도의 flight로 합친다. 스크래핑이 실패했거나 오퍼레이션을 찾지 못한 결과는
+ * {@code detail-negative-ttl} 동안 기억하여 같은 페이지를 반복해서 스크래핑하지 않는다.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CatalogDetailService {
 
+    private static final int NEGATIVE_CACHE_PURGE_THRESHOLD = 1000;
+
     private final DataGoKrClient dataGoKrClient;
-    private final ApiCatalogRepository catalogRepository;
+    private final CatalogDetailStore detailStore;
+    private final CatalogViewTracker viewTracker;
+    private final CatalogProperties properties;
+
+    private final SingleFlight<String, CatalogDetailResponse> scrapes = new SingleFlight<>();
+    private final SingleFlight<String, CatalogDetailResponse> crawls = new SingleFlight<>();
+    private final Map<String, NegativeEntry> negativeCache = new ConcurrentHashMap<>();
 
     /**
      * API 상세 정보를 조회한다.
      * 1) 로컬 DB에 오퍼레이션 정보가 있으면 캐시에서 반환
      * 2) 없으면 data.go.kr에서 스크래핑 후 DB에 캐싱하고 반환
+     *
+     * <p>조회수는 상세 정보를 찾은 항목만 집계한다. 임의의 uddiSeq 요청으로 집계 맵이 커지거나
+     * 수집 우선순위·자동완성 가중치가 오염되지 않게 한다.</p>
      */
-    @Transactional
     public CatalogDetailResponse getDetail(String uddiSeq) {
-        Optional<ApiCatalog> existing = catalogRepository.findByUddiSeq(uddiSeq);
+        CatalogDetailResponse detail = loadDetail(uddiSeq);
+        if (detail != null) {
+            viewTracker.recordView(uddiSeq);
+        }
+        return detail;
+    }
 
-        if (existing.isPresent() && !existing.get().getOperations().isEmpty()
-                && existing.get().getOperations().stream().anyMatch(op -> !op.getParameters().isEmpty())) {
+    private CatalogDetailResponse loadDetail(String uddiSeq) {
+        Optional<CatalogDetailResponse> cached = detailStore.findComplete(uddiSeq);
+        if (cached.isPresent()) {
             log.debug("Returning cached detail for uddiSeq={}", uddiSeq);
-            return CatalogDetailResponse.from(existing.get());
+            return cached.get();
         }
 
         // data.go.kr에서 스크래핑
         log.info("Fetching detail from data.go.kr for uddiSeq={}", uddiSeq);
-        ApiDetailParseResult parsed = dataGoKrClient.fetchApiDetail(uddiSeq);
-        ApiCatalog catalog = saveOrUpdateFromParsed(uddiSeq, parsed, existing.orElse(null));
-
-        return CatalogDetailResponse.from(catalog);
+        try {
+            return scrape(uddiSeq, false);
+        } catch (PortalUnavailableException e) {
+            return storedOrThrow(uddiSeq, e);
+        }
     }
 
     /**
-     * 캐시를 무시하고 data.go.kr에서 강제 새로고침
+     * 캐시를 무시하고 data.go.kr에서 다시 조회한다.
+     * 이전 조회의 ETag/Last-Modified로 재검증하여, 페이지가 바뀌지 않았으면 저장된 명세를 그대로 반환한다.
      */
-    @Transactional
     public CatalogDetailResponse refreshDetail(String uddiSeq) {
-        log.info("Force refreshing detail from data.go.kr for uddiSeq={}", uddiSeq);
-        Optional<ApiCatalog> existing = catalogRepository.findByUddiSeq(uddiSeq);
-
-        // 기존 오퍼레이션 제거 후 flush하여 orphan 삭제 확정
-        if (existing.isPresent()) {
-            existing.get().getOperations().clear();
-            catalogRepository.flush();
+        log.info("Refreshing detail from data.go.kr for uddiSeq={}", uddiSeq);
+        try {
+            return scrape(uddiSeq, true);
+        } catch (PortalUnavailableException e) {
+            return storedOrThrow(uddiSeq, e);
         }
+    }
 
-        ApiDetailParseResult parsed = dataGoKrClient.fetchApiDetail(uddiSeq);
-        ApiCatalog catalog = saveOrUpdateFromParsed(uddiSeq, parsed, existing.orElse(null));
+    /**
+     * 백그라운드 수집기용. 같은 항목의 동시 수집은 하나로 합친다.
+     * 조건부 요청으로 재검증하며, 바뀌지 않은 페이지는 파싱·오퍼레이션 재작성을 생략한다.
+     * 동기화되지 않은 항목이면 null.
+     */
+    public CatalogDetailResponse crawlDetail(String uddiSeq) {
+        return crawls.execute(uddiSeq, () -> {
+            DetailFetchResult fetched = dataGoKrClient.fetchApiDetail(uddiSeq, detailStore.findValidators(uddiSeq));
+            if (fetched.notModified()) {
+                return detailStore.markNotModified(uddiSeq, fetched.validators());
+            }
+            return detailStore.applyCrawled(uddiSeq, fetched.detail(), fetched.validators());
+        });
+    }
 
-        return CatalogDetailResponse.from(catalog);
+    public void markDetailFetched(String uddiSeq) {
+        detailStore.markDetailFetched(uddiSeq);
     }
 
-    private ApiCatalog saveOrUpdateFromParsed(String uddiSeq, ApiDetailParseResult parsed, ApiCatalog existing) {
-        ApiCatalog catalog = existing;
-        if (catalog == null) {
-            catalog = ApiCatalog.builder()
-                    .uddiSeq(uddiSeq)
-                    .apiName(parsed.getApiName())
-                    .description(parsed.getDescription())
-                    .providerOrg(parsed.getProviderOrg())
-                    .category(parsed.getCategory())
-                    .serviceType(parsed.getApiType() != null ? parsed.getApiType() : "REST")
-                    .dataFormat(parsed.getDataFormat())
-                    .endpointUrl(parsed.getServiceUrl())
-                    .lastSyncedAt(LocalDateTime.now())
-                    .build();
-        } else {
-            if (parsed.getApiName() != null) catalog.setApiName(parsed.getApiName());
-            if (parsed.getDescription() != null) catalog.setDescription(parsed.getDescription());
-            if (parsed.getProviderOrg() != null) catalog.setProviderOrg(parsed.getProviderOrg());
-            if (parsed.getCategory() != null) catalog.setCategory(parsed.getCategory());
-            if (parsed.getDataFormat() != null) catalog.setDataFormat(parsed.getDataFormat());
-            if (parsed.getServiceUrl() != null) catalog.setEndpointUrl(parsed.getServiceUrl());
-            catalog.setLastSyncedAt(LocalDateTime.now());
-            catalog.getOperations().clear();
+    private CatalogDetailResponse scrape(String uddiSeq, boolean revalidate) {
+        NegativeEntry negative = negativeCache.get(uddiSeq);
+        if (negative != null) {
+            if (!negative.isExpired()) {
+                log.debug("Negative cache hit for uddiSeq={}", uddiSeq);
+                return negative.replay();
+            }
+            negativeCache.remove(uddiSeq, negative);
         }
 
-        // 오퍼레이션 매핑
-        for (ApiDetailParseResult.OperationInfo opInfo : parsed.getOperations()) {
-            ApiOperation operation = ApiOperation.builder()
-                    .catalog(catalog)
-                    .operationName(opInfo.getOperationName())
-                    .httpMethod(opInfo.getHttpMethod() != null ? opInfo.getHttpMethod() : "GET")
-                    .endpointUrl(opInfo.getEndpointUrl())
-                    .description(opInfo.getOperationName())
-                    .build();
-
-            // 요청 파라미터
-            for (ApiDetailParseResult.ParameterInfo pi : opInfo.getRequestParams()) {
-                ApiParameter param = ApiParameter.builder()
-                        .operation(operation)
-                        .paramName(pi.getNameEng() != null && !pi.getNameEng().isBlank() ? pi.getNameEng() : pi.getNameKor())
-                        .paramType(pi.getSize())
-                        .required("필".equals(pi.getDivision()) || "필수".equals(pi.getDivision()))
-                        .description(buildParamDescription(pi))
-                        .defaultValue(pi.getSampleData())
-                        .direction(ApiParameter.Direction.REQUEST)
-                        .build();
-                operation.getParameters().add(param);
+        try {
+            CatalogDetailResponse detail = scrapes.execute(uddiSeq, () -> fetchAndSave(uddiSeq, revalidate));
+            if (detail != null && detail.getOperations().isEmpty()) {
+                remember(uddiSeq, new NegativeEntry(detail, null, expiresAt()));
             }
+            return detail;
+        } catch (PortalUnavailableException e) {
+            // 포털 호출을 보내지 않은 실패는 해당 항목의 문제가 아니므로 기억하지 않는다
+            throw e;
+        } catch (DataGoKrApiException e) {
+            remember(uddiSeq, new NegativeEntry(null, e.getMessage(), expiresAt()));
+            throw e;
+        }
+    }
 
-            // 응답 필드
-            for (ApiDetailParseResult.ParameterInfo pi : opInfo.getResponseFields()) {
-                ApiParameter param = ApiParameter.builder()
-                        .operation(operation)
-                        .paramName(pi.getNameEng() != null && !pi.getNameEng().isBlank() ? pi.getNameEng() : pi.getNameKor())
-                        .paramType(pi.getSize())
-                        .required(false)
-                        .description(buildParamDescription(pi))
-                        .defaultValue(pi.getSampleData())
-                        .direction(ApiParameter.Direction.RESPONSE)
-                        .build();
-                operation.getParameters().add(param);
+    /**
+     * 포털 호출이 차단된 경우 로컬에 저장된 정보(오퍼레이션이 비어 있을 수 있음)로 폴백한다.
+     */
+    private CatalogDetailResponse storedOrThrow(String uddiSeq, PortalUnavailableException e) {
+        log.warn("Portal unavailable for uddiSeq={}, serving stored detail: {}", uddiSeq, e.getMessage());
+        return detailStore.findStored(uddiSeq).orElseThrow(() -> e);
+    }
+
+    private CatalogDetailResponse fetchAndSave(String uddiSeq, boolean revalidate) {
+        DetailValidators validators = revalidate ? detailStore.findValidators(uddiSeq) : DetailValidators.NONE;
+        DetailFetchResult fetched = dataGoKrClient.fetchApiDetail(uddiSeq, validators);
+        if (fetched.notModified()) {
+            CatalogDetailResponse unchanged = detailStore.markNotModified(uddiSeq, fetched.validators());
+            if (unchanged != null) {
+                log.debug("Detail unchanged for uddiSeq={}, keeping stored operations", uddiSeq);
+                return unchanged;
             }
+            fetched = dataGoKrClient.fetchApiDetail(uddiSeq, DetailValidators.NONE);
+        }
+        return detailStore.save(uddiSeq, fetched.detail(), fetched.validators());
+    }
 
-            catalog.getOperations().add(operation);
+    private void remember(String uddiSeq, NegativeEntry entry) {
+        if (properties.getDetailNegativeTtl() <= 0) return;
+        if (negativeCache.size() >= NEGATIVE_CACHE_PURGE_THRESHOLD) {
+            negativeCache.values().removeIf(NegativeEntry::isExpired);
         }
+        negativeCache.put(uddiSeq, entry);
+    }
 
-        return catalogRepository.save(catalog);
+    private long expiresAt() {
+        return System.currentTimeMillis() + properties.getDetailNegativeTtl();
     }
 
-    private String buildParamDescription(ApiDetailParseResult.ParameterInfo pi) {
-        StringBuilder sb = new StringBuilder();
-        if (pi.getNameKor() != null && !pi.getNameKor().isBlank()) {
-            sb.append(pi.getNameKor());
+    /**
+     * 오퍼레이션이 없는 결과(detail) 또는 실패 메시지(error)
+     */
+    private record NegativeEntry(CatalogDetailResponse detail, String error, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
         }
-        if (pi.getDescription() != null && !pi.getDescription().isBlank()
-                && !pi.getDescription().equals(pi.getNameKor())) {
-            if (!sb.isEmpty()) sb.append(" - ");
-            sb.append(pi.getDescription());
+
+        CatalogDetailResponse replay() {
+            if (detail != null) return detail;
+            throw new DataGoKrApiException(error);
         }
-        return sb.toString();
     }
 }
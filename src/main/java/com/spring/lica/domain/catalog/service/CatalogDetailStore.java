@@ -0,0 +1,231 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.spring.lica.client.datagokr.dto.ApiDetailParseResult;
+import com.spring.lica.client.datagokr.dto.DetailValidators;
+import com.spring.lica.domain.catalog.dto.CatalogDetailResponse;
+import com.spring.lica.domain.catalog.entity.ApiCatalog;
+import com.spring.lica.domain.catalog.entity.ApiOperation;
+import com.spring.lica.domain.catalog.entity.ApiParameter;
+import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
+import com.spring.lica.domain.catalog.search.CatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 스크래핑한 API 상세 정보의 로컬 DB 저장소.
+ * 포털 호출은 트랜잭션 밖({@link CatalogDetailService})에서 수행하고, 이 클래스는 짧은 트랜잭션으로 반영만 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogDetailStore {
+
+    private final ApiCatalogRepository catalogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 파라미터까지 수집된 오퍼레이션이 있으면 상세 정보를 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CatalogDetailResponse> findComplete(String uddiSeq) {
+        return catalogRepository.findByUddiSeq(uddiSeq)
+                .filter(catalog -> catalog.getOperations().stream().anyMatch(op -> !op.getParameters().isEmpty()))
+                .map(CatalogDetailResponse::from);
+    }
+
+    /**
+     * 오퍼레이션 수집 여부와 관계없이 저장된 상세 정보 (포털 장애 시 폴백용)
+     */
+    @Transactional(readOnly = true)
+    public Optional<CatalogDetailResponse> findStored(String uddiSeq) {
+        return catalogRepository.findByUddiSeq(uddiSeq).map(CatalogDetailResponse::from);
+    }
+
+    /**
+     * 마지막 상세 조회의 재검증 정보. 없으면 {@link DetailValidators#NONE}.
+     */
+    @Transactional(readOnly = true)
+    public DetailValidators findValidators(String uddiSeq) {
+        return catalogRepository.findByUddiSeq(uddiSeq)
+                .map(c -> new DetailValidators(c.getDetailEtag(), c.getDetailLastModified(), c.getDetailContentHash()))
+                .orElse(DetailValidators.NONE);
+    }
+
+    /**
+     * 상세 페이지가 바뀌지 않았을 때: 오퍼레이션은 그대로 두고 수집 시각과 검증 정보만 갱신한다.
+     * 카탈로그가 없으면 null.
+     */
+    @Transactional
+    public CatalogDetailResponse markNotModified(String uddiSeq, DetailValidators validators) {
+        return catalogRepository.findByUddiSeq(uddiSeq)
+                .map(catalog -> {
+                    applyValidators(catalog, validators);
+                    catalog.setDetailFetchedAt(LocalDateTime.now());
+                    return CatalogDetailResponse.from(catalog);
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 스크래핑 결과로 오퍼레이션을 교체한다. 카탈로그가 없으면 새로 만든다.
+     */
+    @Transactional
+    public CatalogDetailResponse save(String uddiSeq, ApiDetailParseResult parsed, DetailValidators validators) {
+        Optional<ApiCatalog> existing = catalogRepository.findByUddiSeq(uddiSeq);
+
+        // 기존 오퍼레이션 제거 후 flush하여 orphan 삭제 확정
+        if (existing.isPresent()) {
+            existing.get().getOperations().clear();
+            catalogRepository.flush();
+        }
+
+        ApiCatalog saved = saveOrUpdateFromParsed(uddiSeq, parsed, existing.orElse(null), LocalDateTime.now());
+        applyValidators(saved, validators);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(uddiSeq));
+        return CatalogDetailResponse.from(saved);
+    }
+
+    /**
+     * 백그라운드 수집기가 가져온 상세 정보를 반영한다.
+     * 동기화되지 않은 항목은 건너뛰고(null 반환), 오퍼레이션을 찾지 못한 경우 기존 명세를 지우지 않는다.
+     */
+    @Transactional
+    public CatalogDetailResponse applyCrawled(String uddiSeq, ApiDetailParseResult parsed, DetailValidators validators) {
+        Optional<ApiCatalog> existing = catalogRepository.findByUddiSeq(uddiSeq);
+        if (existing.isEmpty()) {
+            return null;
+        }
+        ApiCatalog catalog = existing.get();
+        applyValidators(catalog, validators);
+        if (parsed.getOperations().isEmpty()) {
+            catalog.setDetailFetchedAt(LocalDateTime.now());
+            return CatalogDetailResponse.from(catalog);
+        }
+        catalog.getOperations().clear();
+        catalogRepository.flush();
+        ApiCatalog saved = saveOrUpdateFromParsed(uddiSeq, parsed, catalog, LocalDateTime.now());
+        eventPublisher.publishEvent(CatalogChangedEvent.of(uddiSeq));
+        return CatalogDetailResponse.from(saved);
+    }
+
+    /**
+     * 보관된 스냅샷을 다시 파싱한 결과를 반영한다. 수집 시각은 스냅샷을 받은 시각으로 기록한다.
+     * 동기화되지 않았거나 오퍼레이션을 찾지 못한 경우 아무것도 바꾸지 않고 false.
+     * {@link CatalogChangedEvent}는 발행하지 않으므로 호출자가 반영한 항목을 모아 한 번에 알린다.
+     */
+    @Transactional
+    public boolean applyReparsed(String uddiSeq, ApiDetailParseResult parsed, LocalDateTime fetchedAt) {
+        Optional<ApiCatalog> existing = catalogRepository.findByUddiSeq(uddiSeq);
+        if (existing.isEmpty() || parsed.getOperations().isEmpty()) {
+            return false;
+        }
+        ApiCatalog catalog = existing.get();
+        catalog.getOperations().clear();
+        catalogRepository.flush();
+        saveOrUpdateFromParsed(uddiSeq, parsed, catalog, fetchedAt);
+        return true;
+    }
+
+    /**
+     * 상세 정보 수집 시각만 기록한다 (수집 실패 시 재시도 간격 확보용)
+     */
+    @Transactional
+    public void markDetailFetched(String uddiSeq) {
+        catalogRepository.markDetailFetched(uddiSeq, LocalDateTime.now());
+    }
+
+    private static void applyValidators(ApiCatalog catalog, DetailValidators validators) {
+        catalog.setDetailEtag(validators.etag());
+        catalog.setDetailLastModified(validators.lastModified());
+        catalog.setDetailContentHash(validators.contentHash());
+    }
+
+    private ApiCatalog saveOrUpdateFromParsed(String uddiSeq, ApiDetailParseResult parsed, ApiCatalog existing,
+                                              LocalDateTime fetchedAt) {
+        ApiCatalog catalog = existing;
+        if (catalog == null) {
+            catalog = ApiCatalog.builder()
+                    .uddiSeq(uddiSeq)
+                    .apiName(parsed.getApiName())
+                    .description(parsed.getDescription())
+                    .providerOrg(parsed.getProviderOrg())
+                    .category(parsed.getCategory())
+                    .serviceType(parsed.getApiType() != null ? parsed.getApiType() : "REST")
+                    .dataFormat(parsed.getDataFormat())
+                    .endpointUrl(parsed.getServiceUrl())
+                    .lastSyncedAt(LocalDateTime.now())
+                    .detailFetchedAt(fetchedAt)
+                    .build();
+        } else {
+            if (parsed.getApiName() != null) catalog.setApiName(parsed.getApiName());
+            if (parsed.getDescription() != null) catalog.setDescription(parsed.getDescription());
+            if (parsed.getProviderOrg() != null) catalog.setProviderOrg(parsed.getProviderOrg());
+            if (parsed.getCategory() != null) catalog.setCategory(parsed.getCategory());
+            if (parsed.getDataFormat() != null) catalog.setDataFormat(parsed.getDataFormat());
+            if (parsed.getServiceUrl() != null) catalog.setEndpointUrl(parsed.getServiceUrl());
+            catalog.setLastSyncedAt(LocalDateTime.now());
+            catalog.setDetailFetchedAt(fetchedAt);
+            catalog.getOperations().clear();
+        }
+
+        // 오퍼레이션 매핑
+        for (ApiDetailParseResult.OperationInfo opInfo : parsed.getOperations()) {
+            ApiOperation operation = ApiOperation.builder()
+                    .catalog(catalog)
+                    .operationName(opInfo.getOperationName())
+                    .httpMethod(opInfo.getHttpMethod() != null ? opInfo.getHttpMethod() : "GET")
+                    .endpointUrl(opInfo.getEndpointUrl())
+                    .description(opInfo.getOperationName())
+                    .build();
+
+            // 요청 파라미터
+            for (ApiDetailParseResult.ParameterInfo pi : opInfo.getRequestParams()) {
+                ApiParameter param = ApiParameter.builder()
+                        .operation(operation)
+                        .paramName(pi.getNameEng() != null && !pi.getNameEng().isBlank() ? pi.getNameEng() : pi.getNameKor())
+                        .paramType(pi.getSize())
+                        .required("필".equals(pi.getDivision()) || "필수".equals(pi.getDivision()))
+                        .description(buildParamDescription(pi))
+                        .defaultValue(pi.getSampleData())
+                        .direction(ApiParameter.Direction.REQUEST)
+                        .build();
+                operation.getParameters().add(param);
+            }
+
+            // 응답 필드
+            for (ApiDetailParseResult.ParameterInfo pi : opInfo.getResponseFields()) {
+                ApiParameter param = ApiParameter.builder()
+                        .operation(operation)
+                        .paramName(pi.getNameEng() != null && !pi.getNameEng().isBlank() ? pi.getNameEng() : pi.getNameKor())
+                        .paramType(pi.getSize())
+                        .required(false)
+                        .description(buildParamDescription(pi))
+                        .defaultValue(pi.getSampleData())
+                        .direction(ApiParameter.Direction.RESPONSE)
+                        .build();
+                operation.getParameters().add(param);
+            }
+
+            catalog.getOperations().add(operation);
+        }
+
+        return catalogRepository.save(catalog);
+    }
+
+    private String buildParamDescription(ApiDetailParseResult.ParameterInfo pi) {
+        StringBuilder sb = new StringBuilder();
+        if (pi.getNameKor() != null && !pi.getNameKor().isBlank()) {
+            sb.append(pi.getNameKor());
+        }
+        if (pi.getDescription() != null && !pi.getDescription().isBlank()
+                && !pi.getDescription().equals(pi.getNameKor())) {
+            if (!sb.isEmpty()) sb.append(" - ");
+            sb.append(pi.getDescription());
+        }
+        return sb.toString();
+    }
+}
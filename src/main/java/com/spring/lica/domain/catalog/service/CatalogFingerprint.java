@@ -0,0 +1,53 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.spring.lica.client.datagokr.dto.PortalApiResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+
+/**
+ * 포털 목록 항목의 콘텐츠 지문과 수정일을 계산한다.
+ * 지문이 같으면 DB에 저장된 행과 내용이 동일하므로 쓰기를 생략할 수 있다.
+ */
+final class CatalogFingerprint {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private CatalogFingerprint() {
+    }
+
+    static String of(PortalApiResponse.ApiItem item) {
+        StringBuilder sb = new StringBuilder();
+        append(sb, item.resolvedName());
+        append(sb, item.resolvedDescription());
+        append(sb, item.resolvedOrg());
+        append(sb, item.resolvedCategory());
+        append(sb, item.resolvedDataFormat());
+        append(sb, item.resolvedEndpointUrl());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static LocalDate modifiedDate(PortalApiResponse.ApiItem item) {
+        String value = item.getLastModifyTime();
+        if (value == null || value.isBlank()) return null;
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static void append(StringBuilder sb, String value) {
+        if (value != null) sb.append(value);
+        sb.append(SEPARATOR);
+    }
+}
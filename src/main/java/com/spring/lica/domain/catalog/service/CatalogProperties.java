@@ -0,0 +1,158 @@
+package com.spring.lica.domain.catalog.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.catalog")
+public class CatalogProperties {
+
+    /**
+     * 포털 검색 페이지당 조회 건수
+     */
+    private int syncPageSize = 100;
+
+    /**
+     * 동시에 조회하는 최대 페이지 수
+     */
+    private int syncConcurrency = 4;
+
+    /**
+     * 포털 요청 허용 속도 (초당 요청 수, 0 이하면 제한 없음)
+     */
+    private double syncRatePerSecond = 2.0;
+
+    /**
+     * 토큰 버킷 용량 (순간 최대 요청 수)
+     */
+    private int syncBurst = 4;
+
+    /**
+     * 페이지 조회 실패 시 재시도 횟수
+     */
+    private int syncMaxRetries = 3;
+
+    /**
+     * 재시도 기본 대기 시간(ms), 시도마다 2배씩 증가
+     */
+    private long syncRetryBackoff = 1000;
+
+    /**
+     * 최대 동기화 페이지 수 (0 이하면 포털 전체)
+     */
+    private int syncMaxPages = 0;
+
+    /**
+     * 상세 정보 백그라운드 수집기 사용 여부 (기본 꺼짐)
+     */
+    private boolean crawlerEnabled = false;
+
+    /**
+     * 수집 주기(ms). 한 주기에 {@code crawler-batch-size}건까지 처리한다.
+     */
+    private long crawlerInterval = 60000;
+
+    /**
+     * 기동 후 첫 수집까지 대기 시간(ms)
+     */
+    private long crawlerInitialDelay = 30000;
+
+    /**
+     * 주기당 최대 수집 건수
+     */
+    private int crawlerBatchSize = 50;
+
+    /**
+     * 동시에 스크래핑하는 최대 상세 페이지 수
+     */
+    private int crawlerConcurrency = 2;
+
+    /**
+     * 상세 페이지 요청 허용 속도 (초당 요청 수, 0 이하면 제한 없음)
+     */
+    private double crawlerRatePerSecond = 1.0;
+
+    /**
+     * 수집한 상세 정보를 다시 수집하기까지의 기간(시간)
+     */
+    private long crawlerStaleAfterHours = 168;
+
+    /**
+     * 상세 스크래핑 실패·오퍼레이션 없음 결과를 기억하는 시간(ms, 0 이하면 사용 안 함)
+     */
+    private long detailNegativeTtl = 60000;
+
+    /**
+     * 포털 실시간 검색 결과 캐시 사용 여부
+     */
+    private boolean portalCacheEnabled = true;
+
+    /**
+     * 캐시된 검색 결과를 그대로 반환하는 기간(ms)
+     */
+    private long portalCacheTtl = 300000;
+
+    /**
+     * TTL 이후 기존 결과를 반환하면서 백그라운드로 다시 조회하는 기간(ms)
+     */
+    private long portalCacheStaleTtl = 1500000;
+
+    /**
+     * L1(프로세스 내) 캐시 최대 항목 수
+     */
+    private long portalCacheMaxSize = 1000;
+
+    /**
+     * 포털 검색이 지연 예산 안에 응답하지 않으면 로컬 DB 결과를 먼저 반환
+     */
+    private boolean searchHedgeEnabled = true;
+
+    /**
+     * 고정 지연 예산(ms). 0 이하면 관측된 포털 응답 시간의 백분위수를 사용
+     */
+    private long searchHedgeBudget = 0;
+
+    /**
+     * 적응형 예산에 쓰는 백분위수 (0~1)
+     */
+    private double searchHedgePercentile = 0.9;
+
+    /**
+     * 적응형 예산의 하한/상한(ms)
+     */
+    private long searchHedgeMinBudget = 300;
+
+    /**
+     * 로컬 카탈로그가 비었거나 로컬 검색 결과가 없을 때도 이 시간까지는 포털을 기다린다
+     */
+    private long searchHedgeMaxBudget = 3000;
+
+    /**
+     * 로컬 검색을 인메모리 역색인으로 처리 (끄면 DB LIKE 검색)
+     */
+    private boolean searchIndexEnabled = true;
+
+    /**
+     * 자동완성 색인 사용 여부 (끄면 빈 결과)
+     */
+    private boolean suggestEnabled = true;
+
+    /**
+     * 자동완성 색인을 인기도 반영을 위해 다시 만드는 주기(ms). 동기화 완료 시에는 바로 다시 만든다.
+     */
+    private long suggestRefreshInterval = 600000;
+
+    /**
+     * 조회수를 절반으로 줄이는 주기(ms). 수집기 사용 여부와 관계없이 돈다.
+     */
+    private long viewDecayInterval = 60000;
+
+    /**
+     * 자동완성 가중치에 반영할 테스트 실행 이력 기간(일)
+     */
+    private int suggestPopularityDays = 30;
+}
@@ -0,0 +1,173 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.spring.lica.client.datagokr.DataGoKrClient;
+import com.spring.lica.client.datagokr.dto.ApiDetailParseResult;
+import com.spring.lica.client.datagokr.snapshot.PageSnapshotStore;
+import com.spring.lica.common.exception.ReparseAlreadyRunningException;
+import com.spring.lica.domain.catalog.search.CatalogChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 보관된 상세 페이지 스냅샷을 현재 파서로 다시 파싱하여 로컬 DB에 반영한다 (포털 호출 없음).
+ *
+ * <p>파서 버그를 고친 뒤 전체 카탈로그를 재크롤링하는 대신 사용한다. CPU 코어 수만큼 병렬로 처리하며,
+ * 노드당 동시에 하나만 실행된다. 스냅샷이 없는 항목은 다음 수집 주기에 크롤러가 채운다.
+ * 검색 색인·읽기 스냅샷에는 반영한 항목 전체를 끝날 때 {@link CatalogChangedEvent} 하나로 알린다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogReparseService {
+
+    private final DataGoKrClient dataGoKrClient;
+    private final PageSnapshotStore snapshotStore;
+    private final CatalogDetailStore detailStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("catalog-reparse").daemon(true).factory());
+
+    private final AtomicReference<Progress> running = new AtomicReference<>();
+    private volatile Progress last;
+
+    public ReparseStatus start() {
+        Progress progress = new Progress();
+        Progress current = running.compareAndExchange(null, progress);
+        if (current != null) {
+            throw new ReparseAlreadyRunningException(current.id);
+        }
+        last = progress;
+        try {
+            coordinator.execute(() -> run(progress));
+        } catch (RuntimeException e) {
+            running.set(null);
+            progress.finish("FAILED");
+            throw e;
+        }
+        return progress.toStatus();
+    }
+
+    /**
+     * 실행 중이거나 마지막으로 실행한 재파싱 상태
+     */
+    public Optional<ReparseStatus> status() {
+        Progress progress = last;
+        return Optional.ofNullable(progress).map(Progress::toStatus);
+    }
+
+    private void run(Progress progress) {
+        int workers = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(workers,
+                Thread.ofPlatform().name("catalog-reparse-", 1).daemon(true).factory());
+        try {
+            List<String> keys = snapshotStore.keys(PageSnapshotStore.Kind.DETAIL);
+            progress.total = keys.size();
+            log.info("Re-parsing {} stored detail snapshots on {} workers", keys.size(), workers);
+
+            List<Callable<Void>> tasks = keys.stream().<Callable<Void>>map(key -> () -> {
+                reparse(key, progress);
+                return null;
+            }).toList();
+            try {
+                pool.invokeAll(tasks);
+            } finally {
+                // 중단되더라도 이미 커밋된 항목은 알린다
+                if (!progress.appliedKeys.isEmpty()) {
+                    eventPublisher.publishEvent(new CatalogChangedEvent(Set.copyOf(progress.appliedKeys)));
+                }
+            }
+
+            progress.finish("COMPLETED");
+            log.info("Re-parse {} completed: applied={}, skipped={}, failed={}, elapsed={}ms", progress.id,
+                    progress.applied.get(), progress.skipped.get(), progress.failed.get(), progress.elapsedMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.finish("CANCELLED");
+        } catch (RuntimeException e) {
+            log.error("Re-parse {} failed", progress.id, e);
+            progress.finish("FAILED");
+        } finally {
+            pool.shutdownNow();
+            running.compareAndSet(progress, null);
+        }
+    }
+
+    private void reparse(String uddiSeq, Progress progress) {
+        try {
+            Optional<PageSnapshotStore.PageSnapshot> snapshot =
+                    snapshotStore.latest(PageSnapshotStore.Kind.DETAIL, uddiSeq);
+            if (snapshot.isEmpty()) {
+                progress.skipped.incrementAndGet();
+                return;
+            }
+            ApiDetailParseResult parsed = dataGoKrClient.reparseApiDetail(snapshot.get());
+            if (detailStore.applyReparsed(uddiSeq, parsed, snapshot.get().fetchedAt())) {
+                progress.applied.incrementAndGet();
+                progress.appliedKeys.add(uddiSeq);
+            } else {
+                progress.skipped.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            progress.failed.incrementAndGet();
+            log.warn("Re-parse failed for uddiSeq={}: {}", uddiSeq, e.getMessage());
+        } finally {
+            progress.done.incrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    private static class Progress {
+        private final String id = UUID.randomUUID().toString();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private volatile String status = "RUNNING";
+        private volatile int total;
+        private volatile long finishedNanos;
+        private final AtomicInteger done = new AtomicInteger();
+        private final AtomicInteger applied = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final Set<String> appliedKeys = ConcurrentHashMap.newKeySet();
+
+        void finish(String finalStatus) {
+            finishedNanos = System.nanoTime();
+            status = finalStatus;
+        }
+
+        long elapsedMs() {
+            long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+            return (end - startedNanos) / 1_000_000;
+        }
+
+        ReparseStatus toStatus() {
+            return new ReparseStatus(id, status, startedAt, total, done.get(), applied.get(), skipped.get(),
+                    failed.get(), elapsedMs());
+        }
+    }
+
+    /**
+     * applied: DB에 반영, skipped: 스냅샷·카탈로그 행이 없거나 오퍼레이션을 찾지 못함
+     */
+    public record ReparseStatus(String jobId, String status, LocalDateTime startedAt, int total, int done,
+                                int applied, int skipped, int failed, long elapsedMs) {}
+}
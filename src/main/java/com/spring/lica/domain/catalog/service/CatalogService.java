@@ -2,87 +2,256 @@ package com.spring.lica.domain.catalog.service;
 
 import com.spring.lica.client.datagokr.DataGoKrClient;
 import com.spring.lica.client.datagokr.dto.PortalApiResponse;
+import com.spring.lica.common.pagination.CursorPage;
+import com.spring.lica.common.pagination.KeysetCursor;
+import com.spring.lica.common.util.LatencyWindow;
+import com.spring.lica.domain.catalog.dto.CatalogFacets;
 import com.spring.lica.domain.catalog.dto.CatalogResponse;
+import com.spring.lica.domain.catalog.dto.CatalogSearchPage;
 import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
-import com.spring.lica.domain.catalog.entity.ApiCatalog;
-import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
+import com.spring.lica.domain.catalog.dto.CatalogSearchResult;
+import com.spring.lica.domain.catalog.dto.CatalogSuggestion;
+import com.spring.lica.domain.catalog.readmodel.CatalogSnapshotStore;
+import com.spring.lica.domain.catalog.search.CatalogSearchEngine;
+import com.spring.lica.domain.catalog.search.CatalogSuggester;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
+/**
+ * 카탈로그 검색·조회.
+ *
+ * <p>로컬 읽기는 검색 색인, 자동완성 색인, {@link CatalogSnapshotStore}의 불변 스냅샷 같은 메모리 구조에서 처리한다.
+ * 그래서 이 클래스는 트랜잭션을 열지 않는다. DB가 필요한 대체 경로(JPA 검색)는 각자 트랜잭션을 연다.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CatalogService {
 
-    private final ApiCatalogRepository catalogRepository;
+    private static final int LATENCY_WINDOW_SIZE = 200;
+    private static final int MIN_LATENCY_SAMPLES = 10;
+
     private final DataGoKrClient dataGoKrClient;
+    private final PortalSearchCache portalSearchCache;
+    private final CatalogSyncWriter catalogSyncWriter;
+    private final CatalogProperties properties;
+    private final CatalogSearchEngine catalogSearchEngine;
+    private final CatalogSuggester catalogSuggester;
+    private final CatalogSnapshotStore snapshotStore;
+
+    private final ExecutorService hedgeExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("catalog-search-hedge-", 0).factory());
+    private final LatencyWindow portalLatency = new LatencyWindow(LATENCY_WINDOW_SIZE);
 
     /**
      * data.go.kr 포털에서 실시간으로 REST API를 검색한다.
-     * 인증키 없이 웹 스크래핑 방식으로 조회.
+     * 인증키 없이 웹 스크래핑 방식으로 조회하며, 결과는 {@link PortalSearchCache}에 캐시된다.
+     *
+     * <p>헤지 모드({@code search-hedge-enabled})에서는 포털이 지연 예산(기본: 관측된 포털 응답 시간의
+     * {@code search-hedge-percentile} 백분위수) 안에 응답하지 않으면 로컬 DB를 검색해 먼저 반환한다.
+     * 포털 조회는 계속 진행되어 캐시를 채우고, 늦게 도착한 결과는 백그라운드에서 로컬 DB에 반영된다.
+     * 로컬 카탈로그가 비어 있거나 로컬 검색에 일치 항목이 없으면 빈 결과를 먼저 돌려주지 않고
+     * {@code search-hedge-max-budget}까지 포털을 기다린다.</p>
+     *
+     * <p>포털을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행한다.</p>
      */
-    public Page<CatalogResponse> searchFromPortal(CatalogSearchRequest request) {
-        try {
-            // data.go.kr은 1-based page
-            int portalPage = request.getPage() + 1;
-            PortalApiResponse response = dataGoKrClient.searchRestApis(
-                    portalPage, request.getSize(), request.getKeyword(), request.getCategory());
-
-            if (response == null || response.getResponse() == null
-                    || response.getResponse().getBody() == null
-                    || response.getResponse().getBody().getItems() == null
-                    || response.getResponse().getBody().getItems().getItem() == null) {
-                return new PageImpl<>(Collections.emptyList(), PageRequest.of(request.getPage(), request.getSize()), 0);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CatalogSearchResult searchFromPortal(CatalogSearchRequest request) {
+        String key = PortalSearchCache.key(request);
+        if (!properties.isSearchHedgeEnabled()) {
+            try {
+                return toPortalResult(request, portalSearchCache.get(key, () -> fetchFromPortal(request, null)));
+            } catch (Exception e) {
+                return fallbackToLocal(request, e);
             }
+        }
+
+        AtomicReference<List<PortalApiResponse.ApiItem>> fetchedItems = new AtomicReference<>();
+        CompletableFuture<PortalSearchCache.Entry> portal = CompletableFuture.supplyAsync(
+                () -> portalSearchCache.get(key, () -> fetchFromPortal(request, fetchedItems::set)), hedgeExecutor);
+        long maxBudget = properties.getSearchHedgeMaxBudget();
+        // 로컬 카탈로그가 비어 있으면 헤지해도 빈 결과뿐이므로 최대 예산까지 포털을 기다린다
+        long budget = snapshotStore.current().restCount() > 0 ? hedgeBudget() : Math.max(hedgeBudget(), maxBudget);
+        CatalogSearchResult result = awaitPortal(request, portal, budget);
+        if (result != null) return result;
+        log.debug("Portal search exceeded {}ms budget, hedging with local DB", budget);
+
+        Page<CatalogResponse> local = searchFromLocal(request);
+        if (local.getTotalElements() == 0 && budget < maxBudget) {
+            result = awaitPortal(request, portal, maxBudget - budget);
+            if (result != null) return result;
+        }
+        // 로컬 검색 중에 포털이 먼저 끝났다면 더 최신인 포털 결과를 사용
+        if (portal.isDone() && !portal.isCompletedExceptionally()) {
+            return toPortalResult(request, portal.join());
+        }
+        portal.whenComplete((entry, error) -> {
+            if (error != null) {
+                log.debug("Hedged portal search failed after local response: {}", error.getMessage());
+            } else {
+                upsertLateResults(fetchedItems.get());
+            }
+        });
+        return new CatalogSearchResult(local, CatalogSearchResult.Source.LOCAL_HEDGED);
+    }
+
+    /**
+     * 예산 안에 끝난 포털 결과. 시간이 넘으면 null, 포털이 실패하면 로컬 대체 결과.
+     */
+    private CatalogSearchResult awaitPortal(CatalogSearchRequest request,
+                                            CompletableFuture<PortalSearchCache.Entry> portal, long budget) {
+        try {
+            return toPortalResult(request, portal.get(budget, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException e) {
+            return fallbackToLocal(request, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallbackToLocal(request, e);
+        }
+    }
 
-            var body = response.getResponse().getBody();
-            List<CatalogResponse> items = body.getItems().getItem().stream()
-                    .filter(item -> item.getUddiSeq() != null)
-                    .map(this::toResponse)
-                    .toList();
+    private PortalSearchCache.Entry fetchFromPortal(CatalogSearchRequest request,
+                                                    Consumer<List<PortalApiResponse.ApiItem>> itemSink) {
+        // data.go.kr은 1-based page
+        int portalPage = request.getPage() + 1;
+        long start = System.nanoTime();
+        PortalApiResponse response = dataGoKrClient.searchRestApis(
+                portalPage, request.getSize(), request.getKeyword(), request.getCategory());
+        portalLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 
-            return new PageImpl<>(items, PageRequest.of(request.getPage(), request.getSize()), body.getTotalCount());
-        } catch (Exception e) {
-            log.error("Portal search failed, falling back to local DB", e);
-            return searchFromLocal(request);
+        if (response == null || response.getResponse() == null
+                || response.getResponse().getBody() == null
+                || response.getResponse().getBody().getItems() == null
+                || response.getResponse().getBody().getItems().getItem() == null) {
+            return PortalSearchCache.Entry.of(Collections.emptyList(), 0);
         }
+
+        var body = response.getResponse().getBody();
+        if (itemSink != null) {
+            itemSink.accept(body.getItems().getItem());
+        }
+        List<CatalogResponse> items = body.getItems().getItem().stream()
+                .filter(item -> item.getUddiSeq() != null)
+                .map(this::toResponse)
+                .toList();
+
+        return PortalSearchCache.Entry.of(items, body.getTotalCount());
+    }
+
+    private CatalogSearchResult toPortalResult(CatalogSearchRequest request, PortalSearchCache.Entry entry) {
+        Page<CatalogResponse> page = new PageImpl<>(entry.items(),
+                PageRequest.of(request.getPage(), request.getSize()), entry.totalCount());
+        return new CatalogSearchResult(page, CatalogSearchResult.Source.PORTAL);
+    }
+
+    private CatalogSearchResult fallbackToLocal(CatalogSearchRequest request, Throwable cause) {
+        log.error("Portal search failed, falling back to local DB", cause);
+        return new CatalogSearchResult(searchFromLocal(request), CatalogSearchResult.Source.LOCAL_FALLBACK);
     }
 
     /**
-     * 로컬 DB에서 검색 (동기화된 데이터 대상)
+     * 고정 예산이 없으면 관측된 포털 응답 시간의 백분위수를 [min, max]로 제한해 사용한다.
+     * 표본이 충분하지 않으면 최대 예산.
      */
-    public Page<CatalogResponse> searchFromLocal(CatalogSearchRequest request) {
-        PageRequest pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<ApiCatalog> page = catalogRepository.searchRestApis(
-                request.getKeyword(), request.getCategory(), request.getOrg(), pageable);
-        return page.map(CatalogResponse::from);
+    private long hedgeBudget() {
+        if (properties.getSearchHedgeBudget() > 0) {
+            return properties.getSearchHedgeBudget();
+        }
+        if (portalLatency.count() < MIN_LATENCY_SAMPLES) {
+            return properties.getSearchHedgeMaxBudget();
+        }
+        long observed = portalLatency.percentile(properties.getSearchHedgePercentile());
+        return Math.clamp(observed, properties.getSearchHedgeMinBudget(), properties.getSearchHedgeMaxBudget());
+    }
+
+    /**
+     * 로컬 결과를 먼저 반환한 뒤 도착한 포털 결과를 로컬 DB에 반영한다 (캐시 적중으로 스크래핑하지 않았다면 생략).
+     */
+    private void upsertLateResults(List<PortalApiResponse.ApiItem> items) {
+        if (items == null || items.isEmpty()) return;
+        try {
+            CatalogSyncWriter.PageWriteResult result = catalogSyncWriter.writePage(items);
+            log.debug("Upserted late portal results: new={}, updated={}, unchanged={}",
+                    result.created(), result.updated(), result.unchanged());
+        } catch (RuntimeException e) {
+            log.warn("Failed to upsert late portal results: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    /**
+     * 로컬 DB에서 검색 (동기화된 데이터 대상). 현재 질의의 분류·제공기관별 건수를 함께 돌려준다.
+     */
+    public CatalogSearchPage searchFromLocal(CatalogSearchRequest request) {
+        return catalogSearchEngine.search(request);
+    }
+
+    /**
+     * 로컬 DB 키셋 조회 (최근 수정 순). 깊은 페이지도 첫 페이지와 같은 비용이며, 전체 건수는 요청할 때만 센다.
+     */
+    public CursorPage<CatalogResponse> scrollLocal(CatalogSearchRequest request, String cursor, boolean includeTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        request.setSize(CursorPage.clampSize(request.getSize()));
+        return catalogSearchEngine.scroll(request, after, includeTotal);
     }
 
     public Optional<CatalogResponse> findByUddiSeq(String uddiSeq) {
-        return catalogRepository.findByUddiSeq(uddiSeq)
-                .map(CatalogResponse::from);
+        return snapshotStore.current().find(uddiSeq);
+    }
+
+    /**
+     * 자동완성 후보 (메모리 색인만 사용)
+     */
+    public List<CatalogSuggestion> suggest(String query, int limit) {
+        return catalogSuggester.suggest(query, limit);
+    }
+
+    /**
+     * 전체 REST API의 분류·제공기관별 건수 (스냅샷을 만들 때 센 값)
+     */
+    public CatalogFacets getFacets() {
+        return snapshotStore.current().restFacets();
     }
 
     public List<String> getCategories() {
-        return catalogRepository.findDistinctCategories();
+        return facetValues(getFacets().categories());
     }
 
     public List<String> getProviderOrgs() {
-        return catalogRepository.findDistinctProviderOrgs();
+        return facetValues(getFacets().orgs());
+    }
+
+    private static List<String> facetValues(List<CatalogFacets.FacetCount> counts) {
+        return counts.stream().map(CatalogFacets.FacetCount::value).sorted().toList();
     }
 
     public long getRestApiCount() {
-        return catalogRepository.countByServiceType("REST");
+        return snapshotStore.current().restCount();
     }
 
     private CatalogResponse toResponse(PortalApiResponse.ApiItem item) {
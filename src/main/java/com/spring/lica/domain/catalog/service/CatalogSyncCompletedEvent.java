@@ -0,0 +1,7 @@
+package com.spring.lica.domain.catalog.service;
+
+/**
+ * 카탈로그 동기화 작업이 끝났을 때(취소·중단 포함) 발행된다.
+ */
+public record CatalogSyncCompletedEvent(CatalogSyncService.SyncResult result) {
+}
@@ -0,0 +1,131 @@
+package com.spring.lica.domain.catalog.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 카탈로그 동기화 작업의 진행 상태.
+ * 동기화 스레드가 갱신하고 상태 조회 요청 스레드가 읽으므로 모든 카운터는 스레드 안전하다.
+ */
+@Getter
+public class CatalogSyncJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final CatalogSyncService.SyncMode mode;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile int portalTotalCount;
+    private volatile int totalPages;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+
+    private final AtomicInteger pagesDone = new AtomicInteger();
+    private final AtomicInteger itemsNew = new AtomicInteger();
+    private final AtomicInteger itemsUpdated = new AtomicInteger();
+    private final AtomicInteger itemsUnchanged = new AtomicInteger();
+    private final List<Integer> failedPages = new CopyOnWriteArrayList<>();
+
+    @Getter(AccessLevel.NONE)
+    private Thread runner;
+
+    public CatalogSyncJob(CatalogSyncService.SyncMode mode) {
+        this.mode = mode;
+    }
+
+    synchronized void markRunning() {
+        runner = Thread.currentThread();
+        startedNanos = System.nanoTime();
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    synchronized void markFinished(Status finalStatus, String error) {
+        runner = null;
+        // 완료 직전에 도착한 취소 인터럽트가 풀 스레드에 남지 않도록 정리
+        Thread.interrupted();
+        finishedNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        this.error = error;
+        status = finalStatus;
+    }
+
+    void plan(int portalTotalCount, int totalPages) {
+        this.portalTotalCount = portalTotalCount;
+        this.totalPages = totalPages;
+    }
+
+    void recordPage(CatalogSyncWriter.PageWriteResult result) {
+        pagesDone.incrementAndGet();
+        itemsNew.addAndGet(result.created());
+        itemsUpdated.addAndGet(result.updated());
+        itemsUnchanged.addAndGet(result.unchanged());
+    }
+
+    void recordFailedPage(int page) {
+        failedPages.add(page);
+    }
+
+    /**
+     * 취소를 요청한다. 동기화 루프가 다음 페이지 경계에서 확인하며, 대기 중인 조회는 인터럽트된다.
+     */
+    synchronized void requestCancel() {
+        cancelRequested = true;
+        if (runner != null) {
+            runner.interrupt();
+        }
+    }
+
+    public boolean isActive() {
+        return status == Status.QUEUED || status == Status.RUNNING;
+    }
+
+    public int getItemsProcessed() {
+        return itemsNew.get() + itemsUpdated.get() + itemsUnchanged.get();
+    }
+
+    public long getElapsedMs() {
+        if (startedNanos == 0) return 0;
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        return (end - startedNanos) / 1_000_000;
+    }
+
+    /**
+     * 처리량 (초당 항목 수)
+     */
+    public double getItemsPerSecond() {
+        long elapsed = getElapsedMs();
+        return elapsed > 0 ? getItemsProcessed() * 1000.0 / elapsed : 0;
+    }
+
+    /**
+     * 남은 예상 시간(초). 전체 페이지 수를 아직 모르거나 완료된 경우 null.
+     * 증분 모드는 조기 종료될 수 있으므로 상한값이다.
+     */
+    public Long getEtaSeconds() {
+        int done = pagesDone.get();
+        int total = totalPages;
+        if (!isActive() || done == 0 || total <= 0 || total == Integer.MAX_VALUE) return null;
+        long msPerPage = getElapsedMs() / done;
+        return Math.max(0, total - done) * msPerPage / 1000;
+    }
+
+    CatalogSyncService.SyncResult toResult() {
+        return new CatalogSyncService.SyncResult(getItemsProcessed(), itemsNew.get(), itemsUpdated.get(),
+                itemsUnchanged.get(), portalTotalCount, pagesDone.get(), List.copyOf(failedPages), getElapsedMs());
+    }
+}
@@ -0,0 +1,126 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.spring.lica.common.exception.SyncAlreadyRunningException;
+import com.spring.lica.common.exception.SyncJobNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카탈로그 동기화를 백그라운드 작업으로 실행한다.
+ *
+ * <p>제출 즉시 작업 ID를 반환하고, 진행 상황은 {@link #get(String)}으로 조회한다.
+ * 노드당 동시에 하나의 동기화만 실행되며, 실행 중에 제출하면 {@link SyncAlreadyRunningException}이 발생한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSyncJobService {
+
+    private static final int MAX_RECENT_JOBS = 20;
+
+    private final CatalogSyncService catalogSyncService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("catalog-sync-job").daemon(true).factory());
+
+    // 단일 실행 잠금: 실행 중인 작업이 있으면 비어 있지 않다
+    private final AtomicReference<CatalogSyncJob> running = new AtomicReference<>();
+
+    private final Map<String, CatalogSyncJob> recentJobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CatalogSyncJob> eldest) {
+            return size() > MAX_RECENT_JOBS;
+        }
+    };
+
+    public CatalogSyncJob submit(CatalogSyncService.SyncMode mode) {
+        CatalogSyncJob job = new CatalogSyncJob(mode);
+        if (!running.compareAndSet(null, job)) {
+            CatalogSyncJob current = running.get();
+            throw new SyncAlreadyRunningException(current != null ? current.getId() : "unknown");
+        }
+        synchronized (recentJobs) {
+            recentJobs.put(job.getId(), job);
+        }
+        try {
+            executor.execute(() -> run(job));
+        } catch (RuntimeException e) {
+            running.set(null);
+            job.markFinished(CatalogSyncJob.Status.FAILED, e.getMessage());
+            throw e;
+        }
+        log.info("Sync job {} submitted (mode={})", job.getId(), mode);
+        return job;
+    }
+
+    public CatalogSyncJob get(String jobId) {
+        synchronized (recentJobs) {
+            CatalogSyncJob job = recentJobs.get(jobId);
+            if (job == null) {
+                throw new SyncJobNotFoundException("동기화 작업을 찾을 수 없습니다: " + jobId);
+            }
+            return job;
+        }
+    }
+
+    public Optional<CatalogSyncJob> current() {
+        return Optional.ofNullable(running.get());
+    }
+
+    public List<CatalogSyncJob> recent() {
+        synchronized (recentJobs) {
+            List<CatalogSyncJob> jobs = new ArrayList<>(recentJobs.values());
+            return jobs.reversed();
+        }
+    }
+
+    /**
+     * 작업 취소를 요청한다. 이미 종료된 작업은 그대로 반환한다.
+     */
+    public CatalogSyncJob cancel(String jobId) {
+        CatalogSyncJob job = get(jobId);
+        if (job.isActive()) {
+            log.info("Cancel requested for sync job {}", jobId);
+            job.requestCancel();
+        }
+        return job;
+    }
+
+    private void run(CatalogSyncJob job) {
+        try {
+            if (job.isCancelRequested()) {
+                job.markFinished(CatalogSyncJob.Status.CANCELLED, null);
+                return;
+            }
+            job.markRunning();
+            catalogSyncService.syncFromPortal(job);
+            job.markFinished(job.isCancelRequested()
+                    ? CatalogSyncJob.Status.CANCELLED
+                    : CatalogSyncJob.Status.COMPLETED, null);
+        } catch (Exception e) {
+            log.error("Sync job {} failed", job.getId(), e);
+            job.markFinished(job.isCancelRequested()
+                    ? CatalogSyncJob.Status.CANCELLED
+                    : CatalogSyncJob.Status.FAILED, e.getMessage());
+        } finally {
+            running.compareAndSet(job, null);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        current().ifPresent(CatalogSyncJob::requestCancel);
+        executor.shutdownNow();
+    }
+}
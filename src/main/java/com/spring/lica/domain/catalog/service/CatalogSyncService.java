@@ -1,18 +1,24 @@
 package com.spring.lica.domain.catalog.service;
 
+import com.spring.lica.client.datagokr.DataGoKrApiException;
 import com.spring.lica.client.datagokr.DataGoKrClient;
 import com.spring.lica.client.datagokr.dto.PortalApiResponse;
-import com.spring.lica.domain.catalog.entity.ApiCatalog;
+import com.spring.lica.common.util.TokenBucketRateLimiter;
 import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Slf4j
 @Service
@@ -20,106 +26,190 @@ import java.util.Optional;
 public class CatalogSyncService {
 
     private final DataGoKrClient dataGoKrClient;
+    private final CatalogSyncWriter catalogSyncWriter;
     private final ApiCatalogRepository catalogRepository;
-
-    @Value("${app.catalog.sync-page-size:30}")
-    private int syncPageSize;
+    private final CatalogProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * data.go.kr 웹 검색 결과를 스크래핑하여 로컬 DB에 동기화한다.
      * 인증키 불필요 — 웹 페이지 HTML 파싱 방식.
+     *
+     * <p>1페이지의 총 건수로 전체 페이지 수를 계산한 뒤, 나머지 페이지를
+     * {@code sync-concurrency}개까지 동시에 조회한다. 모든 포털 요청은 공유 토큰 버킷
+     * ({@code sync-rate-per-second}, {@code sync-burst})을 통과하며, 실패한 페이지는
+     * 지수 백오프로 {@code sync-max-retries}회까지 재시도한다.
+     * DB 반영은 페이지 순서대로 호출 스레드에서 페이지 단위 트랜잭션으로 수행한다.</p>
+     *
+     * <p>{@link SyncMode#INCREMENTAL}: 포털 검색은 수정일(updtDt) 순으로 정렬되므로,
+     * 한 페이지 전체가 변경 없는 항목이고 모두 직전 동기화 워터마크(저장된 최대 수정일)보다
+     * 오래되었다면 이후 페이지도 변경이 없다고 보고 조회를 중단한다.</p>
+     *
+     * <p>진행 상황은 {@code job}에 페이지마다 기록되고, 취소 요청은 페이지 경계에서 확인한다.
+     * 취소·중단 시에도 이미 반영된 페이지는 유지된다.</p>
      */
-    @Transactional
-    public SyncResult syncFromPortal() {
-        log.info("Starting catalog sync from data.go.kr (HTML scraping)...");
-        int totalSynced = 0;
-        int totalNew = 0;
-        int totalUpdated = 0;
-        int portalTotalCount = 0;
-        int page = 1;
-        int maxPages = 10; // 안전 제한
-
+    public SyncResult syncFromPortal(CatalogSyncJob job) {
+        SyncMode mode = job.getMode();
+        LocalDate watermark = mode == SyncMode.INCREMENTAL
+                ? catalogRepository.findMaxPortalUpdatedAt().orElse(null)
+                : null;
+        log.info("Starting {} catalog sync job {} from data.go.kr (HTML scraping, watermark={})...",
+                mode, job.getId(), watermark);
+        int pageSize = properties.getSyncPageSize();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(
+                properties.getSyncRatePerSecond(), properties.getSyncBurst());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getSyncConcurrency()),
+                Thread.ofPlatform().name("catalog-sync-", 1).daemon(true).factory());
         try {
-            do {
-                PortalApiResponse response = dataGoKrClient.searchRestApis(page, syncPageSize, "");
-                if (response == null || response.getResponse() == null
-                        || response.getResponse().getBody() == null) {
-                    log.warn("Empty response at page {}", page);
+            FetchedPage first = fetchPageWithRetry(1, pageSize, rateLimiter);
+            int portalTotalCount = first.totalCount();
+            int lastPage = resolveLastPage(portalTotalCount, pageSize);
+            job.plan(portalTotalCount, lastPage);
+            if (first.items().isEmpty()) {
+                log.warn("Empty response at page 1");
+                return finish(job);
+            }
+            CatalogSyncWriter.PageWriteResult firstResult = catalogSyncWriter.writePage(first.items());
+            job.recordPage(firstResult);
+            logPage(first, job);
+            if (isCaughtUp(first, firstResult, watermark)) {
+                log.info("Incremental sync caught up at page 1");
+                return finish(job);
+            }
+
+            log.info("Portal reports {} REST APIs, syncing up to page {}", portalTotalCount,
+                    lastPage == Integer.MAX_VALUE ? "(until empty)" : lastPage);
+
+            // 페이지 순서를 유지하는 슬라이딩 윈도우: 앞 페이지를 반영하는 동안 뒤 페이지를 미리 조회
+            Deque<PendingPage> window = new ArrayDeque<>();
+            int nextPage = 2;
+            boolean exhausted = false;
+            while (nextPage <= lastPage && window.size() < properties.getSyncConcurrency()) {
+                window.add(submit(executor, nextPage++, pageSize, rateLimiter));
+            }
+
+            while (!window.isEmpty()) {
+                if (job.isCancelRequested()) {
+                    log.info("Sync job {} cancelled after {} pages", job.getId(), job.getPagesDone().get());
+                    window.forEach(p -> p.future().cancel(true));
                     break;
                 }
-
-                var body = response.getResponse().getBody();
-                if (page == 1) {
-                    portalTotalCount = body.getTotalCount();
+                PendingPage pending = window.poll();
+                try {
+                    FetchedPage fetched = pending.future().get();
+                    if (fetched.items().isEmpty()) {
+                        // 총 건수를 모를 때는 빈 페이지를 만나면 종료
+                        exhausted = true;
+                    } else {
+                        CatalogSyncWriter.PageWriteResult pageResult = catalogSyncWriter.writePage(fetched.items());
+                        job.recordPage(pageResult);
+                        logPage(fetched, job);
+                        if (isCaughtUp(fetched, pageResult, watermark)) {
+                            log.info("Incremental sync caught up at page {}", fetched.page());
+                            window.forEach(p -> p.future().cancel(true));
+                            window.clear();
+                            break;
+                        }
+                    }
+                } catch (ExecutionException e) {
+                    job.recordFailedPage(pending.page());
+                    log.error("Catalog sync failed at page {} after retries: {}",
+                            pending.page(), e.getCause().getMessage());
                 }
 
-                if (body.getItems() == null || body.getItems().getItem() == null
-                        || body.getItems().getItem().isEmpty()) {
-                    break;
+                if (!exhausted && nextPage <= lastPage) {
+                    window.add(submit(executor, nextPage++, pageSize, rateLimiter));
                 }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Sync job {} interrupted after {} pages", job.getId(), job.getPagesDone().get());
+        } finally {
+            executor.shutdownNow();
+        }
+        return finish(job);
+    }
 
-                List<PortalApiResponse.ApiItem> items = body.getItems().getItem();
-                for (PortalApiResponse.ApiItem item : items) {
-                    String uddiSeq = item.getUddiSeq();
-                    if (uddiSeq == null || uddiSeq.isBlank()) continue;
-
-                    Optional<ApiCatalog> existing = catalogRepository.findByUddiSeq(uddiSeq);
-                    if (existing.isPresent()) {
-                        updateCatalog(existing.get(), item);
-                        totalUpdated++;
-                    } else {
-                        createCatalog(item);
-                        totalNew++;
-                    }
-                    totalSynced++;
-                }
+    private SyncResult finish(CatalogSyncJob job) {
+        SyncResult result = job.toResult();
+        log.info("Catalog sync completed: total={}, new={}, updated={}, unchanged={}, portalTotal={}, pages={}, failedPages={}, elapsed={}ms",
+                result.totalSynced(), result.totalNew(), result.totalUpdated(), result.totalUnchanged(), result.portalTotalCount(),
+                result.pagesSynced(), result.failedPages(), result.elapsedMs());
+        eventPublisher.publishEvent(new CatalogSyncCompletedEvent(result));
+        return result;
+    }
 
-                log.info("Synced page {}: {} items (total so far: {})", page, items.size(), totalSynced);
-                page++;
+    /**
+     * 증분 모드 종료 조건: 페이지 전체가 변경 없고, 모든 항목이 워터마크보다 오래됨.
+     * 수정일을 파싱하지 못한 항목은 오래된 것으로 간주한다.
+     */
+    private boolean isCaughtUp(FetchedPage page, CatalogSyncWriter.PageWriteResult result, LocalDate watermark) {
+        if (watermark == null || !result.allUnchanged()) return false;
+        return page.items().stream()
+                .map(CatalogFingerprint::modifiedDate)
+                .allMatch(date -> date == null || date.isBefore(watermark));
+    }
 
-                // 요청 간격 (포털에 부하 방지)
-                Thread.sleep(500);
+    private int resolveLastPage(int portalTotalCount, int pageSize) {
+        int lastPage = portalTotalCount > 0
+                ? (portalTotalCount + pageSize - 1) / pageSize
+                : Integer.MAX_VALUE;
+        if (properties.getSyncMaxPages() > 0) {
+            lastPage = Math.min(lastPage, properties.getSyncMaxPages());
+        }
+        return lastPage;
+    }
 
-            } while (page <= maxPages);
+    private PendingPage submit(ExecutorService executor, int page, int pageSize, TokenBucketRateLimiter rateLimiter) {
+        return new PendingPage(page, executor.submit(() -> fetchPageWithRetry(page, pageSize, rateLimiter)));
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Sync interrupted at page {}", page);
-        } catch (Exception e) {
-            log.error("Catalog sync failed at page {}", page, e);
+    private FetchedPage fetchPageWithRetry(int page, int pageSize, TokenBucketRateLimiter rateLimiter)
+            throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire();
+            try {
+                PortalApiResponse response = dataGoKrClient.fetchSyncPage(page, pageSize);
+                return toFetchedPage(page, response);
+            } catch (DataGoKrApiException e) {
+                if (attempt > properties.getSyncMaxRetries()) {
+                    throw e;
+                }
+                long backoff = properties.getSyncRetryBackoff() * (1L << (attempt - 1));
+                log.warn("Page {} fetch failed (attempt {}), retrying in {}ms: {}", page, attempt, backoff, e.getMessage());
+                Thread.sleep(backoff);
+            }
         }
+    }
 
-        log.info("Catalog sync completed: total={}, new={}, updated={}, portalTotal={}",
-                totalSynced, totalNew, totalUpdated, portalTotalCount);
-        return new SyncResult(totalSynced, totalNew, totalUpdated, portalTotalCount);
+    private FetchedPage toFetchedPage(int page, PortalApiResponse response) {
+        if (response == null || response.getResponse() == null
+                || response.getResponse().getBody() == null) {
+            return new FetchedPage(page, 0, Collections.emptyList());
+        }
+        var body = response.getResponse().getBody();
+        if (body.getItems() == null || body.getItems().getItem() == null) {
+            return new FetchedPage(page, body.getTotalCount(), Collections.emptyList());
+        }
+        return new FetchedPage(page, body.getTotalCount(), body.getItems().getItem());
     }
 
-    private void createCatalog(PortalApiResponse.ApiItem item) {
-        ApiCatalog catalog = ApiCatalog.builder()
-                .uddiSeq(item.getUddiSeq())
-                .apiName(item.resolvedName())
-                .description(item.resolvedDescription())
-                .providerOrg(item.resolvedOrg())
-                .category(item.resolvedCategory())
-                .serviceType("REST")
-                .dataFormat(item.resolvedDataFormat())
-                .endpointUrl(item.resolvedEndpointUrl())
-                .lastSyncedAt(LocalDateTime.now())
-                .build();
-        catalogRepository.save(catalog);
+    private void logPage(FetchedPage page, CatalogSyncJob job) {
+        log.info("Synced page {}: {} items (total so far: {})", page.page(), page.items().size(), job.getItemsProcessed());
     }
 
-    private void updateCatalog(ApiCatalog catalog, PortalApiResponse.ApiItem item) {
-        if (item.resolvedName() != null) catalog.setApiName(item.resolvedName());
-        if (item.resolvedDescription() != null) catalog.setDescription(item.resolvedDescription());
-        if (item.resolvedOrg() != null) catalog.setProviderOrg(item.resolvedOrg());
-        if (item.resolvedCategory() != null) catalog.setCategory(item.resolvedCategory());
-        if (item.resolvedDataFormat() != null) catalog.setDataFormat(item.resolvedDataFormat());
-        if (item.resolvedEndpointUrl() != null) catalog.setEndpointUrl(item.resolvedEndpointUrl());
-        catalog.setServiceType("REST");
-        catalog.setLastSyncedAt(LocalDateTime.now());
-        catalogRepository.save(catalog);
+    private record FetchedPage(int page, int totalCount, List<PortalApiResponse.ApiItem> items) {}
+
+    private record PendingPage(int page, Future<FetchedPage> future) {}
+
+    public enum SyncMode {
+        /** 포털 전체 페이지를 조회 */
+        FULL,
+        /** 변경 없는 구간에 도달하면 조회 중단 */
+        INCREMENTAL
     }
 
-    public record SyncResult(int totalSynced, int totalNew, int totalUpdated, int portalTotalCount) {}
+    public record SyncResult(int totalSynced, int totalNew, int totalUpdated, int totalUnchanged, int portalTotalCount,
+                             int pagesSynced, List<Integer> failedPages, long elapsedMs) {}
 }
@@ -0,0 +1,192 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.spring.lica.client.datagokr.dto.PortalApiResponse;
+import com.spring.lica.domain.catalog.entity.ApiCatalog;
+import com.spring.lica.domain.catalog.search.CatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포털 검색 결과 한 페이지를 로컬 DB에 반영한다.
+ * 페이지 단위로 트랜잭션을 분리하여 동기화 도중 실패해도 이미 반영된 페이지는 유지된다.
+ *
+ * <p>행 단위 조회·저장 대신 페이지 전체의 기존 행을 {@code IN (...)} 한 번으로 조회하고,
+ * 신규/변경 행을 JDBC 배치 INSERT/UPDATE로 기록한다. 페이지당 쿼리 수가 행 수와 무관하다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogSyncWriter {
+
+    private static final String SELECT_EXISTING_SQL = """
+            SELECT id, uddi_seq, content_hash FROM api_catalog WHERE uddi_seq IN (:uddiSeqs)
+            """;
+
+    private static final String NEXT_ID_BLOCK_SQL = "SELECT NEXT VALUE FOR api_catalog_seq";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO api_catalog (id, uddi_seq, api_name, description, provider_org, category, service_type,
+                data_format, endpoint_url, content_hash, portal_updated_at, last_synced_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, 'REST', ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 포털 값이 비어 있으면 기존 값을 유지 (상세 스크래핑으로 보완된 값 보존).
+    // 목록 항목이 바뀌었으므로 상세 정보도 다시 수집하도록 detail_fetched_at을 비운다.
+    private static final String UPDATE_SQL = """
+            UPDATE api_catalog SET
+                api_name = COALESCE(?, api_name),
+                description = COALESCE(?, description),
+                provider_org = COALESCE(?, provider_org),
+                category = COALESCE(?, category),
+                data_format = COALESCE(?, data_format),
+                endpoint_url = COALESCE(?, endpoint_url),
+                service_type = 'REST',
+                content_hash = ?,
+                portal_updated_at = COALESCE(?, portal_updated_at),
+                detail_fetched_at = NULL,
+                last_synced_at = ?,
+                updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 한 페이지를 반영한다. 저장된 콘텐츠 지문과 같은 항목은 쓰기를 생략한다.
+     */
+    @Transactional
+    public PageWriteResult writePage(List<PortalApiResponse.ApiItem> items) {
+        Map<String, PortalApiResponse.ApiItem> byUddiSeq = new LinkedHashMap<>();
+        for (PortalApiResponse.ApiItem item : items) {
+            String uddiSeq = item.getUddiSeq();
+            if (uddiSeq == null || uddiSeq.isBlank()) continue;
+            byUddiSeq.put(uddiSeq, item);
+        }
+        if (byUddiSeq.isEmpty()) {
+            return new PageWriteResult(0, 0, 0);
+        }
+
+        Map<String, ExistingRow> existing = findExisting(byUddiSeq.keySet());
+        LocalDateTime now = LocalDateTime.now();
+        List<PortalApiResponse.ApiItem> inserts = new ArrayList<>();
+        List<String> insertHashes = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<String> updatedUddiSeqs = new ArrayList<>();
+        int unchanged = 0;
+
+        for (PortalApiResponse.ApiItem item : byUddiSeq.values()) {
+            String contentHash = CatalogFingerprint.of(item);
+            ExistingRow row = existing.get(item.getUddiSeq());
+            if (row == null) {
+                inserts.add(item);
+                insertHashes.add(contentHash);
+            } else if (contentHash.equals(row.contentHash())) {
+                unchanged++;
+            } else {
+                updatedUddiSeqs.add(item.getUddiSeq());
+                updates.add(new Object[]{
+                        item.resolvedName(),
+                        truncate(item.resolvedDescription(), 2000),
+                        item.resolvedOrg(),
+                        item.resolvedCategory(),
+                        item.resolvedDataFormat(),
+                        truncate(item.resolvedEndpointUrl(), 1000),
+                        contentHash,
+                        CatalogFingerprint.modifiedDate(item),
+                        now,
+                        now,
+                        row.id()
+                });
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            List<Long> ids = allocateIds(inserts.size());
+            List<Object[]> args = new ArrayList<>(inserts.size());
+            for (int i = 0; i < inserts.size(); i++) {
+                PortalApiResponse.ApiItem item = inserts.get(i);
+                String name = item.resolvedName();
+                args.add(new Object[]{
+                        ids.get(i),
+                        item.getUddiSeq(),
+                        name != null ? name : item.getUddiSeq(),
+                        truncate(item.resolvedDescription(), 2000),
+                        item.resolvedOrg(),
+                        item.resolvedCategory(),
+                        item.resolvedDataFormat(),
+                        truncate(item.resolvedEndpointUrl(), 1000),
+                        insertHashes.get(i),
+                        CatalogFingerprint.modifiedDate(item),
+                        now,
+                        now,
+                        now
+                });
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!inserts.isEmpty() || !updates.isEmpty()) {
+            List<String> changed = new ArrayList<>(inserts.size() + updatedUddiSeqs.size());
+            inserts.forEach(item -> changed.add(item.getUddiSeq()));
+            changed.addAll(updatedUddiSeqs);
+            eventPublisher.publishEvent(new CatalogChangedEvent(changed));
+        }
+
+        return new PageWriteResult(inserts.size(), updates.size(), unchanged);
+    }
+
+    private Map<String, ExistingRow> findExisting(Iterable<String> uddiSeqs) {
+        List<String> keys = new ArrayList<>();
+        uddiSeqs.forEach(keys::add);
+        Map<String, ExistingRow> rows = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_EXISTING_SQL, Map.of("uddiSeqs", keys), rs -> {
+            String uddiSeq = rs.getString("uddi_seq");
+            rows.put(uddiSeq, new ExistingRow(rs.getLong("id"), rs.getString("content_hash")));
+        });
+        return rows;
+    }
+
+    /**
+     * Hibernate pooled-lo 최적화와 같은 규칙으로 ID를 예약한다:
+     * 시퀀스 값 v 하나가 [v, v + allocationSize) 블록을 의미한다.
+     */
+    private List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            Long blockStart = jdbcTemplate.queryForObject(NEXT_ID_BLOCK_SQL, Long.class);
+            for (int i = 0; i < ApiCatalog.ID_ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(blockStart + i);
+            }
+        }
+        return ids;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) return value;
+        return value.substring(0, maxLength);
+    }
+
+    private record ExistingRow(long id, String contentHash) {}
+
+    public record PageWriteResult(int created, int updated, int unchanged) {
+
+        public boolean allUnchanged() {
+            return created == 0 && updated == 0 && unchanged > 0;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.spring.lica.domain.catalog.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 상세 조회 빈도를 노드 메모리에 집계한다. 백그라운드 수집 우선순위와 자동완성 가중치에만 쓰이므로
+ * 재시작 시 초기화되어도 무방하다.
+ */
+@Component
+public class CatalogViewTracker {
+
+    private final Map<String, LongAdder> views = new ConcurrentHashMap<>();
+
+    public void recordView(String uddiSeq) {
+        views.computeIfAbsent(uddiSeq, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 조회수 상위 {@code limit}개의 uddiSeq
+     */
+    public List<String> topViewed(int limit) {
+        return views.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * uddiSeq별 현재 조회수 (감쇠 반영)
+     */
+    public Map<String, Long> viewCounts() {
+        Map<String, Long> counts = new HashMap<>(views.size());
+        views.forEach((uddiSeq, count) -> counts.put(uddiSeq, count.sum()));
+        return counts;
+    }
+
+    /**
+     * 조회수를 절반으로 줄여 최근 조회에 가중치를 둔다. 0이 된 항목은 제거한다.
+     */
+    @Scheduled(initialDelayString = "${app.catalog.view-decay-interval:60000}",
+            fixedDelayString = "${app.catalog.view-decay-interval:60000}")
+    public void decay() {
+        views.entrySet().removeIf(e -> {
+            long half = e.getValue().sumThenReset() / 2;
+            e.getValue().add(half);
+            return half == 0;
+        });
+    }
+}
@@ -0,0 +1,222 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.lica.common.util.SingleFlight;
+import com.spring.lica.domain.catalog.dto.CatalogResponse;
+import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 포털 실시간 검색 결과 캐시. 키는 정규화한 (keyword, category, page, size).
+ *
+ * <p>L1은 프로세스 내 Caffeine, L2는 Redis 모듈({@code app.module.redis.enabled=true})이 켜져 있을 때만 사용한다.
+ * {@code portal-cache-ttl} 이내의 항목은 그대로 반환하고, 이후 {@code portal-cache-stale-ttl} 동안은
+ * 기존 결과를 반환하면서 백그라운드에서 다시 조회한다 (stale-while-revalidate).
+ * 같은 키의 동시 미스·재조회는 {@link SingleFlight}로 한 번의 스크래핑으로 합쳐진다.</p>
+ *
+ * <p>메트릭: {@code catalog.portal.search.cache.requests} (카운터, 태그 result),
+ * {@code catalog.portal.search.cache.hit.ratio} (게이지), L1 Caffeine 통계 ({@code cache=portalSearch}).</p>
+ */
+@Slf4j
+@Component
+public class PortalSearchCache implements MeterBinder {
+
+    private static final String L2_KEY_PREFIX = "lica:portal-search:";
+
+    private final CatalogProperties properties;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Entry> l1;
+
+    private final SingleFlight<String, Entry> loads = new SingleFlight<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("portal-search-refresh-", 0).factory());
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    public PortalSearchCache(CatalogProperties properties, ObjectMapper objectMapper,
+                             ObjectProvider<StringRedisTemplate> redisTemplate) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate.getIfAvailable();
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(properties.getPortalCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(retentionMs()))
+                .recordStats()
+                .build();
+        log.info("Portal search cache: L1 max={}, ttl={}ms, stale={}ms, L2={}", properties.getPortalCacheMaxSize(),
+                properties.getPortalCacheTtl(), properties.getPortalCacheStaleTtl(),
+                this.redisTemplate != null ? "redis" : "disabled");
+    }
+
+    /**
+     * 정규화한 캐시 키. 검색어는 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환.
+     */
+    public static String key(CatalogSearchRequest request) {
+        return normalize(request.getKeyword()) + "|" + normalize(request.getCategory())
+                + "|" + request.getPage() + "|" + request.getSize();
+    }
+
+    /**
+     * 캐시된 결과를 반환하거나 {@code loader}로 조회해 저장한다. 조회 실패는 캐시하지 않고 그대로 던진다.
+     */
+    public Entry get(String key, Supplier<Entry> loader) {
+        if (!properties.isPortalCacheEnabled()) {
+            return loader.get();
+        }
+
+        Entry entry = l1.getIfPresent(key);
+        if (entry != null && isUsable(entry)) {
+            return hit(key, entry, l1Hits, loader);
+        }
+
+        entry = readL2(key);
+        if (entry != null && isUsable(entry)) {
+            l1.put(key, entry);
+            return hit(key, entry, l2Hits, loader);
+        }
+
+        misses.increment();
+        return loads.execute(key, () -> load(key, loader));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String name = "catalog.portal.search.cache.requests";
+        FunctionCounter.builder(name, l1Hits, LongAdder::sum).tag("result", "l1-hit").register(registry);
+        FunctionCounter.builder(name, l2Hits, LongAdder::sum).tag("result", "l2-hit").register(registry);
+        FunctionCounter.builder(name, staleHits, LongAdder::sum).tag("result", "stale-hit").register(registry);
+        FunctionCounter.builder(name, misses, LongAdder::sum).tag("result", "miss").register(registry);
+        FunctionCounter.builder("catalog.portal.search.cache.refresh.failures", refreshFailures, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("catalog.portal.search.cache.hit.ratio", this, PortalSearchCache::hitRatio)
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, l1, "portalSearch");
+    }
+
+    /**
+     * 전체 요청 중 포털 스크래핑 없이 응답한 비율 (stale 응답 포함)
+     */
+    public double hitRatio() {
+        long hits = l1Hits.sum() + l2Hits.sum() + staleHits.sum();
+        long total = hits + misses.sum();
+        return total > 0 ? (double) hits / total : 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private Entry hit(String key, Entry entry, LongAdder counter, Supplier<Entry> loader) {
+        if (isFresh(entry)) {
+            counter.increment();
+        } else {
+            staleHits.increment();
+            scheduleRefresh(key, loader);
+        }
+        return entry;
+    }
+
+    private void scheduleRefresh(String key, Supplier<Entry> loader) {
+        if (!refreshing.add(key)) return;
+        try {
+            refresher.execute(() -> {
+                try {
+                    loads.execute(key, () -> load(key, loader));
+                } catch (RuntimeException e) {
+                    // 다음 요청까지 기존 결과를 계속 반환
+                    refreshFailures.increment();
+                    log.debug("Portal search refresh failed for key={}: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            throw e;
+        }
+    }
+
+    private Entry load(String key, Supplier<Entry> loader) {
+        Entry loaded = loader.get();
+        l1.put(key, loaded);
+        writeL2(key, loaded);
+        return loaded;
+    }
+
+    private Entry readL2(String key) {
+        if (redisTemplate == null) return null;
+        try {
+            String json = redisTemplate.opsForValue().get(L2_KEY_PREFIX + key);
+            return json != null ? objectMapper.readValue(json, Entry.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Portal search L2 read failed for key={}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(String key, Entry entry) {
+        if (redisTemplate == null) return;
+        try {
+            redisTemplate.opsForValue().set(L2_KEY_PREFIX + key, objectMapper.writeValueAsString(entry),
+                    Duration.ofMillis(retentionMs()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Portal search L2 write failed for key={}: {}", key, e.getMessage());
+        }
+    }
+
+    private boolean isFresh(Entry entry) {
+        return System.currentTimeMillis() - entry.fetchedAt() < properties.getPortalCacheTtl();
+    }
+
+    private boolean isUsable(Entry entry) {
+        return System.currentTimeMillis() - entry.fetchedAt() < retentionMs();
+    }
+
+    private long retentionMs() {
+        return properties.getPortalCacheTtl() + Math.max(0, properties.getPortalCacheStaleTtl());
+    }
+
+    private static String normalize(String value) {
+        if (value == null) return "";
+        return value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색 결과 한 페이지와 조회 시각
+     */
+    public record Entry(List<CatalogResponse> items, long totalCount, long fetchedAt) {
+
+        public static Entry of(List<CatalogResponse> items, long totalCount) {
+            return new Entry(items, totalCount, System.currentTimeMillis());
+        }
+    }
+}
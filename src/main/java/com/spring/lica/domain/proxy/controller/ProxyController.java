@@ -5,9 +5,19 @@ import com.spring.lica.domain.proxy.dto.ProxyResponse;
 import com.spring.lica.domain.proxy.service.ApiProxyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/api/proxy")
@@ -16,10 +26,53 @@ public class ProxyController {
 
     private final ApiProxyService apiProxyService;
 
+    /**
+     * Spring MVC 비동기 처리: Mono가 완료될 때까지 서블릿 스레드를 반환한다.
+     */
     @PostMapping("/execute")
-    public ResponseEntity<ProxyResponse> execute(@Valid @RequestBody ProxyRequest request,
-                                                  Authentication authentication) {
+    public Mono<ResponseEntity<ProxyResponse>> execute(@Valid @RequestBody ProxyRequest request,
+                                                        Authentication authentication) {
+        String email = (authentication != null) ? authentication.getName() : null;
+        return apiProxyService.execute(request, email).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 대용량 응답용 스트리밍 중계. 업스트림 본문을 버퍼링하지 않고 청크 단위로 전달하며,
+     * 상태코드와 Content-Type은 업스트림 응답을 따른다.
+     * 헤더를 기다리는 동안과 청크 사이에는 서블릿 스레드를 점유하지 않는다.
+     */
+    @PostMapping("/stream")
+    public Mono<ResponseEntity<ResponseBodyEmitter>> stream(@Valid @RequestBody ProxyRequest request,
+                                                            Authentication authentication) {
         String email = (authentication != null) ? authentication.getName() : null;
-        return ResponseEntity.ok(apiProxyService.execute(request, email));
+        return apiProxyService.openStream(request, email).map(ProxyController::toEmitter);
+    }
+
+    /**
+     * 본문 {@link Flux}를 구독해 청크마다 {@link ResponseBodyEmitter}로 내보낸다.
+     * 클라이언트가 연결을 끊거나 타임아웃되면 업스트림 구독을 취소한다.
+     */
+    private static ResponseEntity<ResponseBodyEmitter> toEmitter(ResponseEntity<Flux<DataBuffer>> upstream) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        Disposable subscription = upstream.getBody().subscribe(buffer -> {
+            try {
+                byte[] chunk = new byte[buffer.readableByteCount()];
+                buffer.read(chunk);
+                emitter.send(chunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }, emitter::completeWithError, emitter::complete);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(upstream.getStatusCode());
+        MediaType contentType = upstream.getHeaders().getContentType();
+        if (contentType != null) {
+            builder.contentType(contentType);
+        }
+        return builder.body(emitter);
     }
 }
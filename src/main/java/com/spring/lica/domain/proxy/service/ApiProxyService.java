@@ -1,14 +1,25 @@
 package com.spring.lica.domain.proxy.service;
 
 import com.spring.lica.client.datagokr.DataGoKrClient;
+import com.spring.lica.client.datagokr.PortalUnavailableException;
 import com.spring.lica.domain.proxy.dto.ProxyRequest;
 import com.spring.lica.domain.proxy.dto.ProxyResponse;
 import com.spring.lica.domain.user.service.TestHistoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -21,58 +32,139 @@ public class ApiProxyService {
     private final DataGoKrClient dataGoKrClient;
     private final TestHistoryService testHistoryService;
 
+    /**
+     * 스트리밍 시 업스트림에 선요청하는 청크 수
+     */
+    private static final int STREAM_PREFETCH = 4;
+
+    /**
+     * 스트리밍 응답에서 이력용으로 보관하는 앞부분 바이트 수 (UTF-8 최대 4바이트 × 최대 저장 문자 수)
+     */
+    private static final int HISTORY_CAPTURE_BYTES = TestHistoryService.MAX_RESPONSE_BODY_LENGTH * 4;
+
     @Value("${app.proxy.allowed-domains:apis.data.go.kr}")
     private String allowedDomains;
 
-    public ProxyResponse execute(ProxyRequest request, String email) {
+    /**
+     * 테스트 콘솔 요청을 업스트림으로 중계한다.
+     * 업스트림 응답을 기다리는 동안 서블릿 스레드를 점유하지 않도록 {@link Mono}로 반환하며,
+     * 이력 저장(JPA)은 boundedElastic 스케줄러에서 수행한다.
+     */
+    public Mono<ProxyResponse> execute(ProxyRequest request, String email) {
         validateTargetUrl(request.getTargetUrl());
 
+        Map<String, String> allParams = buildParams(request);
+        String curl = buildCurl(request.getTargetUrl(), allParams);
+        String paramsJson = buildParamsString(allParams);
+
+        long start = System.currentTimeMillis();
+        return dataGoKrClient.proxyCall(request.getTargetUrl(), allParams)
+                .defaultIfEmpty("")
+                .map(responseBody -> ProxyResponse.builder()
+                        .status(200)
+                        .body(responseBody)
+                        .elapsedMs(System.currentTimeMillis() - start)
+                        .curl(curl)
+                        .build())
+                .onErrorResume(e -> {
+                    log.error("Proxy execution failed: {}", e.getMessage());
+                    return Mono.just(ProxyResponse.builder()
+                            .status(e instanceof PortalUnavailableException ? 503 : 500)
+                            .body(errorBody(e))
+                            .elapsedMs(System.currentTimeMillis() - start)
+                            .curl(curl)
+                            .build());
+                })
+                .flatMap(response -> recordHistory(email, request, paramsJson, response).thenReturn(response));
+    }
+
+    private Mono<Void> recordHistory(String email, ProxyRequest request, String paramsJson, ProxyResponse response) {
+        if (email == null) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> saveHistory(email, request, paramsJson, response.getBody(), response.getStatus()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /**
+     * 대용량 응답용 스트리밍 중계. 대상 URL 검증은 즉시 수행하고, 업스트림 응답 헤더가 도착하면
+     * 상태코드·Content-Type과 본문 {@link Flux}를 담은 응답을 내보낸다.
+     * 업스트림 호출이 실패하면 503(포털 보호로 거절)/502 상태의 JSON 오류 본문으로 대체한다.
+     *
+     * <p>본문은 boundedElastic 스케줄러로 넘겨 내보내므로 구독자가 서블릿 출력에 블로킹 쓰기를 해도
+     * Netty 이벤트 루프를 막지 않으며, 한 번에 최대 {@value #STREAM_PREFETCH}개 청크만 선요청해
+     * 응답 크기와 무관하게 메모리 사용량이 일정하다. 이력 저장용으로는 앞부분
+     * {@value #HISTORY_CAPTURE_BYTES}바이트만 보관하고, 본문이 끝나거나 취소되면 저장한다.</p>
+     */
+    public Mono<ResponseEntity<Flux<DataBuffer>>> openStream(ProxyRequest request, String email) {
+        validateTargetUrl(request.getTargetUrl());
+
+        Map<String, String> allParams = buildParams(request);
+        String paramsJson = buildParamsString(allParams);
+        return dataGoKrClient.proxyStream(request.getTargetUrl(), allParams)
+                .map(upstream -> relay(upstream, email, request, paramsJson))
+                .onErrorResume(e -> {
+                    log.error("Proxy stream failed: {}", e.getMessage());
+                    String errorBody = errorBody(e);
+                    boolean rejected = e instanceof PortalUnavailableException;
+                    Schedulers.boundedElastic().schedule(() ->
+                            saveHistory(email, request, paramsJson, errorBody, rejected ? 503 : 500));
+                    DataBuffer body = DefaultDataBufferFactory.sharedInstance.wrap(
+                            errorBody.getBytes(StandardCharsets.UTF_8));
+                    return Mono.just(ResponseEntity
+                            .status(rejected ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_GATEWAY)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(Flux.just(body)));
+                });
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> relay(ResponseEntity<Flux<DataBuffer>> upstream, String email,
+                                                   ProxyRequest request, String paramsJson) {
+        int status = upstream.getStatusCode().value();
+        HistoryCapture capture = new HistoryCapture();
+        Flux<DataBuffer> body = (upstream.getBody() == null) ? Flux.empty() : upstream.getBody();
+        Flux<DataBuffer> relayed = body
+                .doOnNext(capture::append)
+                .publishOn(Schedulers.boundedElastic(), STREAM_PREFETCH)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .doFinally(signal -> Schedulers.boundedElastic().schedule(() ->
+                        saveHistory(email, request, paramsJson, capture.text(), status)));
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(upstream.getStatusCode());
+        MediaType contentType = upstream.getHeaders().getContentType();
+        if (contentType != null) {
+            builder.contentType(contentType);
+        }
+        return builder.body(relayed);
+    }
+
+    private void saveHistory(String email, ProxyRequest request, String paramsJson, String body, int status) {
+        if (email != null) {
+            testHistoryService.saveHistory(email, request.getTargetUrl(), paramsJson,
+                    body, status, request.getUddiSeq());
+        }
+    }
+
+    private Map<String, String> buildParams(ProxyRequest request) {
         Map<String, String> allParams = new LinkedHashMap<>();
         allParams.put("serviceKey", request.getServiceKey());
         if (request.getParams() != null) {
             allParams.putAll(request.getParams());
         }
+        return allParams;
+    }
 
-        String curl = buildCurl(request.getTargetUrl(), allParams);
-
-        String paramsJson = allParams.entrySet().stream()
+    private String buildParamsString(Map<String, String> allParams) {
+        return allParams.entrySet().stream()
                 .filter(e -> !"serviceKey".equals(e.getKey()))
                 .map(e -> e.getKey() + "=" + e.getValue())
                 .collect(Collectors.joining("&"));
+    }
 
-        long start = System.currentTimeMillis();
-        try {
-            String responseBody = dataGoKrClient.proxyCall(request.getTargetUrl(), allParams);
-            long elapsed = System.currentTimeMillis() - start;
-
-            if (email != null) {
-                testHistoryService.saveHistory(email, request.getTargetUrl(), paramsJson,
-                        responseBody, 200, request.getUddiSeq());
-            }
-
-            return ProxyResponse.builder()
-                    .status(200)
-                    .body(responseBody)
-                    .elapsedMs(elapsed)
-                    .curl(curl)
-                    .build();
-        } catch (Exception e) {
-            long elapsed = System.currentTimeMillis() - start;
-            log.error("Proxy execution failed: {}", e.getMessage());
-
-            String errorBody = "{\"error\": \"" + e.getMessage().replace("\"", "\\\"") + "\"}";
-            if (email != null) {
-                testHistoryService.saveHistory(email, request.getTargetUrl(), paramsJson,
-                        errorBody, 500, request.getUddiSeq());
-            }
-
-            return ProxyResponse.builder()
-                    .status(500)
-                    .body(errorBody)
-                    .elapsedMs(elapsed)
-                    .curl(curl)
-                    .build();
-        }
+    private String errorBody(Throwable e) {
+        String message = String.valueOf(e.getMessage());
+        return "{\"error\": \"" + message.replace("\"", "\\\"") + "\"}";
     }
 
     private void validateTargetUrl(String targetUrl) {
@@ -105,4 +197,45 @@ public class ApiProxyService {
 
         return "curl -X GET \"" + targetUrl + "?" + maskedQuery + "\"";
     }
+
+    /**
+     * 스트리밍 본문의 앞부분을 이력용으로 보관한다. 청크의 읽기 위치는 복사 후 되돌린다.
+     */
+    private static final class HistoryCapture {
+
+        private final byte[] prefix = new byte[HISTORY_CAPTURE_BYTES];
+        private int captured;
+
+        private void append(DataBuffer buffer) {
+            int n = Math.min(prefix.length - captured, buffer.readableByteCount());
+            if (n > 0) {
+                int position = buffer.readPosition();
+                buffer.read(prefix, captured, n);
+                buffer.readPosition(position);
+                captured += n;
+            }
+        }
+
+        private String text() {
+            return new String(prefix, 0, completeUtf8Length(prefix, captured), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * {@code bytes}의 앞 {@code length}바이트 중 마지막 문자가 잘려 있으면 그 문자의 시작 위치를,
+     * 아니면 {@code length}를 반환한다. 바이트 수로 자른 UTF-8 앞부분을 디코딩할 때
+     * 끝에 U+FFFD가 붙지 않도록 한다.
+     */
+    static int completeUtf8Length(byte[] bytes, int length) {
+        int lead = length - 1;
+        while (lead >= 0 && length - lead < 4 && (bytes[lead] & 0xC0) == 0x80) {
+            lead--;
+        }
+        if (lead < 0) {
+            return length;
+        }
+        int b = bytes[lead] & 0xFF;
+        int expected = (b < 0x80) ? 1 : (b >= 0xF0) ? 4 : (b >= 0xE0) ? 3 : (b >= 0xC0) ? 2 : 1;
+        return (lead + expected > length) ? lead : length;
+    }
 }
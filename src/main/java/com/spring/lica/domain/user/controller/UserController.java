@@ -1,5 +1,6 @@
 package com.spring.lica.domain.user.controller;
 
+import com.spring.lica.common.pagination.CursorPage;
 import com.spring.lica.domain.user.dto.*;
 import com.spring.lica.domain.user.service.FavoriteService;
 import com.spring.lica.domain.user.service.ServiceKeyService;
@@ -84,4 +85,13 @@ public class UserController {
             @RequestParam(defaultValue = "20") int size) {
         return ResponseEntity.ok(testHistoryService.getHistory(auth.getName(), page, size));
     }
+
+    @GetMapping("/history/scroll")
+    public ResponseEntity<CursorPage<TestHistoryResponse>> scrollHistory(
+            Authentication auth,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(testHistoryService.scrollHistory(auth.getName(), cursor, size, includeTotal));
+    }
 }
@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "test_history", indexes = {
         @Index(name = "idx_history_user_id", columnList = "user_id"),
-        @Index(name = "idx_history_executed_at", columnList = "executedAt")
+        @Index(name = "idx_history_executed_at", columnList = "executedAt"),
+        @Index(name = "idx_history_user_executed_at_id", columnList = "user_id, executedAt, id")
 })
 @Getter
 @Setter
@@ -1,6 +1,7 @@
 package com.spring.lica.domain.user.repository;
 
 import com.spring.lica.domain.user.entity.TestHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,10 +9,39 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface TestHistoryRepository extends JpaRepository<TestHistory, Long> {
     Page<TestHistory> findByUserIdOrderByExecutedAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * 키셋 조회 첫 페이지 ({@code executedAt}, {@code id} 내림차순)
+     */
+    @Query("""
+        SELECT h FROM TestHistory h
+        LEFT JOIN FETCH h.catalog
+        WHERE h.user.id = :userId
+        ORDER BY h.executedAt DESC, h.id DESC
+    """)
+    List<TestHistory> scrollByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 커서({@code executedAt}, {@code id}) 다음 행부터
+     */
+    @Query("""
+        SELECT h FROM TestHistory h
+        LEFT JOIN FETCH h.catalog
+        WHERE h.user.id = :userId
+        AND (h.executedAt < :executedAt OR (h.executedAt = :executedAt AND h.id < :id))
+        ORDER BY h.executedAt DESC, h.id DESC
+    """)
+    List<TestHistory> scrollByUserIdAfter(@Param("userId") Long userId,
+                                          @Param("executedAt") LocalDateTime executedAt,
+                                          @Param("id") Long id,
+                                          Limit limit);
+
+    long countByUserId(Long userId);
+
     @Query("SELECT COUNT(h) FROM TestHistory h WHERE h.executedAt >= :since")
     long countSince(@Param("since") LocalDateTime since);
 }
@@ -1,6 +1,9 @@
 package com.spring.lica.domain.user.service;
 
 import com.spring.lica.common.exception.UserNotFoundException;
+import com.spring.lica.common.pagination.CursorPage;
+import com.spring.lica.common.pagination.KeysetCursor;
+import com.spring.lica.domain.catalog.readmodel.CatalogSnapshotStore;
 import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
 import com.spring.lica.domain.user.dto.TestHistoryResponse;
 import com.spring.lica.domain.user.entity.TestHistory;
@@ -9,19 +12,28 @@ import com.spring.lica.domain.user.repository.TestHistoryRepository;
 import com.spring.lica.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TestHistoryService {
 
+    /**
+     * 이력에 저장하는 응답 본문의 최대 길이 (문자 수)
+     */
+    public static final int MAX_RESPONSE_BODY_LENGTH = 10_000;
+
     private final TestHistoryRepository historyRepository;
     private final UserRepository userRepository;
     private final ApiCatalogRepository catalogRepository;
+    private final CatalogSnapshotStore snapshotStore;
 
     @Transactional(readOnly = true)
     public Page<TestHistoryResponse> getHistory(String email, int page, int size) {
@@ -30,6 +42,23 @@ public class TestHistoryService {
                 .map(TestHistoryResponse::from);
     }
 
+    /**
+     * 커서 기반 이력 조회. OFFSET과 매 페이지 COUNT 없이 (executedAt, id) 인덱스로 이어서 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TestHistoryResponse> scrollHistory(String email, String cursor, int size, boolean includeTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        User user = findUser(email);
+        Limit limit = Limit.of(pageSize + 1);
+        List<TestHistory> rows = after == null
+                ? historyRepository.scrollByUserId(user.getId(), limit)
+                : historyRepository.scrollByUserIdAfter(user.getId(), after.at(), after.id(), limit);
+        Long total = includeTotal ? historyRepository.countByUserId(user.getId()) : null;
+        return CursorPage.of(rows, pageSize, h -> new KeysetCursor(h.getExecutedAt(), h.getId()), total)
+                .map(TestHistoryResponse::from);
+    }
+
     @Transactional
     public void saveHistory(String email, String requestUrl, String requestParams,
                             String responseBody, Integer responseStatus, String uddiSeq) {
@@ -37,13 +66,16 @@ public class TestHistoryService {
             var user = userRepository.findByEmail(email).orElse(null);
             if (user == null) return;
 
+            // 카탈로그 id는 스냅샷에서 찾고, 외래 키만 채우는 프록시를 참조한다 (SELECT 없음)
             var catalog = (uddiSeq != null)
-                    ? catalogRepository.findByUddiSeq(uddiSeq).orElse(null)
+                    ? snapshotStore.current().find(uddiSeq)
+                            .map(found -> catalogRepository.getReferenceById(found.getId()))
+                            .orElse(null)
                     : null;
 
             String truncatedBody = responseBody;
-            if (truncatedBody != null && truncatedBody.length() > 10000) {
-                truncatedBody = truncatedBody.substring(0, 10000) + "\n... [truncated]";
+            if (truncatedBody != null && truncatedBody.length() > MAX_RESPONSE_BODY_LENGTH) {
+                truncatedBody = truncatedBody.substring(0, MAX_RESPONSE_BODY_LENGTH) + "\n... [truncated]";
             }
 
             historyRepository.save(TestHistory.builder()
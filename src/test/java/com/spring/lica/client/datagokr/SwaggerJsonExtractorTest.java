@@ -0,0 +1,539 @@
+package com.spring.lica.client.datagokr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.lica.client.datagokr.dto.ApiDetailParseResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SwaggerJsonExtractor}(스트리밍)가 이전의 트리 기반 파서({@link LegacyParser})와 같은 결과를 내는지 비교한다.
+ */
+class SwaggerJsonExtractorTest {
+
+    private static final String PK = "15000001";
+
+    private static final String INFO = """
+            "info": {"title": " 기상청_단기예보 조회서비스 ", "description": "초단기실황, 단기예보"}""";
+
+    private static final String VOS = """
+            "swaggerOprtinVOs": [
+              {
+                "oprtinNm": "초단기실황조회",
+                "oprtinUrl": "http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getUltraSrtNcst",
+                "operationId": "getUltraSrtNcst",
+                "reqList": [
+                  {"paramtrNm": "serviceKey", "paramtrDc": "인증키", "paramtrTy": "100", "paramtrDivision": "필수", "paramtrBassValue": "-"},
+                  {"paramtrNm": "numOfRows", "paramtrDc": "한 페이지 결과 수", "paramtrTy": 4, "paramtrDivision": "옵션", "paramtrBassValue": 10},
+                  {"paramtrNm": "dataType", "paramtrDc": "", "paramtrTy": "4", "paramtrDivision": "옵션", "paramtrBassValue": " JSON ", "extra": {"a": [1, 2]}}
+                ],
+                "resList": [
+                  {"paramtrNm": "resultCode", "paramtrTy": "2", "paramtrDc": "결과코드"},
+                  {"paramtrNm": "items", "paramtrTy": "-", "paramtrDc": "목록"}
+                ]
+              },
+              {
+                "oprtinNm": null,
+                "operationId": "getVilageFcst",
+                "oprtinUrl": "http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getVilageFcst",
+                "reqList": "none",
+                "resList": []
+              }
+            ]""";
+
+    private static final String VO_PATHS = """
+            "paths": {
+              "/getUltraSrtNcst": {
+                "parameters": [{"name": "serviceKey"}],
+                "post": {"operationId": "getUltraSrtNcst", "produces": ["application/json", "application/xml"]}
+              },
+              "/getVilageFcst": {
+                "get": {"operationId": "getVilageFcst", "produces": ["application/xml"], "responses": {"200": {}}}
+              }
+            }""";
+
+    private static final String NESTED_RES_LIST = """
+            "swaggerOprtinVOs": [
+              {
+                "oprtinNm": "목록조회",
+                "oprtinUrl": "http://apis.data.go.kr/B000001/list",
+                "operationId": "list",
+                "resList": [
+                  {"paramtrNm": "header", "paramtrTy": "-", "subParam": [
+                    {"paramtrNm": "resultCode", "paramtrTy": "2"},
+                    {"paramtrNm": "resultMsg", "paramtrTy": "50", "subParam": []}
+                  ]},
+                  {"subParam": [{"paramtrNm": "orphan"}], "paramtrNm": "body", "paramtrDc": "본문", "paramtrTy": "-"},
+                  {"paramtrDc": "이름 없는 항목", "subParam": [{"paramtrNm": "skipped"}]},
+                  {"paramtrNm": "items", "subParam": [
+                    {"paramtrNm": "item", "subParam": [
+                      {"subParam": [{"paramtrNm": "deep", "paramtrTy": "10"}], "paramtrNm": "fcstValue", "paramtrDc": "예보 값"}
+                    ]}
+                  ]},
+                  {"paramtrNm": "  ", "subParam": [{"paramtrNm": "blankParent"}]},
+                  {"paramtrNm": "totalCount", "subParam": "n/a"}
+                ]
+              }
+            ]""";
+
+    private static final String DEFINITIONS = """
+            "definitions": {
+              "Response": {
+                "type": "object",
+                "properties": {
+                  "header": {"$ref": "#/definitions/Header"},
+                  "items": {"type": "array", "items": {"$ref": "#/definitions/Item"}, "description": "목록"},
+                  "totalCount": {"type": "integer"},
+                  "unresolved": {"$ref": "#/definitions/Missing", "description": "없는 모델"}
+                }
+              },
+              "Header": {
+                "type": "object",
+                "properties": {"resultCode": {"type": "string", "description": "결과코드"}}
+              },
+              "Item": {
+                "type": "object",
+                "properties": {
+                  "stationName": {"type": "string", "description": " 측정소 "},
+                  "location": {"type": "object", "properties": {"lat": {"type": "number"}, "lng": {"type": "number"}}}
+                }
+              }
+            }""";
+
+    private static final String FALLBACK_PATHS = """
+            "paths": {
+              "/stations/{id}": {
+                "parameters": [{"name": "id", "in": "path", "required": true, "type": "string", "description": "측정소 ID"}],
+                "get": {
+                  "summary": "측정소 조회",
+                  "operationId": "getStation",
+                  "produces": ["application/json"],
+                  "parameters": [
+                    {"name": "serviceKey", "in": "query", "required": true, "type": "string", "default": "-"},
+                    {"name": "body", "in": "body", "schema": {"type": "object"}, "example": "{}"}
+                  ],
+                  "responses": {"200": {"schema": {"$ref": "#/definitions/Response"}}}
+                },
+                "delete": {
+                  "operationId": "deleteStation",
+                  "responses": {"200": {"schema": {"type": "array", "items": {"$ref": "#/definitions/Item"}}}}
+                }
+              },
+              "/health": {
+                "head": {"produces": ["text/xml"]}
+              }
+            }""";
+
+    static Stream<Arguments> swaggerJsonCases() {
+        return Stream.of(
+                Arguments.of("VOs before paths", json(INFO, VOS, VO_PATHS)),
+                Arguments.of("VOs after paths", json(VO_PATHS, VOS, INFO)),
+                Arguments.of("VOs without paths", json(VOS)),
+                Arguments.of("VOs with fallback fields around", json(
+                        "\"host\": \"apis.data.go.kr\"", DEFINITIONS, VOS, FALLBACK_PATHS, "\"basePath\": \"/B1\"")),
+                Arguments.of("nested subParam", json(INFO, NESTED_RES_LIST, VO_PATHS)),
+                Arguments.of("fallback paths with $ref", json(INFO,
+                        "\"host\": \"apis.data.go.kr\"", "\"basePath\": \"/B552584\"", "\"schemes\": [\"http\"]",
+                        FALLBACK_PATHS, DEFINITIONS)),
+                Arguments.of("fallback definitions before paths", json(DEFINITIONS, FALLBACK_PATHS,
+                        "\"host\": \"apis.data.go.kr\"", INFO)),
+                Arguments.of("fallback without host", json(FALLBACK_PATHS, DEFINITIONS)),
+                Arguments.of("fallback after empty VOs", json(INFO, "\"swaggerOprtinVOs\": []", FALLBACK_PATHS,
+                        DEFINITIONS, "\"schemes\": []")),
+                Arguments.of("VOs not an array", json("\"swaggerOprtinVOs\": {}", FALLBACK_PATHS, DEFINITIONS)),
+                Arguments.of("info only", json(INFO, "\"x-extra\": [1, {\"a\": null}]"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("swaggerJsonCases")
+    void matchesLegacyParser(String name, String swaggerJson) throws Exception {
+        String html = page("var swaggerJson = `" + swaggerJson + "`;");
+
+        ApiDetailParseResult expected = LegacyParser.parse(html, PK);
+        ApiDetailParseResult actual = SwaggerJsonExtractor.parse(html, PK);
+
+        assertThat(expected).isNotNull();
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void parsesVosBeforeAndAfterPathsWithPathMethods() {
+        for (String swaggerJson : List.of(json(INFO, VOS, VO_PATHS), json(VO_PATHS, VOS, INFO))) {
+            ApiDetailParseResult result = SwaggerJsonExtractor.parse(page("var swaggerJson = `" + swaggerJson + "`"), PK);
+
+            assertThat(result.getApiName()).isEqualTo("기상청_단기예보 조회서비스");
+            assertThat(result.getDataFormat()).isEqualTo("XML");
+            assertThat(result.getServiceUrl()).endsWith("/getUltraSrtNcst");
+            assertThat(result.getOperations()).extracting(ApiDetailParseResult.OperationInfo::getHttpMethod)
+                    .containsExactly("POST", "GET");
+            assertThat(result.getOperations().get(0).getRequestParams())
+                    .extracting(ApiDetailParseResult.ParameterInfo::getSampleData)
+                    .containsExactly(null, "10", "JSON");
+        }
+    }
+
+    @Test
+    void flattensNestedSubParam() {
+        ApiDetailParseResult result = SwaggerJsonExtractor.parse(
+                page("var swaggerJson = `" + json(NESTED_RES_LIST) + "`"), PK);
+
+        assertThat(result.getOperations().get(0).getResponseFields())
+                .extracting(ApiDetailParseResult.ParameterInfo::getNameEng)
+                .containsExactly("header", "header.resultCode", "header.resultMsg", "body", "body.orphan",
+                        "items", "items.item", "items.item.fcstValue", "items.item.fcstValue.deep", "totalCount");
+    }
+
+    @Test
+    void resolvesRefsInFallbackPaths() {
+        ApiDetailParseResult result = SwaggerJsonExtractor.parse(page("var swaggerJson = `" + json(
+                "\"host\": \"apis.data.go.kr\"", "\"basePath\": \"/B552584\"", FALLBACK_PATHS, DEFINITIONS) + "`"), PK);
+
+        ApiDetailParseResult.OperationInfo get = result.getOperations().get(0);
+        assertThat(get.getEndpointUrl()).isEqualTo("https://apis.data.go.kr/B552584/stations/{id}");
+        assertThat(get.getRequestParams()).extracting(ApiDetailParseResult.ParameterInfo::getNameEng)
+                .containsExactly("id", "serviceKey", "body");
+        assertThat(get.getResponseFields()).extracting(ApiDetailParseResult.ParameterInfo::getNameEng)
+                .containsExactly("header.resultCode", "items", "items.stationName", "items.location.lat",
+                        "items.location.lng", "totalCount", "unresolved");
+        assertThat(result.getOperations().get(1).getResponseFields())
+                .extracting(ApiDetailParseResult.ParameterInfo::getNameEng)
+                .containsExactly("stationName", "location.lat", "location.lng");
+    }
+
+    @Test
+    void locatesLiteralLikeLegacyPattern() throws Exception {
+        List<String> pages = List.of(
+                page("var swaggerJson = '" + json(INFO, VOS) + "';"),
+                page("var   swaggerJson=`\n  " + json(VOS) + "\n`"),
+                page("var swaggerJsonOld = `{}`; var swaggerJson = `" + json(VOS) + "`"),
+                page("let swaggerJson = `" + json(VOS) + "`; var swaggerJson = `" + json(INFO) + "`"),
+                page("var swaggerJson = `   `"),
+                page("var swaggerJson = `{\"info\": `"),
+                page("var swaggerJson = `{\"info\": {\"title\": \"it's\"}}`"),
+                page("var swaggerJson = `" + json(VOS)),
+                page("<p>no swagger here</p>"));
+        for (String html : pages) {
+            assertThat(SwaggerJsonExtractor.parse(html, PK))
+                    .usingRecursiveComparison()
+                    .isEqualTo(LegacyParser.parse(html, PK));
+        }
+    }
+
+    private static String json(String... fields) {
+        return "{" + String.join(",\n", fields) + "}";
+    }
+
+    private static String page(String script) {
+        return "<html><head><title>상세</title></head><body><div class=\"api-detail\"></div>"
+                + "<script type=\"text/javascript\">\n" + script + "\n</script></body></html>";
+    }
+
+    /**
+     * 스트리밍 파서로 바꾸기 전 {@code DataGoKrClient}의 Swagger JSON 파싱 (정규식 + JSON 트리)
+     */
+    private static final class LegacyParser {
+
+        private static final ObjectMapper objectMapper = new ObjectMapper();
+        private static final Pattern SWAGGER_JSON_PATTERN = Pattern.compile("var\\s+swaggerJson\\s*=\\s*[`']([^`']+)[`']");
+
+        static ApiDetailParseResult parse(String html, String publicDataPk) {
+            Matcher m = SWAGGER_JSON_PATTERN.matcher(html);
+            if (!m.find()) return null;
+
+            String jsonStr = m.group(1).trim();
+            if (jsonStr.isEmpty()) return null;
+
+            try {
+                JsonNode root = objectMapper.readTree(jsonStr);
+                return parseSwaggerSpec(root, publicDataPk);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        private static ApiDetailParseResult parseSwaggerSpec(JsonNode root, String publicDataPk) {
+            var builder = ApiDetailParseResult.builder().publicDataPk(publicDataPk);
+
+            JsonNode info = root.path("info");
+            builder.apiName(textOrNull(info, "title"));
+            builder.description(textOrNull(info, "description"));
+            builder.apiType("REST");
+
+            JsonNode oprtinVOs = root.path("swaggerOprtinVOs");
+            if (oprtinVOs.isArray() && !oprtinVOs.isEmpty()) {
+                parseFromOprtinVOs(root, oprtinVOs, builder);
+                return builder.build();
+            }
+
+            parseFromSwaggerPaths(root, builder);
+            return builder.build();
+        }
+
+        private static void parseFromOprtinVOs(JsonNode root, JsonNode oprtinVOs,
+                                               ApiDetailParseResult.ApiDetailParseResultBuilder builder) {
+            List<ApiDetailParseResult.OperationInfo> operations = new ArrayList<>();
+
+            JsonNode paths = root.path("paths");
+            Map<String, String> operationIdToMethod = new HashMap<>();
+            if (paths.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> pathIter = paths.fields();
+                while (pathIter.hasNext()) {
+                    JsonNode methods = pathIter.next().getValue();
+                    Iterator<Map.Entry<String, JsonNode>> methodIter = methods.fields();
+                    while (methodIter.hasNext()) {
+                        Map.Entry<String, JsonNode> me = methodIter.next();
+                        String key = me.getKey().toUpperCase();
+                        if ("PARAMETERS".equals(key)) continue;
+                        String opId = textOrNull(me.getValue(), "operationId");
+                        if (opId != null) operationIdToMethod.put(opId, key);
+
+                        JsonNode produces = me.getValue().path("produces");
+                        if (produces.isArray()) {
+                            List<String> formats = new ArrayList<>();
+                            for (JsonNode p : produces) {
+                                String v = p.asText();
+                                if (v.contains("json")) formats.add("JSON");
+                                if (v.contains("xml")) formats.add("XML");
+                            }
+                            if (!formats.isEmpty()) builder.dataFormat(String.join("+", formats));
+                        }
+                    }
+                }
+            }
+
+            for (JsonNode vo : oprtinVOs) {
+                String opUrl = textOrNull(vo, "oprtinUrl");
+                String opName = textOrNull(vo, "oprtinNm");
+                String operationId = textOrNull(vo, "operationId");
+                String httpMethod = operationIdToMethod.getOrDefault(operationId, "GET");
+
+                var opBuilder = ApiDetailParseResult.OperationInfo.builder()
+                        .operationName(opName != null ? opName : operationId)
+                        .httpMethod(httpMethod)
+                        .endpointUrl(opUrl);
+
+                List<ApiDetailParseResult.ParameterInfo> reqParams = new ArrayList<>();
+                JsonNode reqList = vo.path("reqList");
+                if (reqList.isArray()) {
+                    for (JsonNode req : reqList) {
+                        String defaultVal = textOrNull(req, "paramtrBassValue");
+                        if ("-".equals(defaultVal)) defaultVal = null;
+
+                        reqParams.add(ApiDetailParseResult.ParameterInfo.builder()
+                                .nameEng(textOrNull(req, "paramtrNm"))
+                                .description(textOrNull(req, "paramtrDc"))
+                                .size(textOrNull(req, "paramtrTy"))
+                                .division(textOrNull(req, "paramtrDivision"))
+                                .sampleData(defaultVal)
+                                .build());
+                    }
+                }
+                opBuilder.requestParams(reqParams);
+
+                List<ApiDetailParseResult.ParameterInfo> resFields = new ArrayList<>();
+                JsonNode resList = vo.path("resList");
+                if (resList.isArray()) {
+                    flattenResListFields(resList, resFields, "");
+                }
+                opBuilder.responseFields(resFields);
+
+                operations.add(opBuilder.build());
+            }
+
+            if (!operations.isEmpty() && operations.get(0).getEndpointUrl() != null) {
+                builder.serviceUrl(operations.get(0).getEndpointUrl());
+            }
+
+            builder.operations(operations);
+        }
+
+        private static void flattenResListFields(JsonNode resList, List<ApiDetailParseResult.ParameterInfo> fields,
+                                                 String prefix) {
+            for (JsonNode res : resList) {
+                String name = textOrNull(res, "paramtrNm");
+                if (name == null) continue;
+                String fullName = prefix.isEmpty() ? name : prefix + "." + name;
+                String type = textOrNull(res, "paramtrTy");
+                String desc = textOrNull(res, "paramtrDc");
+
+                fields.add(ApiDetailParseResult.ParameterInfo.builder()
+                        .nameEng(fullName)
+                        .description(desc)
+                        .size(type)
+                        .build());
+
+                JsonNode subParam = res.path("subParam");
+                if (subParam.isArray() && !subParam.isEmpty()) {
+                    flattenResListFields(subParam, fields, fullName);
+                }
+            }
+        }
+
+        private static void parseFromSwaggerPaths(JsonNode root,
+                                                  ApiDetailParseResult.ApiDetailParseResultBuilder builder) {
+            String host = textOrNull(root, "host");
+            String basePath = textOrNull(root, "basePath");
+            String scheme = "https";
+            JsonNode schemes = root.path("schemes");
+            if (schemes.isArray() && !schemes.isEmpty()) {
+                scheme = schemes.get(0).asText("https");
+            }
+            String baseUrl = (host != null) ? scheme + "://" + host + (basePath != null ? basePath : "") : null;
+            builder.serviceUrl(baseUrl);
+
+            JsonNode definitions = root.path("definitions");
+
+            List<ApiDetailParseResult.OperationInfo> operations = new ArrayList<>();
+            JsonNode paths = root.path("paths");
+            if (paths.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> pathIter = paths.fields();
+                while (pathIter.hasNext()) {
+                    Map.Entry<String, JsonNode> pathEntry = pathIter.next();
+                    String pathUrl = pathEntry.getKey();
+                    JsonNode pathNode = pathEntry.getValue();
+
+                    List<JsonNode> pathLevelParams = new ArrayList<>();
+                    JsonNode pathParams = pathNode.path("parameters");
+                    if (pathParams.isArray()) {
+                        for (JsonNode pp : pathParams) pathLevelParams.add(pp);
+                    }
+
+                    Iterator<Map.Entry<String, JsonNode>> methodIter = pathNode.fields();
+                    while (methodIter.hasNext()) {
+                        Map.Entry<String, JsonNode> methodEntry = methodIter.next();
+                        String httpMethod = methodEntry.getKey().toUpperCase();
+                        if ("PARAMETERS".equals(httpMethod)) continue;
+                        JsonNode opNode = methodEntry.getValue();
+
+                        String endpointUrl = baseUrl != null ? baseUrl + pathUrl : pathUrl;
+                        String summary = textOrNull(opNode, "summary");
+                        String operationId = textOrNull(opNode, "operationId");
+
+                        var opBuilder = ApiDetailParseResult.OperationInfo.builder()
+                                .operationName(summary != null ? summary : (operationId != null ? operationId : pathUrl))
+                                .httpMethod(httpMethod)
+                                .endpointUrl(endpointUrl);
+
+                        List<ApiDetailParseResult.ParameterInfo> reqParams = new ArrayList<>();
+                        List<JsonNode> allParams = new ArrayList<>(pathLevelParams);
+                        JsonNode opParams = opNode.path("parameters");
+                        if (opParams.isArray()) {
+                            for (JsonNode op : opParams) allParams.add(op);
+                        }
+
+                        for (JsonNode p : allParams) {
+                            String paramType = textOrNull(p, "type");
+                            if (paramType == null && p.has("schema")) {
+                                paramType = textOrNull(p.path("schema"), "type");
+                            }
+                            String sampleData = textOrNull(p, "example");
+                            if (sampleData == null) sampleData = textOrNull(p, "default");
+
+                            reqParams.add(ApiDetailParseResult.ParameterInfo.builder()
+                                    .nameEng(textOrNull(p, "name"))
+                                    .description(textOrNull(p, "description"))
+                                    .size(paramType)
+                                    .division(p.path("required").asBoolean(false) ? "필수" : "옵션")
+                                    .sampleData(sampleData)
+                                    .build());
+                        }
+                        opBuilder.requestParams(reqParams);
+
+                        List<ApiDetailParseResult.ParameterInfo> resFields = new ArrayList<>();
+                        JsonNode resp200 = opNode.path("responses").path("200").path("schema");
+                        if (!resp200.isMissingNode()) {
+                            JsonNode resolved = resolveRef(resp200, definitions);
+                            extractResponseFields(resolved, resFields, "", definitions);
+                        }
+                        opBuilder.responseFields(resFields);
+
+                        operations.add(opBuilder.build());
+
+                        JsonNode produces = opNode.path("produces");
+                        if (produces.isArray()) {
+                            List<String> formats = new ArrayList<>();
+                            for (JsonNode p : produces) {
+                                String v = p.asText();
+                                if (v.contains("json")) formats.add("JSON");
+                                if (v.contains("xml")) formats.add("XML");
+                            }
+                            if (!formats.isEmpty()) builder.dataFormat(String.join("+", formats));
+                        }
+                    }
+                }
+            }
+
+            builder.operations(operations);
+        }
+
+        private static JsonNode resolveRef(JsonNode node, JsonNode definitions) {
+            if (node.has("$ref")) {
+                String ref = node.get("$ref").asText();
+                if (ref.startsWith("#/definitions/") && definitions.isObject()) {
+                    String modelName = ref.substring("#/definitions/".length());
+                    JsonNode resolved = definitions.path(modelName);
+                    if (!resolved.isMissingNode()) return resolved;
+                }
+            }
+            return node;
+        }
+
+        private static void extractResponseFields(JsonNode schema, List<ApiDetailParseResult.ParameterInfo> fields,
+                                                  String prefix, JsonNode definitions) {
+            JsonNode resolved = resolveRef(schema, definitions);
+
+            String type = textOrNull(resolved, "type");
+            if ("array".equals(type) && resolved.has("items")) {
+                JsonNode items = resolveRef(resolved.path("items"), definitions);
+                extractResponseFields(items, fields, prefix, definitions);
+                return;
+            }
+
+            JsonNode properties = resolved.path("properties");
+            if (!properties.isObject()) return;
+
+            Iterator<Map.Entry<String, JsonNode>> iter = properties.fields();
+            while (iter.hasNext()) {
+                Map.Entry<String, JsonNode> entry = iter.next();
+                String fieldName = entry.getKey();
+                JsonNode fieldNode = resolveRef(entry.getValue(), definitions);
+                String fieldType = textOrNull(fieldNode, "type");
+                String desc = textOrNull(fieldNode, "description");
+                String fullName = prefix.isEmpty() ? fieldName : prefix + "." + fieldName;
+
+                if ("object".equals(fieldType) && fieldNode.has("properties")) {
+                    extractResponseFields(fieldNode, fields, fullName, definitions);
+                } else if ("array".equals(fieldType) && fieldNode.has("items")) {
+                    JsonNode items = resolveRef(fieldNode.path("items"), definitions);
+                    fields.add(ApiDetailParseResult.ParameterInfo.builder()
+                            .nameEng(fullName).description(desc).size("array").build());
+                    extractResponseFields(items, fields, fullName, definitions);
+                } else {
+                    fields.add(ApiDetailParseResult.ParameterInfo.builder()
+                            .nameEng(fullName).description(desc).size(fieldType).build());
+                }
+            }
+        }
+
+        private static String textOrNull(JsonNode node, String field) {
+            JsonNode child = node.path(field);
+            if (child.isMissingNode() || child.isNull()) return null;
+            String text = child.asText().trim();
+            return text.isEmpty() ? null : text;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.spring.lica.client.datagokr.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.SECONDS.toNanos(1);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(5);
+
+    @Test
+    void clampsInitialLimitToBounds() {
+        assertThat(new AimdLimiter(100, 2, 10, THRESHOLD, 0.5).getLimit()).isEqualTo(10);
+        assertThat(new AimdLimiter(0, 2, 10, THRESHOLD, 0.5).getLimit()).isEqualTo(2);
+        assertThat(new AimdLimiter(5, 0, 0, THRESHOLD, 0.5).getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWithoutWaitingWhenFull() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, THRESHOLD, 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.onIgnore();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void increasesByOneOnlyWhenUtilized() {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 10, THRESHOLD, 0.5);
+
+        // 한도 4 중 1건만 사용 중: 늘리지 않는다
+        limiter.tryAcquire();
+        limiter.onSuccess(FAST);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        // 절반 이상 사용 중: 1 증가
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.onSuccess(FAST);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        limiter.onSuccess(FAST);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void increaseStopsAtMaxLimit() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 3, THRESHOLD, 0.5);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.onSuccess(FAST);
+            limiter.onSuccess(FAST);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void decreasesMultiplicativelyDownToMinLimit() {
+        AimdLimiter limiter = new AimdLimiter(8, 2, 10, THRESHOLD, 0.5);
+
+        limiter.tryAcquire();
+        limiter.onFailure();
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.onSuccess(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.onFailure();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void acquireWaitsForReleasedPermit() throws Exception {
+        AimdLimiter limiter = new AimdLimiter(1, 1, 1, THRESHOLD, 0.5);
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertThat(waiting).isNotDone();
+
+        limiter.onSuccess(FAST);
+        waiting.get(5, TimeUnit.SECONDS);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.spring.lica.client.datagokr.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    @Test
+    void staysClosedUntilMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 5, 50, NEVER);
+
+        for (int i = 0; i < 4; i++) breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void opensAtFailureRateThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 5, 50, NEVER);
+        for (int i = 0; i < 5; i++) breaker.onSuccess();
+
+        for (int i = 0; i < 4; i++) breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void slidingWindowForgetsOldResults() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 75, NEVER);
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        // 앞의 실패 두 건이 윈도우에서 밀려난다
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpenProbeSuccessCloses() {
+        CircuitBreaker breaker = openBreaker(0);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).as("only one probe at a time").isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        // 닫히면 윈도우가 비워지므로 최소 호출 수 전에는 다시 열리지 않는다
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenProbeFailureReopens() {
+        CircuitBreaker breaker = openBreaker(0);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void ignoredProbeLetsNextCallProbe() {
+        CircuitBreaker breaker = openBreaker(0);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onIgnore();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void rejectsUntilOpenDurationElapses() {
+        CircuitBreaker breaker = openBreaker(NEVER);
+
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private static CircuitBreaker openBreaker(long openDurationNanos) {
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 50, openDurationNanos);
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+}
@@ -0,0 +1,108 @@
+package com.spring.lica.client.datagokr.resilience;
+
+import com.spring.lica.client.datagokr.DataGoKrProperties;
+import com.spring.lica.client.datagokr.PortalUnavailableException;
+import org.jsoup.HttpStatusException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PortalGuardTest {
+
+    private PortalGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        DataGoKrProperties properties = new DataGoKrProperties();
+        properties.getResilience().setMinimumCalls(3);
+        properties.getResilience().setWindowSize(10);
+        properties.getResilience().setFailureRateThreshold(50);
+        guard = new PortalGuard(properties);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> guard.call(PortalEndpoint.DETAIL, () -> {
+                throw new IllegalStateException(new HttpStatusException("Not Found", 404, "https://www.data.go.kr"));
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(stat("DETAIL").circuit()).isEqualTo("CLOSED");
+        assertThat(stat("DETAIL").inFlight()).isZero();
+    }
+
+    @Test
+    void serverErrorsOpenCircuitAndRejectFurtherCalls() {
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.call(PortalEndpoint.SEARCH, () -> {
+                throw new IllegalStateException(new HttpStatusException("Bad Gateway", 502, "https://www.data.go.kr"));
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(stat("SEARCH").circuit()).isEqualTo("OPEN");
+        assertThatThrownBy(() -> guard.call(PortalEndpoint.SEARCH, () -> "ok"))
+                .isInstanceOf(PortalUnavailableException.class);
+        assertThat(stat("SEARCH").rejected()).isEqualTo(1);
+        // 다른 분류는 영향을 받지 않는다
+        assertThat(guard.call(PortalEndpoint.DETAIL, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void webClient4xxIsNotAFailureButTimeoutIs() {
+        WebClientResponseException notFound = WebClientResponseException.create(
+                HttpStatusCode.valueOf(404), "Not Found", HttpHeaders.EMPTY, new byte[0], null, null);
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> guard.mono(PortalEndpoint.AJAX, () -> Mono.error(notFound)).block())
+                    .isSameAs(notFound);
+        }
+        assertThat(stat("AJAX").circuit()).isEqualTo("CLOSED");
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> guard.mono(PortalEndpoint.AJAX,
+                    () -> Mono.error(new TimeoutException("slow"))).block())
+                    .hasCauseInstanceOf(TimeoutException.class);
+        }
+        assertThat(stat("AJAX").circuit()).isEqualTo("OPEN");
+    }
+
+    @Test
+    void proxyHostsHaveSeparateCircuits() {
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.proxy("flaky.example.go.kr",
+                    () -> Mono.error(new IllegalStateException("connection reset"))).block())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThatThrownBy(() -> guard.proxy("FLAKY.example.go.kr", () -> Mono.just("ok")).block())
+                .isInstanceOf(PortalUnavailableException.class);
+        assertThat(guard.proxy("apis.data.go.kr", () -> Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(stat("PROXY flaky.example.go.kr").circuit()).isEqualTo("OPEN");
+        assertThat(stat("PROXY apis.data.go.kr").circuit()).isEqualTo("CLOSED");
+        // 호스트별 거절 수는 공용 PROXY 메트릭에 합산된다
+        assertThat(stat("PROXY").rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelledMonoReturnsPermit() {
+        guard.mono(PortalEndpoint.SEARCH, Mono::never).subscribe().dispose();
+
+        assertThat(stat("SEARCH").inFlight()).isZero();
+        assertThat(stat("SEARCH").circuit()).isEqualTo("CLOSED");
+    }
+
+    private PortalGuard.EndpointStat stat(String endpoint) {
+        return guard.snapshot().stream()
+                .filter(stat -> stat.endpoint().equals(endpoint))
+                .findFirst()
+                .orElseThrow();
+    }
+}
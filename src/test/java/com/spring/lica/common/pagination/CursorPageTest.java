@@ -0,0 +1,54 @@
+package com.spring.lica.common.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPageTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    void clampsSizeToMaxSize() {
+        assertThat(CursorPage.clampSize(-5)).isEqualTo(1);
+        assertThat(CursorPage.clampSize(0)).isEqualTo(1);
+        assertThat(CursorPage.clampSize(20)).isEqualTo(20);
+        assertThat(CursorPage.clampSize(CursorPage.MAX_SIZE)).isEqualTo(CursorPage.MAX_SIZE);
+        assertThat(CursorPage.clampSize(CursorPage.MAX_SIZE + 1)).isEqualTo(CursorPage.MAX_SIZE);
+        assertThat(CursorPage.clampSize(Integer.MAX_VALUE)).isEqualTo(CursorPage.MAX_SIZE);
+    }
+
+    @Test
+    void extraRowProducesCursorOfLastReturnedRow() {
+        CursorPage<Long> page = CursorPage.of(List.of(5L, 4L, 3L), 2, id -> new KeysetCursor(AT, id), 7L);
+
+        assertThat(page.content()).containsExactly(5L, 4L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(AT, 4L));
+        assertThat(page.totalCount()).isEqualTo(7L);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPage<Long> page = CursorPage.of(List.of(2L, 1L), 2, id -> new KeysetCursor(AT, id), null);
+
+        assertThat(page.content()).containsExactly(2L, 1L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.totalCount()).isNull();
+    }
+
+    @Test
+    void mapKeepsCursor() {
+        CursorPage<Long> page = CursorPage.of(List.of(5L, 4L, 3L), 2, id -> new KeysetCursor(AT, id), null);
+
+        CursorPage<String> mapped = page.map(String::valueOf);
+
+        assertThat(mapped.content()).containsExactly("5", "4");
+        assertThat(mapped.nextCursor()).isEqualTo(page.nextCursor());
+        assertThat(mapped.hasNext()).isTrue();
+    }
+}
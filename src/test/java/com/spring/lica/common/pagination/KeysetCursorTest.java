@@ -0,0 +1,73 @@
+package com.spring.lica.common.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsThroughOpaqueToken() {
+        List<KeysetCursor> cursors = List.of(
+                new KeysetCursor(LocalDateTime.of(2026, 1, 1, 0, 0), 1),
+                new KeysetCursor(LocalDateTime.of(2026, 3, 1, 12, 34, 56, 123_456_789), Long.MAX_VALUE));
+
+        for (KeysetCursor cursor : cursors) {
+            String token = cursor.encode();
+            assertThat(token).matches("[A-Za-z0-9_-]+");
+            assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+        }
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThat(KeysetCursor.decode("  ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "v2|2026-01-01T00:00|5",
+            "v1|2026-01-01T00:00",
+            "v1|2026-01-01T00:00|5|6",
+            "v1|yesterday|5",
+            "v1|2026-01-01T00:00|abc",
+            "v1||5"
+    })
+    void rejectsTamperedPayload(String raw) {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%%%", "not a cursor", "djE=x"})
+    void rejectsMalformedToken(String token) {
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다");
+    }
+
+    @Test
+    void precedesOrdersByTimeThenIdDescending() {
+        LocalDateTime at = LocalDateTime.of(2026, 1, 1, 0, 0);
+        KeysetCursor cursor = new KeysetCursor(at, 10);
+
+        assertThat(cursor.precedes(at.minusNanos(1), 99)).isTrue();
+        assertThat(cursor.precedes(at, 9)).isTrue();
+        assertThat(cursor.precedes(at, 10)).isFalse();
+        assertThat(cursor.precedes(at, 11)).isFalse();
+        assertThat(cursor.precedes(at.plusNanos(1), 1)).isFalse();
+    }
+}
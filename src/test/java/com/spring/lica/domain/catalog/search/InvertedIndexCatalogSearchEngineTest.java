@@ -0,0 +1,235 @@
+package com.spring.lica.domain.catalog.search;
+
+import com.spring.lica.common.pagination.CursorPage;
+import com.spring.lica.common.pagination.KeysetCursor;
+import com.spring.lica.domain.catalog.dto.CatalogResponse;
+import com.spring.lica.domain.catalog.dto.CatalogSearchPage;
+import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
+import com.spring.lica.domain.catalog.entity.ApiCatalog;
+import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
+import com.spring.lica.domain.catalog.service.CatalogProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link InvertedIndexCatalogSearchEngine}이 같은 H2 데이터에서 {@link JpaCatalogSearchEngine}(DB {@code LIKE})과
+ * 같은 결과·건수·분류별 건수를 내는지, 그리고 변경 이벤트로 색인이 갱신되는지 확인한다.
+ */
+@DataJpaTest
+class InvertedIndexCatalogSearchEngineTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private ApiCatalogRepository catalogRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private JpaCatalogSearchEngine jpaEngine;
+    private InvertedIndexCatalogSearchEngine indexEngine;
+
+    @BeforeEach
+    void setUp() {
+        save("u1", "기상청_단기예보 조회서비스", "초단기실황, 단기예보", "기상청", "날씨", "REST", 5);
+        save("u2", "기상청_중기예보 조회서비스", "중기 기온 예보", "기상청", "날씨", "REST", 4);
+        save("u3", "에어코리아 대기오염정보", "측정소별 실시간 측정정보", "한국환경공단", "환경", "REST", 4);
+        save("u4", "버스도착정보", "정류소별 도착 예정 정보", "서울특별시", "교통", "REST", 3);
+        save("u5", "지하철 실시간 도착 Open API", "기상 상황에 따른 운행 정보", "서울특별시", "교통", "REST", 3);
+        save("u6", "기상 상청 비교", null, null, null, "REST", 2);
+        save("u7", "기상청 SOAP 서비스", "단기예보", "기상청", "날씨", "SOAP", 6);
+        save("u8", "Weather API", "Daily FORECAST", "KMA", "날씨", "REST", 1);
+
+        jpaEngine = new JpaCatalogSearchEngine(catalogRepository);
+        indexEngine = new InvertedIndexCatalogSearchEngine(new CatalogProperties(), jpaEngine,
+                jdbcTemplate, namedParameterJdbcTemplate);
+        indexEngine.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexEngine.shutdown();
+    }
+
+    @ParameterizedTest
+    @CsvSource(nullValues = "-", value = {
+            "-, -, -",
+            "기상, -, -",
+            "기상청, -, -",
+            "청, -, -",
+            "예보, -, -",
+            "기상 예보, -, -",
+            "API, -, -",
+            "forecast, -, -",
+            "없는검색어, -, -",
+            "정보, -, 서울특별시",
+            "-, 날씨, -",
+            "예보, 환경, -",
+            "도착, 교통, 서울특별시",
+            "-, 없는분류, -"
+    })
+    void searchMatchesJpaEngine(String keyword, String category, String org) {
+        CatalogSearchRequest request = request(keyword, category, org, 100);
+
+        CatalogSearchPage expected = jpaEngine.search(request);
+        CatalogSearchPage actual = indexEngine.search(request);
+
+        assertThat(uddiSeqs(actual.getContent())).containsExactlyInAnyOrderElementsOf(uddiSeqs(expected.getContent()));
+        assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+        assertThat(actual.getFacets()).isEqualTo(expected.getFacets());
+    }
+
+    @ParameterizedTest
+    @CsvSource(nullValues = "-", value = {
+            "-, -, -",
+            "기상, -, -",
+            "정보, -, -",
+            "-, 교통, 서울특별시"
+    })
+    void scrollMatchesJpaEngineAcrossPages(String keyword, String category, String org) {
+        CatalogSearchRequest request = request(keyword, category, org, 2);
+
+        assertThat(scrollAll(indexEngine, request)).isEqualTo(scrollAll(jpaEngine, request));
+        assertThat(indexEngine.scroll(request, null, true).totalCount())
+                .isEqualTo(jpaEngine.scroll(request, null, true).totalCount());
+    }
+
+    @Test
+    void scrollBreaksUpdatedAtTiesById() {
+        // u2/u3, u4/u5의 수정 시각이 같고 페이지 크기 2로 나누면 각각 페이지 경계에 걸친다
+        assertThat(scrollAll(indexEngine, request(null, null, null, 2)))
+                .containsExactly("u1", "u3", "u2", "u5", "u4", "u6", "u8");
+    }
+
+    @Test
+    void matchesWholeTermNotScatteredBigrams() {
+        // u6은 bigram "기상", "상청"을 모두 갖지만 "기상청"을 포함하지 않는다
+        assertThat(uddiSeqs(indexEngine.search(request("기상청", null, null, 100)).getContent()))
+                .containsExactlyInAnyOrder("u1", "u2");
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        assertThat(uddiSeqs(indexEngine.search(request("청", null, null, 100)).getContent()))
+                .containsExactlyInAnyOrder("u1", "u2", "u6");
+    }
+
+    @Test
+    void ranksNameMatchesAboveDescriptionMatches() {
+        assertThat(uddiSeqs(indexEngine.search(request("기상", null, null, 100)).getContent()))
+                .containsExactly("u6", "u1", "u2", "u5");
+    }
+
+    @Test
+    void reloadsOnlyChangedRowsOnCatalogChangedEvent() {
+        save("u9", "해양기상 관측 정보", "파고, 수온", "기상청", "날씨", "REST", 7);
+        assertThat(uddiSeqs(indexEngine.search(request("해양", null, null, 100)).getContent())).isEmpty();
+
+        indexEngine.onCatalogChanged(CatalogChangedEvent.of("u9"));
+        assertThat(uddiSeqs(indexEngine.search(request("해양", null, null, 100)).getContent())).containsExactly("u9");
+
+        jdbcTemplate.update("UPDATE api_catalog SET api_name = ?, category = ? WHERE uddi_seq = ?",
+                "지진 정보", "재난", "u9");
+        indexEngine.onCatalogChanged(CatalogChangedEvent.of("u9"));
+        assertThat(uddiSeqs(indexEngine.search(request("해양", null, null, 100)).getContent())).isEmpty();
+        assertThat(uddiSeqs(indexEngine.search(request("지진", null, null, 100)).getContent())).containsExactly("u9");
+        assertParity(request(null, null, null, 100));
+
+        jdbcTemplate.update("UPDATE api_catalog SET service_type = 'SOAP' WHERE uddi_seq = ?", "u1");
+        jdbcTemplate.update("DELETE FROM api_catalog WHERE uddi_seq = ?", "u3");
+        indexEngine.onCatalogChanged(new CatalogChangedEvent(List.of("u1", "u3")));
+        assertThat(uddiSeqs(indexEngine.search(request(null, null, null, 100)).getContent()))
+                .doesNotContain("u1", "u3");
+        assertParity(request(null, null, null, 100));
+        assertParity(request("정보", null, null, 100));
+    }
+
+    @Test
+    void keepsResultsAfterCompaction() {
+        // 같은 행을 계속 다시 반영하면 지워진 문서 번호가 쌓여 압축 임계치(1000건, 살아 있는 수 초과)를 넘는다
+        for (int i = 0; i < 1200; i++) {
+            indexEngine.onCatalogChanged(CatalogChangedEvent.of("u" + (i % 8 + 1)));
+        }
+
+        assertThat(uddiSeqs(indexEngine.search(request("기상청", null, null, 100)).getContent()))
+                .containsExactlyInAnyOrder("u1", "u2");
+        assertParity(request(null, null, null, 100));
+        assertParity(request("예보", "날씨", null, 100));
+        assertThat(scrollAll(indexEngine, request(null, null, null, 3)))
+                .isEqualTo(scrollAll(jpaEngine, request(null, null, null, 3)));
+    }
+
+    private void assertParity(CatalogSearchRequest request) {
+        CatalogSearchPage expected = jpaEngine.search(request);
+        CatalogSearchPage actual = indexEngine.search(request);
+        assertThat(uddiSeqs(actual.getContent())).containsExactlyInAnyOrderElementsOf(uddiSeqs(expected.getContent()));
+        assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+        assertThat(actual.getFacets()).isEqualTo(expected.getFacets());
+    }
+
+    /**
+     * 다음 커서를 따라 끝까지 읽은 순서
+     */
+    private static List<String> scrollAll(CatalogSearchEngine engine, CatalogSearchRequest request) {
+        List<String> seen = new ArrayList<>();
+        KeysetCursor after = null;
+        for (int pages = 0; pages < 100; pages++) {
+            CursorPage<CatalogResponse> page = engine.scroll(request, after, true);
+            seen.addAll(uddiSeqs(page.content()));
+            if (!page.hasNext()) return seen;
+            after = KeysetCursor.decode(page.nextCursor());
+        }
+        throw new AssertionError("scroll did not terminate");
+    }
+
+    private void save(String uddiSeq, String name, String description, String org, String category,
+                      String serviceType, int hoursAfterBase) {
+        entityManager.persist(ApiCatalog.builder()
+                .uddiSeq(uddiSeq)
+                .apiName(name)
+                .description(description)
+                .providerOrg(org)
+                .category(category)
+                .serviceType(serviceType)
+                .build());
+        entityManager.flush();
+        // @PrePersist가 현재 시각을 넣으므로 정렬 검증용 수정 시각은 직접 덮어쓴다
+        jdbcTemplate.update("UPDATE api_catalog SET updated_at = ? WHERE uddi_seq = ?",
+                Timestamp.valueOf(BASE.plusHours(hoursAfterBase)), uddiSeq);
+        entityManager.clear();
+    }
+
+    private static CatalogSearchRequest request(String keyword, String category, String org, int size) {
+        CatalogSearchRequest request = new CatalogSearchRequest();
+        request.setKeyword(keyword);
+        request.setCategory(category);
+        request.setOrg(org);
+        request.setSize(size);
+        return request;
+    }
+
+    private static List<String> uddiSeqs(List<CatalogResponse> content) {
+        return content.stream().map(CatalogResponse::getUddiSeq).toList();
+    }
+}
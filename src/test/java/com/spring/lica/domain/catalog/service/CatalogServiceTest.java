@@ -0,0 +1,283 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.lica.client.datagokr.DataGoKrClient;
+import com.spring.lica.client.datagokr.dto.PortalApiResponse;
+import com.spring.lica.common.pagination.CursorPage;
+import com.spring.lica.common.pagination.KeysetCursor;
+import com.spring.lica.domain.catalog.dto.CatalogFacets;
+import com.spring.lica.domain.catalog.dto.CatalogResponse;
+import com.spring.lica.domain.catalog.dto.CatalogSearchPage;
+import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
+import com.spring.lica.domain.catalog.dto.CatalogSearchResult;
+import com.spring.lica.domain.catalog.readmodel.CatalogSnapshot;
+import com.spring.lica.domain.catalog.readmodel.CatalogSnapshotStore;
+import com.spring.lica.domain.catalog.search.CatalogSearchEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CatalogServiceTest {
+
+    private final List<PortalApiResponse.ApiItem> portalItems = List.of(portalItem("p1"), portalItem("p2"));
+
+    private DataGoKrClient dataGoKrClient;
+    private CatalogSyncWriter catalogSyncWriter;
+    private CatalogSearchEngine searchEngine;
+    private CatalogSnapshot snapshot;
+    private CatalogProperties properties;
+    private CatalogService catalogService;
+    private PortalSearchCache portalSearchCache;
+
+    private volatile long portalDelayMs;
+
+    @BeforeEach
+    void setUp() {
+        dataGoKrClient = mock(DataGoKrClient.class);
+        when(dataGoKrClient.searchRestApis(anyInt(), anyInt(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(portalDelayMs);
+            return portalResponse(portalItems);
+        });
+        catalogSyncWriter = mock(CatalogSyncWriter.class);
+        when(catalogSyncWriter.writePage(any())).thenReturn(new CatalogSyncWriter.PageWriteResult(2, 0, 0));
+        searchEngine = mock(CatalogSearchEngine.class);
+        when(searchEngine.scroll(any(), any(), anyBoolean())).thenReturn(new CursorPage<>(List.of(), null, false, null));
+        when(searchEngine.search(any())).thenReturn(localPage(1));
+        snapshot = mock(CatalogSnapshot.class);
+        when(snapshot.restCount()).thenReturn(100);
+        CatalogSnapshotStore snapshotStore = mock(CatalogSnapshotStore.class);
+        when(snapshotStore.current()).thenReturn(snapshot);
+
+        properties = new CatalogProperties();
+        // 포털 호출 시간만 보도록 결과 캐시는 끈다
+        properties.setPortalCacheEnabled(false);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<StringRedisTemplate> noRedis = mock(ObjectProvider.class);
+        portalSearchCache = new PortalSearchCache(properties, new ObjectMapper(), noRedis);
+        catalogService = new CatalogService(dataGoKrClient, portalSearchCache, catalogSyncWriter, properties,
+                searchEngine, null, snapshotStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogService.shutdown();
+        portalSearchCache.shutdown();
+    }
+
+    @Test
+    void scrollClampsSizeAndDecodesCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 1, 1, 0, 0), 42);
+        CatalogSearchRequest request = new CatalogSearchRequest();
+        request.setSize(10_000);
+
+        catalogService.scrollLocal(request, cursor.encode(), true);
+
+        ArgumentCaptor<CatalogSearchRequest> captor = ArgumentCaptor.forClass(CatalogSearchRequest.class);
+        verify(searchEngine).scroll(captor.capture(), eq(cursor), eq(true));
+        assertThat(captor.getValue().getSize()).isEqualTo(CursorPage.MAX_SIZE);
+    }
+
+    @Test
+    void scrollWithoutCursorStartsFromFirstPage() {
+        CatalogSearchRequest request = new CatalogSearchRequest();
+        request.setSize(0);
+
+        catalogService.scrollLocal(request, null, false);
+
+        verify(searchEngine).scroll(request, null, false);
+        assertThat(request.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void scrollRejectsMalformedCursorBeforeSearching() {
+        assertThatThrownBy(() -> catalogService.scrollLocal(new CatalogSearchRequest(), "bm90LWEtY3Vyc29y", false))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(searchEngine);
+    }
+
+    @Test
+    void returnsPortalResultWithinBudget() {
+        properties.setSearchHedgeBudget(1_000);
+        portalDelayMs = 0;
+
+        CatalogSearchResult result = catalogService.searchFromPortal(request("기상"));
+
+        assertThat(result.source()).isEqualTo(CatalogSearchResult.Source.PORTAL);
+        assertThat(result.page().getContent()).extracting(CatalogResponse::getUddiSeq).containsExactly("p1", "p2");
+        verify(searchEngine, never()).search(any());
+    }
+
+    @Test
+    void hedgesToLocalAndUpsertsLatePortalResults() {
+        properties.setSearchHedgeBudget(100);
+        portalDelayMs = 600;
+
+        long start = System.nanoTime();
+        CatalogSearchResult result = catalogService.searchFromPortal(request("기상"));
+
+        assertThat(elapsedMs(start)).isLessThan(500);
+        assertThat(result.source()).isEqualTo(CatalogSearchResult.Source.LOCAL_HEDGED);
+        assertThat(result.page().getContent()).extracting(CatalogResponse::getUddiSeq).containsExactly("local-0");
+        verify(catalogSyncWriter, timeout(3_000)).writePage(portalItems);
+    }
+
+    @Test
+    void clampsObservedBudgetToMinBudget() throws Exception {
+        properties.setSearchHedgeMinBudget(300);
+        properties.setSearchHedgeMaxBudget(3_000);
+        recordPortalSamples(0);
+        portalDelayMs = 2_500;
+
+        long start = System.nanoTime();
+        CatalogSearchResult result = catalogService.searchFromPortal(request("기상"));
+
+        // 관측된 포털 응답 시간(약 0ms)이 아니라 하한 300ms까지 기다린다
+        assertThat(elapsedMs(start)).isBetween(250L, 1_500L);
+        assertThat(result.source()).isEqualTo(CatalogSearchResult.Source.LOCAL_HEDGED);
+    }
+
+    @Test
+    void clampsObservedBudgetToMaxBudget() throws Exception {
+        properties.setSearchHedgeMinBudget(50);
+        properties.setSearchHedgeMaxBudget(300);
+        recordPortalSamples(1_200);
+        portalDelayMs = 3_000;
+
+        long start = System.nanoTime();
+        CatalogSearchResult result = catalogService.searchFromPortal(request("기상"));
+
+        // 관측된 포털 응답 시간(약 1200ms)이 아니라 상한 300ms 뒤에 로컬 결과를 돌려준다
+        assertThat(elapsedMs(start)).isBetween(250L, 1_000L);
+        assertThat(result.source()).isEqualTo(CatalogSearchResult.Source.LOCAL_HEDGED);
+    }
+
+    @Test
+    void waitsForPortalWhenLocalCatalogIsEmpty() {
+        when(snapshot.restCount()).thenReturn(0);
+        properties.setSearchHedgeBudget(100);
+        properties.setSearchHedgeMaxBudget(3_000);
+        portalDelayMs = 500;
+
+        long start = System.nanoTime();
+        CatalogSearchResult result = catalogService.searchFromPortal(request("기상"));
+
+        assertThat(elapsedMs(start)).isGreaterThanOrEqualTo(450);
+        assertThat(result.source()).isEqualTo(CatalogSearchResult.Source.PORTAL);
+        verify(searchEngine, never()).search(any());
+    }
+
+    @Test
+    void waitsForPortalWhenLocalResultIsEmpty() {
+        when(searchEngine.search(any())).thenReturn(localPage(0));
+        properties.setSearchHedgeBudget(100);
+        properties.setSearchHedgeMaxBudget(3_000);
+        portalDelayMs = 500;
+
+        CatalogSearchResult result = catalogService.searchFromPortal(request("기상"));
+
+        assertThat(result.source()).isEqualTo(CatalogSearchResult.Source.PORTAL);
+        verify(searchEngine).search(any());
+        verify(catalogSyncWriter, never()).writePage(any());
+    }
+
+    @Test
+    void returnsEmptyLocalResultOnceMaxBudgetIsSpent() {
+        when(searchEngine.search(any())).thenReturn(localPage(0));
+        properties.setSearchHedgeBudget(100);
+        properties.setSearchHedgeMaxBudget(300);
+        portalDelayMs = 1_500;
+
+        long start = System.nanoTime();
+        CatalogSearchResult result = catalogService.searchFromPortal(request("기상"));
+
+        assertThat(elapsedMs(start)).isBetween(250L, 1_000L);
+        assertThat(result.source()).isEqualTo(CatalogSearchResult.Source.LOCAL_HEDGED);
+        verify(catalogSyncWriter, timeout(3_000)).writePage(portalItems);
+    }
+
+    /**
+     * 헤지 없이 포털 검색을 동시에 10번 실행해 응답 시간 표본을 채운다
+     */
+    private void recordPortalSamples(long delayMs) throws Exception {
+        properties.setSearchHedgeEnabled(false);
+        portalDelayMs = delayMs;
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Callable<CatalogSearchResult>> calls = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                CatalogSearchRequest request = request("sample" + i);
+                calls.add(() -> catalogService.searchFromPortal(request));
+            }
+            for (Future<CatalogSearchResult> call : executor.invokeAll(calls)) {
+                assertThat(call.get(10, TimeUnit.SECONDS).source()).isEqualTo(CatalogSearchResult.Source.PORTAL);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        properties.setSearchHedgeEnabled(true);
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static CatalogSearchRequest request(String keyword) {
+        CatalogSearchRequest request = new CatalogSearchRequest();
+        request.setKeyword(keyword);
+        return request;
+    }
+
+    private static CatalogSearchPage localPage(int count) {
+        List<CatalogResponse> content = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            content.add(CatalogResponse.builder().uddiSeq("local-" + i).apiName("로컬 " + i).build());
+        }
+        return new CatalogSearchPage(content, PageRequest.of(0, 12), count, CatalogFacets.EMPTY);
+    }
+
+    private static PortalApiResponse.ApiItem portalItem(String uddiSeq) {
+        PortalApiResponse.ApiItem item = new PortalApiResponse.ApiItem();
+        item.setUddiSeq(uddiSeq);
+        item.setOpenApiServiceName("포털 " + uddiSeq);
+        return item;
+    }
+
+    private static PortalApiResponse portalResponse(List<PortalApiResponse.ApiItem> items) {
+        PortalApiResponse.Items wrapper = new PortalApiResponse.Items();
+        wrapper.setItem(items);
+        PortalApiResponse.Body body = new PortalApiResponse.Body();
+        body.setItems(wrapper);
+        body.setTotalCount(items.size());
+        PortalApiResponse.Response inner = new PortalApiResponse.Response();
+        inner.setBody(body);
+        PortalApiResponse response = new PortalApiResponse();
+        response.setResponse(inner);
+        return response;
+    }
+}
@@ -0,0 +1,139 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.spring.lica.client.datagokr.dto.PortalApiResponse;
+import com.spring.lica.domain.catalog.entity.ApiCatalog;
+import com.spring.lica.domain.catalog.repository.ApiCatalogRepository;
+import com.spring.lica.domain.catalog.search.CatalogChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CatalogSyncWriter}의 JDBC 배치 쓰기가 JPA 저장과 같은 테이블·시퀀스를 공유해도 충돌하지 않는지 (H2)
+ */
+@DataJpaTest
+class CatalogSyncWriterTest {
+
+    @Autowired
+    private ApiCatalogRepository catalogRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final List<Object> events = new ArrayList<>();
+    private CatalogSyncWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new CatalogSyncWriter(jdbcTemplate, namedParameterJdbcTemplate, events::add);
+    }
+
+    @Test
+    void idsStayDistinctWhenWriterAndJpaInterleave() {
+        persistWithJpa("jpa-0");
+        assertThat(writer.writePage(items("sync-a-", 60)).created()).isEqualTo(60);
+        for (int i = 1; i <= 60; i++) persistWithJpa("jpa-" + i);
+        assertThat(writer.writePage(items("sync-b-", 30)).created()).isEqualTo(30);
+        persistWithJpa("jpa-61");
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM api_catalog", Long.class);
+        assertThat(ids).hasSize(152).doesNotHaveDuplicates();
+
+        entityManager.clear();
+        assertThat(catalogRepository.count()).isEqualTo(152);
+        assertThat(catalogRepository.findByUddiSeq("sync-b-29")).get()
+                .satisfies(catalog -> assertThat(catalog.getApiName()).isEqualTo("API sync-b-29"));
+    }
+
+    @Test
+    void updateKeepsStoredValuesWherePortalIsBlank() {
+        PortalApiResponse.ApiItem item = item("u1", "기상청_단기예보", "초단기실황", "기상청", "날씨");
+        item.setEndpointUrl("https://apis.data.go.kr/1360000/VilageFcstInfoService_2.0");
+        item.setLastModifyTime("2026-01-02");
+        writer.writePage(List.of(item));
+        jdbcTemplate.update("UPDATE api_catalog SET detail_fetched_at = ? WHERE uddi_seq = 'u1'", LocalDateTime.now());
+
+        // 포털이 이름만 바꾸고 나머지를 비워 보낸 경우
+        PortalApiResponse.ApiItem changed = item("u1", "기상청_단기예보 조회서비스", null, null, null);
+        CatalogSyncWriter.PageWriteResult result = writer.writePage(List.of(changed));
+
+        assertThat(result).isEqualTo(new CatalogSyncWriter.PageWriteResult(0, 1, 0));
+        entityManager.clear();
+        ApiCatalog stored = catalogRepository.findByUddiSeq("u1").orElseThrow();
+        assertThat(stored.getApiName()).isEqualTo("기상청_단기예보 조회서비스");
+        assertThat(stored.getDescription()).isEqualTo("초단기실황");
+        assertThat(stored.getProviderOrg()).isEqualTo("기상청");
+        assertThat(stored.getCategory()).isEqualTo("날씨");
+        assertThat(stored.getEndpointUrl()).isEqualTo("https://apis.data.go.kr/1360000/VilageFcstInfoService_2.0");
+        assertThat(stored.getPortalUpdatedAt()).isEqualTo(LocalDate.of(2026, 1, 2));
+        assertThat(stored.getContentHash()).isEqualTo(CatalogFingerprint.of(changed));
+        assertThat(stored.getDetailFetchedAt()).isNull();
+        assertThat(stored.getServiceType()).isEqualTo("REST");
+    }
+
+    @Test
+    void skipsUnchangedItemsAndPublishesOnlyChangedOnes() {
+        writer.writePage(List.of(item("u1", "이름1", "설명", "기관", "분류"), item("u2", "이름2", "설명", "기관", "분류")));
+        events.clear();
+
+        CatalogSyncWriter.PageWriteResult result = writer.writePage(List.of(
+                item("u1", "이름1", "설명", "기관", "분류"),
+                item("u2", "이름2-변경", "설명", "기관", "분류"),
+                item("u3", null, null, null, null)));
+
+        assertThat(result).isEqualTo(new CatalogSyncWriter.PageWriteResult(1, 1, 1));
+        assertThat(events).singleElement()
+                .isEqualTo(new CatalogChangedEvent(List.of("u3", "u2")));
+        assertThat(catalogRepository.findByUddiSeq("u3")).get()
+                .satisfies(catalog -> assertThat(catalog.getApiName()).isEqualTo("u3"));
+
+        events.clear();
+        assertThat(writer.writePage(List.of(item("u1", "이름1", "설명", "기관", "분류"))).allUnchanged()).isTrue();
+        assertThat(events).isEmpty();
+    }
+
+    private void persistWithJpa(String uddiSeq) {
+        entityManager.persist(ApiCatalog.builder()
+                .uddiSeq(uddiSeq)
+                .apiName("API " + uddiSeq)
+                .serviceType("REST")
+                .build());
+        entityManager.flush();
+    }
+
+    private static List<PortalApiResponse.ApiItem> items(String prefix, int count) {
+        List<PortalApiResponse.ApiItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(item(prefix + i, "API " + prefix + i, "설명", "기관", "분류"));
+        }
+        return items;
+    }
+
+    private static PortalApiResponse.ApiItem item(String uddiSeq, String name, String description, String org,
+                                                  String category) {
+        PortalApiResponse.ApiItem item = new PortalApiResponse.ApiItem();
+        item.setUddiSeq(uddiSeq);
+        item.setOpenApiServiceName(name);
+        item.setOpenApiServiceDescription(description);
+        item.setProviderOrgName(org);
+        item.setClassificationName(category);
+        return item;
+    }
+}
@@ -0,0 +1,230 @@
+package com.spring.lica.domain.catalog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.lica.domain.catalog.dto.CatalogResponse;
+import com.spring.lica.domain.catalog.dto.CatalogSearchRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PortalSearchCacheTest {
+
+    private static final String KEY = "기상||0|12";
+    private static final long TTL = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CatalogProperties properties;
+    private PortalSearchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CatalogProperties();
+        properties.setPortalCacheTtl(TTL);
+        properties.setPortalCacheStaleTtl(60_000);
+        cache = new PortalSearchCache(properties, objectMapper, noRedis());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void normalizesKey() {
+        CatalogSearchRequest request = new CatalogSearchRequest();
+        request.setKeyword("  기상청   단기예보 API ");
+        request.setCategory("날씨");
+        request.setPage(2);
+        request.setSize(20);
+
+        assertThat(PortalSearchCache.key(request)).isEqualTo("기상청 단기예보 api|날씨|2|20");
+    }
+
+    @Test
+    void servesFreshEntryFromMemoryWithoutRedis() {
+        CountingLoader loader = new CountingLoader(() -> entry(1, System.currentTimeMillis()));
+
+        PortalSearchCache.Entry first = cache.get(KEY, loader);
+        PortalSearchCache.Entry second = cache.get(KEY, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loader.calls()).isEqualTo(1);
+    }
+
+    @Test
+    void staleHitReturnsImmediatelyAndRefreshesOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<PortalSearchCache.Entry> loader = () -> {
+            if (calls.incrementAndGet() == 1) {
+                return entry(1, System.currentTimeMillis() - TTL - 1);
+            }
+            await(release);
+            return entry(2, System.currentTimeMillis());
+        };
+        PortalSearchCache.Entry stale = cache.get(KEY, loader);
+
+        // 재조회가 막혀 있어도 stale 항목을 바로 돌려주고, 재조회는 한 번만 시작된다
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.get(KEY, loader)).isSameAs(stale);
+        }
+        release.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.get(KEY, loader).totalCount() != 2) {
+            assertThat(System.nanoTime()).as("refresh finished").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void failedRefreshKeepsServingStaleEntry() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<PortalSearchCache.Entry> loader = () -> {
+            if (calls.incrementAndGet() == 1) {
+                return entry(1, System.currentTimeMillis() - TTL - 1);
+            }
+            throw new IllegalStateException("portal down");
+        };
+        PortalSearchCache.Entry stale = cache.get(KEY, loader);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        assertThat(cache.get(KEY, loader)).isSameAs(stale);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("catalog.portal.search.cache.refresh.failures").functionCounter().count() < 1) {
+            assertThat(System.nanoTime()).as("refresh attempted").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        assertThat(cache.get(KEY, loader)).isSameAs(stale);
+    }
+
+    @Test
+    void doesNotCacheLoaderFailures() {
+        assertThatThrownBy(() -> cache.get(KEY, () -> {
+            throw new IllegalStateException("portal down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        CountingLoader loader = new CountingLoader(() -> entry(1, System.currentTimeMillis()));
+        assertThat(cache.get(KEY, loader).totalCount()).isEqualTo(1);
+        assertThat(loader.calls()).isEqualTo(1);
+    }
+
+    @Test
+    void bypassesCacheWhenDisabled() {
+        properties.setPortalCacheEnabled(false);
+        CountingLoader loader = new CountingLoader(() -> entry(1, System.currentTimeMillis()));
+
+        cache.get(KEY, loader);
+        cache.get(KEY, loader);
+
+        assertThat(loader.calls()).isEqualTo(2);
+    }
+
+    @Test
+    void readsAndWritesRedisWhenAvailable() throws Exception {
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        when(redis.opsForValue()).thenReturn(values);
+        PortalSearchCache.Entry shared = entry(7, System.currentTimeMillis());
+        when(values.get("lica:portal-search:shared")).thenReturn(objectMapper.writeValueAsString(shared));
+        PortalSearchCache redisCache = new PortalSearchCache(properties, objectMapper, provider(redis));
+        try {
+            CountingLoader loader = new CountingLoader(() -> entry(1, System.currentTimeMillis()));
+
+            assertThat(redisCache.get("shared", loader).totalCount()).isEqualTo(7);
+            assertThat(loader.calls()).isZero();
+
+            redisCache.get("other", loader);
+            assertThat(loader.calls()).isEqualTo(1);
+            verify(values).set(eq("lica:portal-search:other"), anyString(), any(Duration.class));
+        } finally {
+            redisCache.shutdown();
+        }
+    }
+
+    @Test
+    void bindsRequestCountersAndHitRatio() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get("fresh", () -> entry(1, System.currentTimeMillis()));
+        cache.get("fresh", () -> entry(1, System.currentTimeMillis()));
+        cache.get("fresh", () -> entry(1, System.currentTimeMillis()));
+        cache.get("stale", () -> entry(1, System.currentTimeMillis() - TTL - 1));
+        cache.get("stale", () -> entry(1, System.currentTimeMillis()));
+
+        String name = "catalog.portal.search.cache.requests";
+        assertThat(registry.get(name).tag("result", "miss").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get(name).tag("result", "l1-hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get(name).tag("result", "stale-hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(name).tag("result", "l2-hit").functionCounter().count()).isZero();
+        assertThat(registry.get("catalog.portal.search.cache.hit.ratio").gauge().value()).isEqualTo(0.6);
+        assertThat(registry.find("cache.gets").tag("cache", "portalSearch").meters()).isNotEmpty();
+    }
+
+    private static PortalSearchCache.Entry entry(long totalCount, long fetchedAt) {
+        CatalogResponse item = CatalogResponse.builder().uddiSeq("u" + totalCount).apiName("API").build();
+        return new PortalSearchCache.Entry(List.of(item), totalCount, fetchedAt);
+    }
+
+    private static ObjectProvider<StringRedisTemplate> noRedis() {
+        return provider(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<StringRedisTemplate> provider(StringRedisTemplate redis) {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redis);
+        return provider;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class CountingLoader implements Supplier<PortalSearchCache.Entry> {
+        private final Supplier<PortalSearchCache.Entry> delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingLoader(Supplier<PortalSearchCache.Entry> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public PortalSearchCache.Entry get() {
+            calls.incrementAndGet();
+            return delegate.get();
+        }
+
+        int calls() {
+            return calls.get();
+        }
+    }
+}
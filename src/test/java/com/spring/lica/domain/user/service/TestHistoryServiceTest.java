@@ -0,0 +1,128 @@
+package com.spring.lica.domain.user.service;
+
+import com.spring.lica.common.pagination.CursorPage;
+import com.spring.lica.domain.user.dto.TestHistoryResponse;
+import com.spring.lica.domain.user.entity.TestHistory;
+import com.spring.lica.domain.user.entity.User;
+import com.spring.lica.domain.user.repository.TestHistoryRepository;
+import com.spring.lica.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link TestHistoryService#scrollHistory} 키셋 조회 (H2)
+ */
+@DataJpaTest
+class TestHistoryServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private TestHistoryRepository historyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestHistoryService historyService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        historyService = new TestHistoryService(historyRepository, userRepository, null, null);
+        user = entityManager.persist(User.builder()
+                .email("scroll@example.com")
+                .password("secret")
+                .nickname("scroll")
+                .build());
+    }
+
+    @Test
+    void followsCursorAcrossExecutedAtTies() {
+        // 같은 시각의 이력 5건을 페이지 크기 2로 나누면 동점 행이 페이지 경계에 걸친다
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) ids.add(save(user, BASE));
+        ids.add(save(user, BASE.minusMinutes(1)));
+        ids.add(save(user, BASE.plusMinutes(1)));
+        User other = entityManager.persist(User.builder()
+                .email("other@example.com")
+                .password("secret")
+                .nickname("other")
+                .build());
+        save(other, BASE);
+
+        List<Long> expected = List.of(ids.get(6), ids.get(4), ids.get(3), ids.get(2), ids.get(1), ids.get(0), ids.get(5));
+        assertThat(scrollAll(2)).containsExactlyElementsOf(expected);
+        assertThat(scrollAll(3)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void countsTotalOnlyWhenRequested() {
+        for (int i = 0; i < 3; i++) save(user, BASE.plusMinutes(i));
+
+        assertThat(historyService.scrollHistory(user.getEmail(), null, 2, true).totalCount()).isEqualTo(3L);
+        assertThat(historyService.scrollHistory(user.getEmail(), null, 2, false).totalCount()).isNull();
+    }
+
+    @Test
+    void clampsPageSizeToMaxSize() {
+        for (int i = 0; i < CursorPage.MAX_SIZE + 5; i++) save(user, BASE.plusSeconds(i));
+
+        CursorPage<TestHistoryResponse> page = historyService.scrollHistory(user.getEmail(), null, 10_000, false);
+
+        assertThat(page.content()).hasSize(CursorPage.MAX_SIZE);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(historyService.scrollHistory(user.getEmail(), page.nextCursor(), 10_000, false).content())
+                .hasSize(5);
+        assertThat(historyService.scrollHistory(user.getEmail(), null, 0, false).content()).hasSize(1);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> historyService.scrollHistory(user.getEmail(), "not-a-cursor", 10, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Long> scrollAll(int size) {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<TestHistoryResponse> page = historyService.scrollHistory(user.getEmail(), cursor, size, false);
+            assertThat(page.content()).hasSizeLessThanOrEqualTo(size);
+            page.content().forEach(history -> seen.add(history.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+
+    private Long save(User owner, LocalDateTime executedAt) {
+        TestHistory history = entityManager.persist(TestHistory.builder()
+                .user(owner)
+                .requestUrl("https://apis.data.go.kr/test")
+                .responseStatus(200)
+                .build());
+        entityManager.flush();
+        // @PrePersist가 현재 시각을 넣으므로 정렬 검증용 실행 시각은 직접 덮어쓴다
+        jdbcTemplate.update("UPDATE test_history SET executed_at = ? WHERE id = ?",
+                Timestamp.valueOf(executedAt), history.getId());
+        entityManager.clear();
+        return history.getId();
+    }
+}